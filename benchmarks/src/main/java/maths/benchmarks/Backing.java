@@ -0,0 +1,56 @@
+package maths.benchmarks;
+
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.ListMatrix;
+import maths.linear.matrices.Matrices;
+import maths.linear.matrices.Matrix;
+import maths.linear.matrices.SensitiveArrayMatrix;
+import maths.linear.matrices.SensitiveListMatrix;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.ListVector;
+import maths.linear.vectors.SensitiveArrayVector;
+import maths.linear.vectors.SensitiveListVector;
+import maths.linear.vectors.Vector;
+import maths.linear.vectors.Vectors;
+
+import java.util.Random;
+
+public enum Backing {
+
+    ARRAY,
+    LIST,
+    SENSITIVE_ARRAY,
+    SENSITIVE_LIST;
+
+    static double[][] randomArray(int height, int width, long seed) {
+        Random random = new Random(seed);
+        double[][] result = new double[height][width];
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                result[i][j] = random.nextDouble() - 0.5;
+            }
+            if (i < width) {
+                result[i][i] += width;
+            }
+        }
+        return result;
+    }
+
+    Matrix matrix(double[][] array) {
+        return switch (this) {
+            case ARRAY -> new ArrayMatrix(array);
+            case LIST -> new ListMatrix(array);
+            case SENSITIVE_ARRAY -> new SensitiveArrayMatrix(Matrices.asArray(new ArrayMatrix(array)));
+            case SENSITIVE_LIST -> new SensitiveListMatrix(Matrices.asList(new ArrayMatrix(array)));
+        };
+    }
+
+    Vector vector(double[] array) {
+        return switch (this) {
+            case ARRAY -> new ArrayVector(array);
+            case LIST -> new ListVector(array);
+            case SENSITIVE_ARRAY -> new SensitiveArrayVector(array.clone());
+            case SENSITIVE_LIST -> new SensitiveListVector(Vectors.asList(new ArrayVector(array)));
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package maths.benchmarks;
+
+import maths.discrete.Combinations;
+import maths.discrete.Permutations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class DiscreteBenchmark {
+
+    @Param({"6", "8", "10"})
+    public int n;
+
+    @Benchmark
+    public void permutations(Blackhole blackhole) {
+        for (int[] permutation : new Permutations(n)) {
+            blackhole.consume(permutation);
+        }
+    }
+
+    @Benchmark
+    public void combinations(Blackhole blackhole) {
+        for (int[] combination : new Combinations(n, n / 2)) {
+            blackhole.consume(combination);
+        }
+    }
+}
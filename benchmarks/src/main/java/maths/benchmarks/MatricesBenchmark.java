@@ -0,0 +1,61 @@
+package maths.benchmarks;
+
+import maths.linear.matrices.Matrices;
+import maths.linear.matrices.Matrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class MatricesBenchmark {
+
+    @Param({"16", "64", "256"})
+    public int size;
+
+    @Param({"ARRAY", "LIST", "SENSITIVE_ARRAY", "SENSITIVE_LIST"})
+    public Backing backing;
+
+    private Matrix a;
+    private Matrix b;
+
+    @Setup
+    public void setup() {
+        a = backing.matrix(Backing.randomArray(size, size, 1));
+        b = backing.matrix(Backing.randomArray(size, size, 2));
+    }
+
+    @Benchmark
+    public Matrix matrixXMatrix() {
+        return Matrices.matrixXMatrix(a, b);
+    }
+
+    @Benchmark
+    public double determinant() {
+        return Matrices.determinant(a);
+    }
+
+    @Benchmark
+    public Matrix inverseMatrix() {
+        return Matrices.inverseMatrix(a);
+    }
+
+    @Benchmark
+    public Matrix transpose() {
+        return Matrices.transpose(a);
+    }
+}
@@ -0,0 +1,67 @@
+package maths.benchmarks;
+
+import maths.linear.tensors.ListTensor;
+import maths.linear.tensors.SensitiveListTensor;
+import maths.linear.tensors.Tensor;
+import maths.linear.tensors.Tensors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class TensorsBenchmark {
+
+    @Param({"4", "8", "16"})
+    public int size;
+
+    @Param({"LIST", "SENSITIVE_LIST"})
+    public Backing backing;
+
+    private Tensor a;
+    private Tensor b;
+
+    private static List<Object> randomList(int size, int rank, Random random) {
+        List<Object> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            result.add(rank == 1 ? (Object) random.nextDouble() : randomList(size, rank - 1, random));
+        }
+        return result;
+    }
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1);
+        List<Object> aList = randomList(size, 2, random);
+        List<Object> bList = randomList(size, 2, random);
+        if (backing == Backing.SENSITIVE_LIST) {
+            a = new SensitiveListTensor(aList);
+            b = new SensitiveListTensor(bList);
+        } else {
+            a = new ListTensor(aList);
+            b = new ListTensor(bList);
+        }
+    }
+
+    @Benchmark
+    public Tensor tensorMultiply() {
+        return Tensors.tensorMultiply(a, b);
+    }
+}
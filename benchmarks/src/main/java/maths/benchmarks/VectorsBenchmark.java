@@ -0,0 +1,61 @@
+package maths.benchmarks;
+
+import maths.linear.vectors.Vector;
+import maths.linear.vectors.Vectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class VectorsBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    @Param({"ARRAY", "LIST", "SENSITIVE_ARRAY", "SENSITIVE_LIST"})
+    public Backing backing;
+
+    private Vector a;
+    private Vector b;
+
+    @Setup
+    public void setup() {
+        a = backing.vector(Backing.randomArray(1, size, 1)[0]);
+        b = backing.vector(Backing.randomArray(1, size, 2)[0]);
+    }
+
+    @Benchmark
+    public double scalarMultiply() {
+        return Vectors.scalarMultiply(a, b);
+    }
+
+    @Benchmark
+    public Vector add() {
+        return Vectors.add(a, b);
+    }
+
+    @Benchmark
+    public Vector vectorXScalar() {
+        return Vectors.vectorXScalar(a, 1.5);
+    }
+
+    @Benchmark
+    public double norm() {
+        return Vectors.norm(a);
+    }
+}
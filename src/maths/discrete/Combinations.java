@@ -2,11 +2,16 @@ package maths.discrete;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 public class Combinations implements Iterable<int[]> {
 
     private final int n;
     private final int k;
+    private final long count;
 
     public Combinations(int n, int k) {
         if (n < 0 || k < 0) {
@@ -16,6 +21,84 @@ public class Combinations implements Iterable<int[]> {
         }
         this.n = n;
         this.k = k;
+        this.count = IntFunctions.binomial(n, k);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    private void checkRank(long rank) {
+        if (rank < 0 || rank >= count) {
+            throw new IllegalArgumentException("rank = " + rank + " out of bounds for count = " + count);
+        }
+    }
+
+    private void checkRange(long from, long to) {
+        if (from < 0 || to > count || from > to) {
+            throw new IllegalArgumentException("incorrect range for count = " + count + ": from = " + from + ", to = " + to);
+        }
+    }
+
+    public int[] unrank(long rank) {
+        checkRank(rank);
+        int[] result = new int[k];
+        unrank(rank, result);
+        return result;
+    }
+
+    private void unrank(long rank, int[] dest) {
+        int value = 0;
+        for (int i = 0; i < k; i++) {
+            long skipped = IntFunctions.binomial(n - 1 - value, k - 1 - i);
+            while (rank >= skipped) {
+                rank -= skipped;
+                value++;
+                skipped = IntFunctions.binomial(n - 1 - value, k - 1 - i);
+            }
+            dest[i] = value++;
+        }
+    }
+
+    public long rank(int[] combination) {
+        Objects.requireNonNull(combination);
+        if (combination.length != k) {
+            throw new IllegalArgumentException("expected combination with length = " + k + ", but found " + combination.length);
+        }
+        for (int i = 0; i < k; i++) {
+            if (combination[i] < 0 || combination[i] >= n || (i > 0 && combination[i] <= combination[i - 1])) {
+                throw new IllegalArgumentException("combination must be strictly increasing with elements from 0 to "
+                        + (n - 1) + ", but found " + Arrays.toString(combination));
+            }
+        }
+        long result = 0;
+        for (int i = 0, value = 0; i < k; i++, value++) {
+            for (; value < combination[i]; value++) {
+                result += IntFunctions.binomial(n - 1 - value, k - 1 - i);
+            }
+        }
+        return result;
+    }
+
+    public Cursor cursor() {
+        return new Cursor(0, count);
+    }
+
+    public Cursor cursor(long from, long to) {
+        checkRange(from, to);
+        return new Cursor(from, to);
+    }
+
+    public void forEachInPlace(Consumer<int[]> action) {
+        forEachInPlace(0, count, action);
+    }
+
+    public void forEachInPlace(long from, long to, Consumer<int[]> action) {
+        Objects.requireNonNull(action);
+        Cursor cursor = cursor(from, to);
+        while (cursor.hasNext()) {
+            action.accept(cursor.next());
+        }
     }
 
     @Override
@@ -23,45 +106,128 @@ public class Combinations implements Iterable<int[]> {
         return new CustomIterator();
     }
 
-    private class CustomIterator implements Iterator<int[]> {
+    @Override
+    public Spliterator<int[]> spliterator() {
+        return new CustomSpliterator(0, count, true);
+    }
+
+    public Spliterator<int[]> inPlaceSpliterator() {
+        return new CustomSpliterator(0, count, false);
+    }
+
+    public final class Cursor {
 
         private final int[] current;
-        private int index;
-        private final int count;
+        private long rank;
+        private final long end;
+        private boolean initialized;
 
-        private CustomIterator() {
+        private Cursor(long from, long to) {
             current = new int[k];
-            for (int i = 0; i < k; i++) {
-                current[i] = i;
-            }
-            index = 0;
-            count = IntFunctions.factorial(n) / IntFunctions.factorial(k) / IntFunctions.factorial(n - k);
+            rank = from;
+            end = to;
         }
 
-        @Override
         public boolean hasNext() {
-            return index < count;
+            return rank < end;
+        }
+
+        public long rank() {
+            return rank;
         }
 
-        @Override
         public int[] next() {
-            int[] result = Arrays.copyOf(current, k);
-            index++;
-            if (index < count) {
-                int[] b = new int[k + 1];
-                System.arraycopy(current, 0, b, 0, k);
-                b[k] = n;
+            if (rank >= end) {
+                throw new NoSuchElementException();
+            }
+            if (!initialized) {
+                unrank(rank, current);
+                initialized = true;
+            } else {
                 int i = k - 1;
-                while (i >= 0 && b[i + 1] - b[i] < 2) {
+                while (current[i] == n - k + i) {
                     i--;
                 }
-                b[i]++;
+                current[i]++;
                 for (int j = i + 1; j < k; j++) {
-                    b[j] = b[j - 1] + 1;
+                    current[j] = current[j - 1] + 1;
                 }
-                System.arraycopy(b, 0, current, 0, k);
             }
-            return result;
+            rank++;
+            return current;
+        }
+    }
+
+    private class CustomIterator implements Iterator<int[]> {
+
+        private final Cursor cursor;
+
+        private CustomIterator() {
+            cursor = cursor();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor.hasNext();
+        }
+
+        @Override
+        public int[] next() {
+            return Arrays.copyOf(cursor.next(), k);
+        }
+    }
+
+    private class CustomSpliterator implements Spliterator<int[]> {
+
+        private Cursor cursor;
+        private final boolean copying;
+
+        private CustomSpliterator(long from, long to, boolean copying) {
+            this.cursor = new Cursor(from, to);
+            this.copying = copying;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super int[]> action) {
+            Objects.requireNonNull(action);
+            if (!cursor.hasNext()) {
+                return false;
+            }
+            int[] next = cursor.next();
+            action.accept(copying ? Arrays.copyOf(next, k) : next);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super int[]> action) {
+            Objects.requireNonNull(action);
+            while (cursor.hasNext()) {
+                int[] next = cursor.next();
+                action.accept(copying ? Arrays.copyOf(next, k) : next);
+            }
+        }
+
+        @Override
+        public Spliterator<int[]> trySplit() {
+            long from = cursor.rank;
+            long to = cursor.end;
+            if (cursor.initialized || to - from < 2) {
+                return null;
+            }
+            long middle = from + (to - from) / 2;
+            cursor = new Cursor(middle, to);
+            return new CustomSpliterator(from, middle, copying);
+        }
+
+        @Override
+        public long estimateSize() {
+            return cursor.end - cursor.rank;
+        }
+
+        @Override
+        public int characteristics() {
+            int result = ORDERED | SIZED | SUBSIZED | NONNULL;
+            return copying ? result | DISTINCT | IMMUTABLE : result;
         }
     }
 }
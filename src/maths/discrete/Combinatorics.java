@@ -15,7 +15,7 @@ public final class Combinatorics {
         throw new ArithmeticException(message);
     }
 
-    private static void checkPermutation(int[] permutation) {
+    static void checkPermutation(int[] permutation) {
         int[] temp = new int[permutation.length];
         for (int i = 0; i < temp.length; i++) {
             int elem = permutation[i];
@@ -30,6 +30,45 @@ public final class IntFunctions {
         return result;
     }
 
+    public static long longFactorial(int n) {
+        if (n < 0) {
+            iaeError("can not get factorial from negative integer: " + n);
+        }
+        long result = 1;
+        for (int i = 2; i <= n; i++) {
+            if (result > Long.MAX_VALUE / i) {
+                aeError("factorial from " + n + " overflows long");
+            }
+            result *= i;
+        }
+        return result;
+    }
+
+    public static long binomial(int n, int k) {
+        if (n < 0 || k < 0) {
+            iaeError("can not get binomial coefficient from negative integers: n = " + n + ", k = " + k);
+        } else if (k > n) {
+            return 0;
+        }
+        int m = Math.min(k, n - k);
+        long result = 1;
+        for (int i = 1; i <= m; i++) {
+            long divisor = i;
+            long common = result;
+            while (divisor != 0) {
+                long c = common % divisor;
+                common = divisor;
+                divisor = c;
+            }
+            long factor = (n - m + i) / (i / common);
+            result /= common;
+            if (result > Long.MAX_VALUE / factor) {
+                aeError("binomial coefficient C(" + n + ", " + k + ") overflows long");
+            }
+            result *= factor;
+        }
+        return result;
+    }
 
     public static int doubleFactorial(int n) {
         if (n < 0) {
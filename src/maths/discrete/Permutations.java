@@ -2,40 +2,223 @@ package maths.discrete;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 public class Permutations implements Iterable<int[]> {
 
+    public enum Order {
+        LEXICOGRAPHIC,
+        MINIMAL_CHANGE
+    }
+
     private final int size;
+    private final Order order;
+    private final long count;
 
     public Permutations(int size) {
+        this(size, Order.LEXICOGRAPHIC);
+    }
+
+    public Permutations(int size, Order order) {
         if (size < 0) {
             throw new IllegalArgumentException("size of permutations must be non negative, but found " + size);
         }
         this.size = size;
+        this.order = Objects.requireNonNull(order);
+        this.count = IntFunctions.longFactorial(size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Order order() {
+        return order;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    private void checkRank(long rank) {
+        if (rank < 0 || rank >= count) {
+            throw new IllegalArgumentException("rank = " + rank + " out of bounds for count = " + count);
+        }
+    }
+
+    private void checkRange(long from, long to) {
+        if (from < 0 || to > count || from > to) {
+            throw new IllegalArgumentException("incorrect range for count = " + count + ": from = " + from + ", to = " + to);
+        }
+    }
+
+    public int[] unrank(long rank) {
+        checkRank(rank);
+        int[] result = new int[size];
+        unrank(rank, result);
+        return result;
+    }
+
+    private void unrank(long rank, int[] dest) {
+        if (order == Order.LEXICOGRAPHIC) {
+            boolean[] used = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                long fact = IntFunctions.longFactorial(size - i - 1);
+                int skip = (int) (rank / fact);
+                rank %= fact;
+                int value = 0;
+                while (used[value] || skip > 0) {
+                    if (!used[value]) {
+                        skip--;
+                    }
+                    value++;
+                }
+                used[value] = true;
+                dest[i] = value;
+            }
+            return;
+        }
+        if (size == 0) {
+            return;
+        }
+        dest[0] = 0;
+        long previous = 0;
+        for (int j = 2; j <= size; j++) {
+            long current = rank / (count / IntFunctions.longFactorial(j));
+            int k = (int) (current - j * previous);
+            int position = previous % 2 == 0 ? j - k - 1 : k;
+            System.arraycopy(dest, position, dest, position + 1, j - 1 - position);
+            dest[position] = j - 1;
+            previous = current;
+        }
+    }
+
+    public long rank(int[] permutation) {
+        Objects.requireNonNull(permutation);
+        if (permutation.length != size) {
+            throw new IllegalArgumentException("expected permutation with length = " + size + ", but found " + permutation.length);
+        }
+        Combinatorics.checkPermutation(permutation);
+        long result = 0;
+        if (order == Order.LEXICOGRAPHIC) {
+            boolean[] used = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                int smaller = 0;
+                for (int value = 0; value < permutation[i]; value++) {
+                    if (!used[value]) {
+                        smaller++;
+                    }
+                }
+                used[permutation[i]] = true;
+                result += smaller * IntFunctions.longFactorial(size - i - 1);
+            }
+            return result;
+        }
+        for (int j = 2; j <= size; j++) {
+            int k = 1;
+            int i = 0;
+            while (permutation[i] != j - 1) {
+                if (permutation[i] < j - 1) {
+                    k++;
+                }
+                i++;
+            }
+            result = result % 2 == 0 ? j * result + j - k : j * result + k - 1;
+        }
+        return result;
+    }
+
+    public Cursor cursor() {
+        return new Cursor(0, count);
     }
 
+    public Cursor cursor(long from, long to) {
+        checkRange(from, to);
+        return new Cursor(from, to);
+    }
+
+    public void forEachInPlace(Consumer<int[]> action) {
+        forEachInPlace(0, count, action);
+    }
+
+    public void forEachInPlace(long from, long to, Consumer<int[]> action) {
+        Objects.requireNonNull(action);
+        Cursor cursor = cursor(from, to);
+        while (cursor.hasNext()) {
+            action.accept(cursor.next());
+        }
+    }
+
+    @Override
     public Iterator<int[]> iterator() {
         return new CustomIterator();
     }
 
-    private class CustomIterator implements Iterator<int[]> {
+    @Override
+    public Spliterator<int[]> spliterator() {
+        return new CustomSpliterator(0, count, true);
+    }
+
+    public Spliterator<int[]> inPlaceSpliterator() {
+        return new CustomSpliterator(0, count, false);
+    }
+
+    public final class Cursor {
 
         private final int[] current;
-        private int index;
-        private final int fact;
+        private final int[] counters;
+        private final boolean[] backwards;
+        private long rank;
+        private final long end;
+        private boolean initialized;
 
-        private CustomIterator() {
+        private Cursor(long from, long to) {
             current = new int[size];
-            for (int i = 0; i < size; i++) {
-                current[i] = i;
-            }
-            index = 0;
-            fact = IntFunctions.factorial(size);
+            counters = order == Order.MINIMAL_CHANGE ? new int[size + 1] : null;
+            backwards = order == Order.MINIMAL_CHANGE ? new boolean[size + 1] : null;
+            rank = from;
+            end = to;
         }
 
-        @Override
         public boolean hasNext() {
-            return index < fact;
+            return rank < end;
+        }
+
+        public long rank() {
+            return rank;
+        }
+
+        public int[] next() {
+            if (rank >= end) {
+                throw new NoSuchElementException();
+            }
+            if (!initialized) {
+                unrank(rank, current);
+                if (order == Order.MINIMAL_CHANGE) {
+                    initCounters();
+                }
+                initialized = true;
+            } else if (order == Order.LEXICOGRAPHIC) {
+                nextLexicographic();
+            } else {
+                nextMinimalChange();
+            }
+            rank++;
+            return current;
+        }
+
+        private void initCounters() {
+            long higher = rank;
+            for (int j = size; j >= 1; j--) {
+                int digit = (int) (higher % j);
+                higher /= j;
+                boolean reflected = higher % 2 != 0;
+                counters[j] = reflected ? j - 1 - digit : digit;
+                backwards[j] = reflected;
+            }
         }
 
         private void swap(int i, int j) {
@@ -44,27 +227,112 @@ public class Permutations implements Iterable<int[]> {
             current[j] = temp;
         }
 
-        @Override
-        public int[] next() {
-            int[] result = Arrays.copyOf(current, size);
-            index++;
-            if (index < fact) {
-                int last = size - 2;
-                while (current[last] > current[last + 1]) {
-                    last--;
+        private void nextLexicographic() {
+            int last = size - 2;
+            while (current[last] > current[last + 1]) {
+                last--;
+            }
+            int min = -1;
+            for (int i = size - 1; i > last; i--) {
+                if (current[i] > current[last] && (min == -1 || current[i] < current[min])) {
+                    min = i;
                 }
-                int min = -1;
-                for (int i = size - 1; i > last; i--) {
-                    if (current[i] > current[last] && (min == -1 || current[i] < current[min])) {
-                        min = i;
-                    }
+            }
+            swap(last, min);
+            for (int i = last + 1; i < last + 1 + (size - last - 1) / 2; i++) {
+                swap(i, size - i + last);
+            }
+        }
+
+        private void nextMinimalChange() {
+            int j = size;
+            int s = 0;
+            while (true) {
+                int q = counters[j] + (backwards[j] ? -1 : 1);
+                if (q >= 0 && q < j) {
+                    swap(j - counters[j] + s - 1, j - q + s - 1);
+                    counters[j] = q;
+                    return;
                 }
-                swap(last, min);
-                for (int i = last + 1; i < last + 1 + (size - last - 1) / 2; i++) {
-                    swap(i, size - i + last);
+                if (q == j) {
+                    s++;
                 }
+                backwards[j] = !backwards[j];
+                j--;
             }
-            return result;
+        }
+    }
+
+    private class CustomIterator implements Iterator<int[]> {
+
+        private final Cursor cursor;
+
+        private CustomIterator() {
+            cursor = cursor();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor.hasNext();
+        }
+
+        @Override
+        public int[] next() {
+            return Arrays.copyOf(cursor.next(), size);
+        }
+    }
+
+    private class CustomSpliterator implements Spliterator<int[]> {
+
+        private Cursor cursor;
+        private final boolean copying;
+
+        private CustomSpliterator(long from, long to, boolean copying) {
+            this.cursor = new Cursor(from, to);
+            this.copying = copying;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super int[]> action) {
+            Objects.requireNonNull(action);
+            if (!cursor.hasNext()) {
+                return false;
+            }
+            int[] next = cursor.next();
+            action.accept(copying ? Arrays.copyOf(next, size) : next);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super int[]> action) {
+            Objects.requireNonNull(action);
+            while (cursor.hasNext()) {
+                int[] next = cursor.next();
+                action.accept(copying ? Arrays.copyOf(next, size) : next);
+            }
+        }
+
+        @Override
+        public Spliterator<int[]> trySplit() {
+            long from = cursor.rank;
+            long to = cursor.end;
+            if (cursor.initialized || to - from < 2) {
+                return null;
+            }
+            long middle = from + (to - from) / 2;
+            cursor = new Cursor(middle, to);
+            return new CustomSpliterator(from, middle, copying);
+        }
+
+        @Override
+        public long estimateSize() {
+            return cursor.end - cursor.rank;
+        }
+
+        @Override
+        public int characteristics() {
+            int result = ORDERED | SIZED | SUBSIZED | NONNULL;
+            return copying ? result | DISTINCT | IMMUTABLE : result;
         }
     }
 }
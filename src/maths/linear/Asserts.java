@@ -65,6 +65,14 @@ public final class Asserts {
         }
     }
 
+    public static void checkBuffer(double[] buffer, int required) {
+        Objects.requireNonNull(buffer);
+        if (buffer.length < required) {
+            throw new IllegalArgumentException("buffer of length = " + buffer.length +
+                    " is too small: required length = " + required);
+        }
+    }
+
     private static void accError(String message) {
         throw new AccessException(message);
     }
@@ -0,0 +1,181 @@
+package maths.linear;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+
+public final class ExecutionPolicy {
+
+    @FunctionalInterface
+    public interface RangeAction {
+
+        void apply(int from, int to);
+    }
+
+    private enum Kind {
+        SEQUENTIAL,
+        FORK_JOIN,
+        VIRTUAL_THREADS
+    }
+
+    public static final long DEFAULT_THRESHOLD = 1 << 15;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final ExecutionPolicy SEQUENTIAL = new ExecutionPolicy(Kind.SEQUENTIAL, null, 1, DEFAULT_THRESHOLD);
+
+    private final Kind kind;
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final long threshold;
+
+    private ExecutionPolicy(Kind kind, ForkJoinPool pool, int parallelism, long threshold) {
+        this.kind = kind;
+        this.pool = pool;
+        this.parallelism = parallelism;
+        this.threshold = threshold;
+    }
+
+    private static void error(String message) {
+        throw new IllegalArgumentException(message);
+    }
+
+    public static ExecutionPolicy sequential() {
+        return SEQUENTIAL;
+    }
+
+    public static ExecutionPolicy commonPool() {
+        return pool(ForkJoinPool.commonPool());
+    }
+
+    public static ExecutionPolicy pool(ForkJoinPool pool) {
+        Objects.requireNonNull(pool);
+        return new ExecutionPolicy(Kind.FORK_JOIN, pool, pool.getParallelism(), DEFAULT_THRESHOLD);
+    }
+
+    public static ExecutionPolicy virtualThreads() {
+        return virtualThreads(Runtime.getRuntime().availableProcessors());
+    }
+
+    public static ExecutionPolicy virtualThreads(int parallelism) {
+        if (parallelism <= 0) {
+            error("parallelism must be positive, but found " + parallelism);
+        }
+        return new ExecutionPolicy(Kind.VIRTUAL_THREADS, null, parallelism, DEFAULT_THRESHOLD);
+    }
+
+    public ExecutionPolicy withThreshold(long threshold) {
+        if (threshold <= 0) {
+            error("threshold must be positive, but found " + threshold);
+        }
+        return new ExecutionPolicy(kind, pool, parallelism, threshold);
+    }
+
+    public boolean isSequential() {
+        return kind == Kind.SEQUENTIAL;
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    public long threshold() {
+        return threshold;
+    }
+
+    public void forEachRange(int size, long work, RangeAction action) {
+        Objects.requireNonNull(action);
+        if (size <= 0) {
+            return;
+        }
+        if (kind == Kind.SEQUENTIAL || parallelism < 2 || size < 2 || work < threshold) {
+            action.apply(0, size);
+            return;
+        }
+        int chunks = (int) Math.min(size, (long) parallelism * CHUNKS_PER_THREAD);
+        if (kind == Kind.FORK_JOIN) {
+            RangeTask task = new RangeTask(action, size, chunks, 0, chunks);
+            if (ForkJoinTask.getPool() == pool) {
+                task.invoke();
+            } else {
+                pool.invoke(task);
+            }
+            return;
+        }
+        runOnVirtualThreads(action, size, chunks);
+    }
+
+    private static int bound(int size, int chunks, int chunk) {
+        return (int) ((long) size * chunk / chunks);
+    }
+
+    private static void runOnVirtualThreads(RangeAction action, int size, int chunks) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(chunks - 1);
+            for (int chunk = 1; chunk < chunks; chunk++) {
+                int from = bound(size, chunks, chunk);
+                int to = bound(size, chunks, chunk + 1);
+                futures.add(executor.submit(() -> action.apply(from, to)));
+            }
+            action.apply(0, bound(size, chunks, 1));
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for parallel execution", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutionPolicy{" + kind.name().toLowerCase() + ", parallelism = " + parallelism +
+                ", threshold = " + threshold + "}";
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient RangeAction action;
+        private final int size;
+        private final int chunks;
+        private final int low;
+        private final int high;
+
+        private RangeTask(RangeAction action, int size, int chunks, int low, int high) {
+            this.action = action;
+            this.size = size;
+            this.chunks = chunks;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low == 1) {
+                action.apply(bound(size, chunks, low), bound(size, chunks, high));
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            invokeAll(new RangeTask(action, size, chunks, low, middle),
+                    new RangeTask(action, size, chunks, middle, high));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package maths.linear;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class OffHeapArena implements AutoCloseable {
+
+    public static final int ALIGNMENT = 64;
+
+    private static final OffHeapArena GLOBAL = new OffHeapArena(null, false);
+
+    private final Thread owner;
+    private final boolean closeable;
+    private final List<Runnable> closeActions = new ArrayList<>();
+    private volatile boolean alive;
+
+    private OffHeapArena(Thread owner, boolean closeable) {
+        this.owner = owner;
+        this.closeable = closeable;
+        this.alive = true;
+    }
+
+    private static void error(String message) {
+        throw new IllegalArgumentException(message);
+    }
+
+    public static OffHeapArena ofConfined() {
+        return new OffHeapArena(Thread.currentThread(), true);
+    }
+
+    public static OffHeapArena ofShared() {
+        return new OffHeapArena(null, true);
+    }
+
+    public static OffHeapArena global() {
+        return GLOBAL;
+    }
+
+    public boolean isAlive() {
+        return alive;
+    }
+
+    public boolean isConfined() {
+        return owner != null;
+    }
+
+    public void checkAccess() {
+        if (owner != null && owner != Thread.currentThread()) {
+            throw new WrongThreadException("arena is confined to thread " + owner.getName());
+        } else if (!alive) {
+            throw new IllegalStateException("arena is already closed");
+        }
+    }
+
+    public DoubleBuffer allocate(int count) {
+        checkAccess();
+        if (count <= 0 || count > (Integer.MAX_VALUE - 2 * ALIGNMENT) / Double.BYTES) {
+            error("can not allocate off-heap buffer for count = " + count);
+        }
+        int bytes = (count * Double.BYTES + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+        return ByteBuffer.allocateDirect(bytes + ALIGNMENT - 1)
+                .alignedSlice(ALIGNMENT)
+                .order(ByteOrder.nativeOrder())
+                .asDoubleBuffer()
+                .limit(count)
+                .slice();
+    }
+
+    public void onClose(Runnable action) {
+        checkAccess();
+        if (!closeable) {
+            return;
+        }
+        synchronized (closeActions) {
+            closeActions.add(action);
+        }
+    }
+
+    public static DoubleBuffer wrap(ByteBuffer buffer) {
+        if (!buffer.isDirect()) {
+            error("can not wrap heap byte buffer as off-heap storage");
+        } else if (buffer.remaining() % Double.BYTES != 0) {
+            error("can not wrap byte buffer with remaining = " + buffer.remaining() + " bytes as doubles");
+        }
+        return buffer.slice().order(buffer.order()).asDoubleBuffer();
+    }
+
+    @Override
+    public void close() {
+        if (!closeable) {
+            throw new UnsupportedOperationException("global arena can not be closed");
+        }
+        checkAccess();
+        alive = false;
+        synchronized (closeActions) {
+            closeActions.forEach(Runnable::run);
+            closeActions.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapArena{" + (owner != null ? "confined" : "shared") + ", alive = " + alive + "}";
+    }
+}
@@ -0,0 +1,63 @@
+package maths.linear;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class ScratchPool {
+
+    private static final int MAX_BUCKET = 30;
+    private static final int MAX_PER_BUCKET = 4;
+
+    private static final ThreadLocal<Buckets> BUCKETS = ThreadLocal.withInitial(Buckets::new);
+
+    private ScratchPool() {}
+
+    private static int bucket(int length) {
+        return length <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(length - 1);
+    }
+
+    public static double[] acquire(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length of scratch buffer must be non negative, but found " + length);
+        }
+        int bucket = bucket(length);
+        if (bucket > MAX_BUCKET) {
+            return new double[length];
+        }
+        Buckets buckets = BUCKETS.get();
+        int count = buckets.counts[bucket];
+        if (count == 0) {
+            return new double[1 << bucket];
+        }
+        double[] result = buckets.arrays[bucket][count - 1];
+        buckets.arrays[bucket][count - 1] = null;
+        buckets.counts[bucket] = count - 1;
+        return result;
+    }
+
+    public static double[] acquireZeroed(int length) {
+        double[] result = acquire(length);
+        Arrays.fill(result, 0, length, 0);
+        return result;
+    }
+
+    public static void release(double[] array) {
+        Objects.requireNonNull(array);
+        int bucket = bucket(array.length);
+        if (bucket > MAX_BUCKET || array.length != 1 << bucket) {
+            return;
+        }
+        Buckets buckets = BUCKETS.get();
+        int count = buckets.counts[bucket];
+        if (count < MAX_PER_BUCKET) {
+            buckets.arrays[bucket][count] = array;
+            buckets.counts[bucket] = count + 1;
+        }
+    }
+
+    private static final class Buckets {
+
+        private final double[][][] arrays = new double[MAX_BUCKET + 1][MAX_PER_BUCKET][];
+        private final int[] counts = new int[MAX_BUCKET + 1];
+    }
+}
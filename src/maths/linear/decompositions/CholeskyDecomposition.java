@@ -0,0 +1,272 @@
+package maths.linear.decompositions;
+
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.Matrix;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+
+import java.util.Objects;
+
+public class CholeskyDecomposition {
+
+    private static final int BLOCK = 64;
+    private static final int TILE = 256;
+    private static final double SYMMETRY_TOLERANCE = 1e-12;
+
+    private final int n;
+    private final double[] l;
+    private final boolean positiveDefinite;
+
+    public CholeskyDecomposition(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        checkSymmetric(matrix);
+        n = matrix.height();
+        l = new double[n * n];
+        matrix.copyTo(l);
+        positiveDefinite = factor();
+    }
+
+    static void checkSymmetric(Matrix matrix) {
+        if (matrix.height() != matrix.width()) {
+            throw new IllegalArgumentException("can not decompose non square matrix with sizes: " +
+                    "(" + matrix.height() + ", " + matrix.width() + ")");
+        }
+        for (int i = 0; i < matrix.height(); i++) {
+            for (int j = 0; j < i; j++) {
+                double a = matrix.getUnsafe(i, j);
+                double b = matrix.getUnsafe(j, i);
+                if (Math.abs(a - b) > SYMMETRY_TOLERANCE * (Math.abs(a) + Math.abs(b))) {
+                    throw new IllegalArgumentException("can not decompose non symmetric matrix: elements at (" +
+                            i + ", " + j + ") and (" + j + ", " + i + ") are " + a + " and " + b);
+                }
+            }
+        }
+    }
+
+    public static boolean mayBePositiveDefinite(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        int n = matrix.height();
+        if (n != matrix.width()) {
+            return false;
+        }
+        double[] roots = new double[n];
+        for (int i = 0; i < n; i++) {
+            double diagonal = matrix.getUnsafe(i, i);
+            if (!(diagonal > 0)) {
+                return false;
+            }
+            roots[i] = Math.sqrt(diagonal);
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                double value = matrix.getUnsafe(i, j);
+                if (value != matrix.getUnsafe(j, i) || !(Math.abs(value) < roots[i] * roots[j])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSymmetricPositiveDefinite(Matrix matrix) {
+        return mayBePositiveDefinite(matrix) && new CholeskyDecomposition(matrix).isPositiveDefinite();
+    }
+
+    private boolean factor() {
+        double[] panel = new double[BLOCK * n];
+        for (int k0 = 0; k0 < n; k0 += BLOCK) {
+            int k1 = Math.min(n, k0 + BLOCK);
+            for (int j = k0; j < k1; j++) {
+                double d = l[j * n + j] - dot(j, j, k0, j);
+                if (!(d > 0)) {
+                    return false;
+                }
+                l[j * n + j] = Math.sqrt(d);
+                for (int i = j + 1; i < k1; i++) {
+                    l[i * n + j] = (l[i * n + j] - dot(i, j, k0, j)) / l[j * n + j];
+                }
+            }
+            for (int i = k1; i < n; i++) {
+                for (int j = k0; j < k1; j++) {
+                    l[i * n + j] = (l[i * n + j] - dot(i, j, k0, j)) / l[j * n + j];
+                }
+            }
+            int width = n - k1;
+            for (int p = k0; p < k1; p++) {
+                for (int j = k1; j < n; j++) {
+                    panel[(p - k0) * width + (j - k1)] = l[j * n + p];
+                }
+            }
+            for (int j0 = k1; j0 < n; j0 += TILE) {
+                int j1 = Math.min(n, j0 + TILE);
+                for (int i = j0; i < n; i++) {
+                    int row = i * n;
+                    int to = Math.min(j1, i + 1);
+                    int p = k0;
+                    for (; p + 4 <= k1; p += 4) {
+                        double c0 = l[row + p];
+                        double c1 = l[row + p + 1];
+                        double c2 = l[row + p + 2];
+                        double c3 = l[row + p + 3];
+                        int q0 = (p - k0) * width + j0 - k1;
+                        int q1 = q0 + width;
+                        int q2 = q1 + width;
+                        int q3 = q2 + width;
+                        for (int j = j0; j < to; j++, q0++, q1++, q2++, q3++) {
+                            l[row + j] -= c0 * panel[q0] + c1 * panel[q1] + c2 * panel[q2] + c3 * panel[q3];
+                        }
+                    }
+                    for (; p < k1; p++) {
+                        double c = l[row + p];
+                        for (int j = j0, q = (p - k0) * width + j0 - k1; j < to; j++, q++) {
+                            l[row + j] -= c * panel[q];
+                        }
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                l[i * n + j] = 0;
+            }
+        }
+        return true;
+    }
+
+    private double dot(int i, int j, int from, int to) {
+        double sum = 0;
+        for (int p = from; p < to; p++) {
+            sum += l[i * n + p] * l[j * n + p];
+        }
+        return sum;
+    }
+
+    private void requirePositiveDefinite() {
+        if (!positiveDefinite) {
+            throw new ArithmeticException("matrix is not positive definite");
+        }
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public boolean isPositiveDefinite() {
+        return positiveDefinite;
+    }
+
+    public Matrix getL() {
+        requirePositiveDefinite();
+        Matrix result = new ArrayMatrix(n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++) {
+                result.setUnsafe(i, j, l[i * n + j]);
+            }
+        }
+        return result;
+    }
+
+    public double determinant() {
+        requirePositiveDefinite();
+        double result = 1;
+        for (int i = 0; i < n; i++) {
+            result *= l[i * n + i] * l[i * n + i];
+        }
+        return result;
+    }
+
+    public double logDeterminant() {
+        requirePositiveDefinite();
+        double result = 0;
+        for (int i = 0; i < n; i++) {
+            result += Math.log(l[i * n + i]);
+        }
+        return 2 * result;
+    }
+
+    public Vector solve(Vector vector) {
+        Objects.requireNonNull(vector);
+        if (vector.size() != n) {
+            throw new IllegalArgumentException("incongruous matrix.height and vector.size: " +
+                    "expected vector.size = " + n + ", but found " + vector.size());
+        }
+        requirePositiveDefinite();
+        double[] x = new double[n];
+        vector.copyTo(x);
+        for (int i = 0; i < n; i++) {
+            double sum = x[i];
+            for (int j = 0, ij = i * n; j < i; j++, ij++) {
+                sum -= l[ij] * x[j];
+            }
+            x[i] = sum / l[i * n + i];
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            x[i] /= l[i * n + i];
+            double value = x[i];
+            for (int j = 0, ij = i * n; j < i; j++, ij++) {
+                x[j] -= l[ij] * value;
+            }
+        }
+        return new ArrayVector(x);
+    }
+
+    public Matrix solve(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        if (matrix.height() != n) {
+            throw new IllegalArgumentException("incongruous sizes of matrices: for decomposition.size = "
+                    + n + " expected argument.height = " + n + " but found " + matrix.height());
+        }
+        requirePositiveDefinite();
+        int m = matrix.width();
+        double[] x = new double[n * m];
+        matrix.copyTo(x);
+        return solveInPlace(x, m);
+    }
+
+    public Matrix inverse() {
+        requirePositiveDefinite();
+        double[] x = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            x[i * n + i] = 1;
+        }
+        return solveInPlace(x, n);
+    }
+
+    private Matrix solveInPlace(double[] x, int m) {
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                double value = l[i * n + j];
+                if (value != 0) {
+                    axpy(x, m, -value, j, i);
+                }
+            }
+            scale(x, m, i, 1 / l[i * n + i]);
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            scale(x, m, i, 1 / l[i * n + i]);
+            for (int j = 0; j < i; j++) {
+                double value = l[i * n + j];
+                if (value != 0) {
+                    axpy(x, m, -value, i, j);
+                }
+            }
+        }
+        double[][] result = new double[n][m];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(x, i * m, result[i], 0, m);
+        }
+        return new ArrayMatrix(result);
+    }
+
+    private static void scale(double[] x, int width, int row, double scalar) {
+        for (int j = row * width; j < (row + 1) * width; j++) {
+            x[j] *= scalar;
+        }
+    }
+
+    private static void axpy(double[] x, int width, double scalar, int from, int to) {
+        for (int j = 0, f = from * width, t = to * width; j < width; j++, f++, t++) {
+            x[t] += scalar * x[f];
+        }
+    }
+}
@@ -0,0 +1,527 @@
+package maths.linear.decompositions;
+
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.Matrix;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class EigenDecomposition {
+
+    private static final int MAX_ITERATIONS = 30;
+    private static final double EPS = Math.ulp(1.0);
+
+    private final int n;
+    private final double[] real;
+    private final double[] imaginary;
+    private final double[][] h;
+    private final double[][] v;
+
+    public EigenDecomposition(Matrix matrix) {
+        this(matrix, true);
+    }
+
+    public EigenDecomposition(Matrix matrix, boolean computeVectors) {
+        Objects.requireNonNull(matrix);
+        if (matrix.height() != matrix.width()) {
+            throw new IllegalArgumentException("can not decompose non square matrix with sizes: " +
+                    "(" + matrix.height() + ", " + matrix.width() + ")");
+        }
+        n = matrix.height();
+        h = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            matrix.getRow(i, h[i]);
+        }
+        real = new double[n];
+        imaginary = new double[n];
+        v = computeVectors ? new double[n][n] : null;
+        hessenberg();
+        schur();
+        if (computeVectors) {
+            backSubstitute();
+        }
+    }
+
+    private void hessenberg() {
+        double[][] reflectors = new double[Math.max(0, n - 2)][];
+        double[] tau = new double[Math.max(0, n - 2)];
+        double[] w = new double[n];
+        for (int k = 0; k < n - 2; k++) {
+            int s = k + 1;
+            double alpha = h[s][k];
+            double norm = 0;
+            for (int i = s + 1; i < n; i++) {
+                norm += h[i][k] * h[i][k];
+            }
+            if (norm == 0) {
+                continue;
+            }
+            double beta = -Math.copySign(Math.hypot(alpha, Math.sqrt(norm)), alpha);
+            double t = (beta - alpha) / beta;
+            double scale = 1 / (alpha - beta);
+            double[] u = new double[n - s];
+            u[0] = 1;
+            for (int i = s + 1; i < n; i++) {
+                u[i - s] = h[i][k] * scale;
+                h[i][k] = 0;
+            }
+            h[s][k] = beta;
+            reflectors[k] = u;
+            tau[k] = t;
+            Arrays.fill(w, 0);
+            for (int i = s; i < n; i++) {
+                double ui = u[i - s];
+                double[] row = h[i];
+                for (int j = s; j < n; j++) {
+                    w[j] += ui * row[j];
+                }
+            }
+            for (int i = s; i < n; i++) {
+                double ui = t * u[i - s];
+                double[] row = h[i];
+                for (int j = s; j < n; j++) {
+                    row[j] -= ui * w[j];
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                double[] row = h[i];
+                double dot = 0;
+                for (int j = s; j < n; j++) {
+                    dot += row[j] * u[j - s];
+                }
+                dot *= t;
+                for (int j = s; j < n; j++) {
+                    row[j] -= dot * u[j - s];
+                }
+            }
+        }
+        if (v == null) {
+            return;
+        }
+        for (int i = 0; i < n; i++) {
+            v[i][i] = 1;
+        }
+        for (int k = n - 3; k >= 0; k--) {
+            double[] u = reflectors[k];
+            if (u == null) {
+                continue;
+            }
+            int s = k + 1;
+            Arrays.fill(w, 0);
+            for (int i = s; i < n; i++) {
+                double ui = u[i - s];
+                double[] row = v[i];
+                for (int j = s; j < n; j++) {
+                    w[j] += ui * row[j];
+                }
+            }
+            for (int i = s; i < n; i++) {
+                double ui = tau[k] * u[i - s];
+                double[] row = v[i];
+                for (int j = s; j < n; j++) {
+                    row[j] -= ui * w[j];
+                }
+            }
+        }
+    }
+
+    private double norm() {
+        double result = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(i - 1, 0); j < n; j++) {
+                result += Math.abs(h[i][j]);
+            }
+        }
+        return result;
+    }
+
+    private void schur() {
+        boolean vectors = v != null;
+        double norm = norm();
+        double shift = 0;
+        double p = 0;
+        double q = 0;
+        double r = 0;
+        double s;
+        double w;
+        double x;
+        double y;
+        double z;
+        int iterations = 0;
+        int total = 0;
+        int last = n - 1;
+        while (last >= 0) {
+            int l = last;
+            while (l > 0) {
+                s = Math.abs(h[l - 1][l - 1]) + Math.abs(h[l][l]);
+                if (s == 0) {
+                    s = norm;
+                }
+                if (Math.abs(h[l][l - 1]) <= EPS * s) {
+                    break;
+                }
+                l--;
+            }
+            if (l == last) {
+                h[last][last] += shift;
+                real[last] = h[last][last];
+                imaginary[last] = 0;
+                last--;
+                iterations = 0;
+            } else if (l == last - 1) {
+                w = h[last][last - 1] * h[last - 1][last];
+                p = (h[last - 1][last - 1] - h[last][last]) / 2;
+                q = p * p + w;
+                z = Math.sqrt(Math.abs(q));
+                h[last][last] += shift;
+                h[last - 1][last - 1] += shift;
+                x = h[last][last];
+                if (q >= 0) {
+                    z = p >= 0 ? p + z : p - z;
+                    real[last - 1] = x + z;
+                    real[last] = z != 0 ? x - w / z : real[last - 1];
+                    imaginary[last - 1] = 0;
+                    imaginary[last] = 0;
+                    if (vectors) {
+                        x = h[last][last - 1];
+                        s = Math.abs(x) + Math.abs(z);
+                        p = x / s;
+                        q = z / s;
+                        r = Math.sqrt(p * p + q * q);
+                        p /= r;
+                        q /= r;
+                        for (int j = last - 1; j < n; j++) {
+                            z = h[last - 1][j];
+                            h[last - 1][j] = q * z + p * h[last][j];
+                            h[last][j] = q * h[last][j] - p * z;
+                        }
+                        for (int i = 0; i <= last; i++) {
+                            z = h[i][last - 1];
+                            h[i][last - 1] = q * z + p * h[i][last];
+                            h[i][last] = q * h[i][last] - p * z;
+                        }
+                        for (int i = 0; i < n; i++) {
+                            z = v[i][last - 1];
+                            v[i][last - 1] = q * z + p * v[i][last];
+                            v[i][last] = q * v[i][last] - p * z;
+                        }
+                    }
+                } else {
+                    real[last - 1] = x + p;
+                    real[last] = x + p;
+                    imaginary[last - 1] = z;
+                    imaginary[last] = -z;
+                }
+                last -= 2;
+                iterations = 0;
+            } else {
+                if (++total > MAX_ITERATIONS * n) {
+                    throw new ArithmeticException("eigenvalue iteration did not converge");
+                }
+                x = h[last][last];
+                y = h[last - 1][last - 1];
+                w = h[last][last - 1] * h[last - 1][last];
+                if (iterations == 10) {
+                    shift += x;
+                    for (int i = 0; i <= last; i++) {
+                        h[i][i] -= x;
+                    }
+                    s = Math.abs(h[last][last - 1]) + Math.abs(h[last - 1][last - 2]);
+                    x = 0.75 * s;
+                    y = x;
+                    w = -0.4375 * s * s;
+                }
+                if (iterations == 30) {
+                    s = (y - x) / 2;
+                    s = s * s + w;
+                    if (s > 0) {
+                        s = Math.sqrt(s);
+                        if (y < x) {
+                            s = -s;
+                        }
+                        s = x - w / ((y - x) / 2 + s);
+                        for (int i = 0; i <= last; i++) {
+                            h[i][i] -= s;
+                        }
+                        shift += s;
+                        x = 0.964;
+                        y = x;
+                        w = x;
+                    }
+                }
+                iterations++;
+                int m = last - 2;
+                while (m >= l) {
+                    z = h[m][m];
+                    r = x - z;
+                    s = y - z;
+                    p = (r * s - w) / h[m + 1][m] + h[m][m + 1];
+                    q = h[m + 1][m + 1] - z - r - s;
+                    r = h[m + 2][m + 1];
+                    s = Math.abs(p) + Math.abs(q) + Math.abs(r);
+                    p /= s;
+                    q /= s;
+                    r /= s;
+                    if (m == l || Math.abs(h[m][m - 1]) * (Math.abs(q) + Math.abs(r)) < EPS * (Math.abs(p) *
+                            (Math.abs(h[m - 1][m - 1]) + Math.abs(z) + Math.abs(h[m + 1][m + 1])))) {
+                        break;
+                    }
+                    m--;
+                }
+                for (int i = m + 2; i <= last; i++) {
+                    h[i][i - 2] = 0;
+                    if (i > m + 2) {
+                        h[i][i - 3] = 0;
+                    }
+                }
+                for (int k = m; k <= last - 1; k++) {
+                    boolean notLast = k != last - 1;
+                    if (k != m) {
+                        p = h[k][k - 1];
+                        q = h[k + 1][k - 1];
+                        r = notLast ? h[k + 2][k - 1] : 0;
+                        x = Math.abs(p) + Math.abs(q) + Math.abs(r);
+                        if (x == 0) {
+                            continue;
+                        }
+                        p /= x;
+                        q /= x;
+                        r /= x;
+                    }
+                    s = Math.sqrt(p * p + q * q + r * r);
+                    if (p < 0) {
+                        s = -s;
+                    }
+                    if (s == 0) {
+                        continue;
+                    }
+                    if (k != m) {
+                        h[k][k - 1] = -s * x;
+                    } else if (l != m) {
+                        h[k][k - 1] = -h[k][k - 1];
+                    }
+                    p += s;
+                    x = p / s;
+                    y = q / s;
+                    z = r / s;
+                    q /= p;
+                    r /= p;
+                    for (int j = k, end = vectors ? n : last + 1; j < end; j++) {
+                        p = h[k][j] + q * h[k + 1][j];
+                        if (notLast) {
+                            p += r * h[k + 2][j];
+                            h[k + 2][j] -= p * z;
+                        }
+                        h[k][j] -= p * x;
+                        h[k + 1][j] -= p * y;
+                    }
+                    for (int i = vectors ? 0 : l, end = Math.min(last, k + 3); i <= end; i++) {
+                        p = x * h[i][k] + y * h[i][k + 1];
+                        if (notLast) {
+                            p += z * h[i][k + 2];
+                            h[i][k + 2] -= p * r;
+                        }
+                        h[i][k] -= p;
+                        h[i][k + 1] -= p * q;
+                    }
+                    if (vectors) {
+                        for (int i = 0; i < n; i++) {
+                            p = x * v[i][k] + y * v[i][k + 1];
+                            if (notLast) {
+                                p += z * v[i][k + 2];
+                                v[i][k + 2] -= p * r;
+                            }
+                            v[i][k] -= p;
+                            v[i][k + 1] -= p * q;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void divide(double[] row, int column, double xr, double xi, double yr, double yi) {
+        double ratio;
+        double denominator;
+        if (Math.abs(yr) > Math.abs(yi)) {
+            ratio = yi / yr;
+            denominator = yr + ratio * yi;
+            row[column - 1] = (xr + ratio * xi) / denominator;
+            row[column] = (xi - ratio * xr) / denominator;
+        } else {
+            ratio = yr / yi;
+            denominator = yi + ratio * yr;
+            row[column - 1] = (ratio * xr + xi) / denominator;
+            row[column] = (ratio * xi - xr) / denominator;
+        }
+    }
+
+    private void backSubstitute() {
+        double norm = norm();
+        if (norm == 0) {
+            return;
+        }
+        double r = 0;
+        double s = 0;
+        double z = 0;
+        double t;
+        double w;
+        double x;
+        double y;
+        for (int c = n - 1; c >= 0; c--) {
+            double p = real[c];
+            double q = imaginary[c];
+            if (q == 0) {
+                int l = c;
+                h[c][c] = 1;
+                for (int i = c - 1; i >= 0; i--) {
+                    w = h[i][i] - p;
+                    r = 0;
+                    for (int j = l; j <= c; j++) {
+                        r += h[i][j] * h[j][c];
+                    }
+                    if (imaginary[i] < 0) {
+                        z = w;
+                        s = r;
+                        continue;
+                    }
+                    l = i;
+                    if (imaginary[i] == 0) {
+                        h[i][c] = w != 0 ? -r / w : -r / (EPS * norm);
+                    } else {
+                        x = h[i][i + 1];
+                        y = h[i + 1][i];
+                        q = (real[i] - p) * (real[i] - p) + imaginary[i] * imaginary[i];
+                        t = (x * s - z * r) / q;
+                        h[i][c] = t;
+                        h[i + 1][c] = Math.abs(x) > Math.abs(z) ? (-r - w * t) / x : (-s - y * t) / z;
+                    }
+                    t = Math.abs(h[i][c]);
+                    if (EPS * t * t > 1) {
+                        for (int j = i; j <= c; j++) {
+                            h[j][c] /= t;
+                        }
+                    }
+                }
+            } else if (q < 0) {
+                int l = c - 1;
+                if (Math.abs(h[c][c - 1]) > Math.abs(h[c - 1][c])) {
+                    h[c - 1][c - 1] = q / h[c][c - 1];
+                    h[c - 1][c] = -(h[c][c] - p) / h[c][c - 1];
+                } else {
+                    divide(h[c - 1], c, 0, -h[c - 1][c], h[c - 1][c - 1] - p, q);
+                }
+                h[c][c - 1] = 0;
+                h[c][c] = 1;
+                for (int i = c - 2; i >= 0; i--) {
+                    double ra = 0;
+                    double sa = 0;
+                    for (int j = l; j <= c; j++) {
+                        ra += h[i][j] * h[j][c - 1];
+                        sa += h[i][j] * h[j][c];
+                    }
+                    w = h[i][i] - p;
+                    if (imaginary[i] < 0) {
+                        z = w;
+                        r = ra;
+                        s = sa;
+                        continue;
+                    }
+                    l = i;
+                    if (imaginary[i] == 0) {
+                        divide(h[i], c, -ra, -sa, w, q);
+                    } else {
+                        x = h[i][i + 1];
+                        y = h[i + 1][i];
+                        double vr = (real[i] - p) * (real[i] - p) + imaginary[i] * imaginary[i] - q * q;
+                        double vi = (real[i] - p) * 2 * q;
+                        if (vr == 0 && vi == 0) {
+                            vr = EPS * norm * (Math.abs(w) + Math.abs(q) + Math.abs(x) + Math.abs(y) + Math.abs(z));
+                        }
+                        divide(h[i], c, x * r - z * ra + q * sa, x * s - z * sa - q * ra, vr, vi);
+                        if (Math.abs(x) > Math.abs(z) + Math.abs(q)) {
+                            h[i + 1][c - 1] = (-ra - w * h[i][c - 1] + q * h[i][c]) / x;
+                            h[i + 1][c] = (-sa - w * h[i][c] - q * h[i][c - 1]) / x;
+                        } else {
+                            divide(h[i + 1], c, -r - y * h[i][c - 1], -s - y * h[i][c], z, q);
+                        }
+                    }
+                    t = Math.max(Math.abs(h[i][c - 1]), Math.abs(h[i][c]));
+                    if (EPS * t * t > 1) {
+                        for (int j = i; j <= c; j++) {
+                            h[j][c - 1] /= t;
+                            h[j][c] /= t;
+                        }
+                    }
+                }
+            }
+        }
+        double[] row = new double[n];
+        for (int i = 0; i < n; i++) {
+            double[] vi = v[i];
+            Arrays.fill(row, 0);
+            for (int k = 0; k < n; k++) {
+                double value = vi[k];
+                if (value == 0) {
+                    continue;
+                }
+                double[] hk = h[k];
+                for (int j = k; j < n; j++) {
+                    row[j] += value * hk[j];
+                }
+            }
+            System.arraycopy(row, 0, vi, 0, n);
+        }
+    }
+
+    private void requireVectors() {
+        if (v == null) {
+            throw new IllegalStateException("eigenvectors were not computed");
+        }
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public boolean hasEigenvectors() {
+        return v != null;
+    }
+
+    public boolean hasComplexEigenvalues() {
+        for (int i = 0; i < n; i++) {
+            if (imaginary[i] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Vector getRealEigenvalues() {
+        return new ArrayVector(real.clone());
+    }
+
+    public Vector getImaginaryEigenvalues() {
+        return new ArrayVector(imaginary.clone());
+    }
+
+    public Matrix getD() {
+        Matrix result = new ArrayMatrix(n, n);
+        for (int i = 0; i < n; i++) {
+            result.setUnsafe(i, i, real[i]);
+            if (imaginary[i] > 0) {
+                result.setUnsafe(i, i + 1, imaginary[i]);
+            } else if (imaginary[i] < 0) {
+                result.setUnsafe(i, i - 1, imaginary[i]);
+            }
+        }
+        return result;
+    }
+
+    public Matrix getV() {
+        requireVectors();
+        return new ArrayMatrix(v);
+    }
+}
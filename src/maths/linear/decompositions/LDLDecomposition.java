@@ -0,0 +1,356 @@
+package maths.linear.decompositions;
+
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.Matrix;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class LDLDecomposition {
+
+    private static final double ALPHA = (1 + Math.sqrt(17)) / 8;
+
+    private final int n;
+    private final double[] a;
+    private final int[] pivot;
+    private final boolean[] block;
+    private final boolean singular;
+
+    public LDLDecomposition(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        CholeskyDecomposition.checkSymmetric(matrix);
+        n = matrix.height();
+        a = new double[n * n];
+        matrix.copyTo(a);
+        pivot = new int[n];
+        for (int i = 0; i < n; i++) {
+            pivot[i] = i;
+        }
+        block = new boolean[n];
+        singular = factor();
+    }
+
+    private double get(int i, int j) {
+        return i >= j ? a[i * n + j] : a[j * n + i];
+    }
+
+    private boolean factor() {
+        boolean zeroPivot = false;
+        double[] c1 = new double[n];
+        double[] c2 = new double[n];
+        int k = 0;
+        while (k < n) {
+            double diagonal = Math.abs(a[k * n + k]);
+            int imax = k;
+            double columnMax = 0;
+            for (int i = k + 1; i < n; i++) {
+                double value = Math.abs(a[i * n + k]);
+                if (value > columnMax) {
+                    columnMax = value;
+                    imax = i;
+                }
+            }
+            int step = 1;
+            int p = k;
+            if (Math.max(diagonal, columnMax) == 0) {
+                zeroPivot = true;
+                k++;
+                continue;
+            }
+            if (diagonal < ALPHA * columnMax) {
+                double rowMax = 0;
+                for (int j = k; j < n; j++) {
+                    if (j != imax) {
+                        rowMax = Math.max(rowMax, Math.abs(get(imax, j)));
+                    }
+                }
+                if (diagonal * rowMax >= ALPHA * columnMax * columnMax) {
+                    p = k;
+                } else if (Math.abs(a[imax * n + imax]) >= ALPHA * rowMax) {
+                    p = imax;
+                } else {
+                    p = imax;
+                    step = 2;
+                }
+            }
+            int kk = k + step - 1;
+            if (p != kk) {
+                interchange(kk, p);
+            }
+            if (step == 1) {
+                double d = a[k * n + k];
+                for (int i = k + 1; i < n; i++) {
+                    c1[i] = a[i * n + k];
+                }
+                for (int i = k + 1; i < n; i++) {
+                    double l = c1[i] / d;
+                    if (l != 0) {
+                        for (int j = k + 1, row = i * n; j <= i; j++) {
+                            a[row + j] -= l * c1[j];
+                        }
+                    }
+                    a[i * n + k] = l;
+                }
+            } else {
+                double d11 = a[k * n + k];
+                double d21 = a[(k + 1) * n + k];
+                double d22 = a[(k + 1) * n + k + 1];
+                double determinant = d11 * d22 - d21 * d21;
+                for (int i = k + 2; i < n; i++) {
+                    c1[i] = a[i * n + k];
+                    c2[i] = a[i * n + k + 1];
+                }
+                for (int i = k + 2; i < n; i++) {
+                    double l1 = (c1[i] * d22 - c2[i] * d21) / determinant;
+                    double l2 = (c2[i] * d11 - c1[i] * d21) / determinant;
+                    for (int j = k + 2, row = i * n; j <= i; j++) {
+                        a[row + j] -= l1 * c1[j] + l2 * c2[j];
+                    }
+                    a[i * n + k] = l1;
+                    a[i * n + k + 1] = l2;
+                }
+                block[k + 1] = true;
+            }
+            k += step;
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                a[i * n + j] = 0;
+            }
+        }
+        return zeroPivot;
+    }
+
+    private void interchange(int i, int p) {
+        for (int j = 0; j < i; j++) {
+            double temp = a[i * n + j];
+            a[i * n + j] = a[p * n + j];
+            a[p * n + j] = temp;
+        }
+        for (int j = i + 1; j < p; j++) {
+            double temp = a[j * n + i];
+            a[j * n + i] = a[p * n + j];
+            a[p * n + j] = temp;
+        }
+        for (int j = p + 1; j < n; j++) {
+            double temp = a[j * n + i];
+            a[j * n + i] = a[j * n + p];
+            a[j * n + p] = temp;
+        }
+        double temp = a[i * n + i];
+        a[i * n + i] = a[p * n + p];
+        a[p * n + p] = temp;
+        int index = pivot[i];
+        pivot[i] = pivot[p];
+        pivot[p] = index;
+    }
+
+    private void requireNonSingular() {
+        if (singular) {
+            throw new ArithmeticException("can not solve system with singular matrix");
+        }
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public boolean isSingular() {
+        return singular;
+    }
+
+    public int[] getPivot() {
+        return Arrays.copyOf(pivot, n);
+    }
+
+    public Matrix getL() {
+        Matrix result = new ArrayMatrix(n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                if (!(block[i] && j == i - 1)) {
+                    result.setUnsafe(i, j, a[i * n + j]);
+                }
+            }
+            result.setUnsafe(i, i, 1);
+        }
+        return result;
+    }
+
+    public Matrix getD() {
+        Matrix result = new ArrayMatrix(n, n);
+        for (int i = 0; i < n; i++) {
+            result.setUnsafe(i, i, a[i * n + i]);
+            if (block[i]) {
+                result.setUnsafe(i, i - 1, a[i * n + i - 1]);
+                result.setUnsafe(i - 1, i, a[i * n + i - 1]);
+            }
+        }
+        return result;
+    }
+
+    public int[] inertia() {
+        int[] result = new int[3];
+        for (int i = 0; i < n; i++) {
+            if (i + 1 < n && block[i + 1]) {
+                result[0]++;
+                result[1]++;
+                i++;
+            } else {
+                double d = a[i * n + i];
+                result[d > 0 ? 0 : d < 0 ? 1 : 2]++;
+            }
+        }
+        return result;
+    }
+
+    private double blockDeterminant(int i) {
+        if (i + 1 < n && block[i + 1]) {
+            double off = a[(i + 1) * n + i];
+            return a[i * n + i] * a[(i + 1) * n + i + 1] - off * off;
+        }
+        return a[i * n + i];
+    }
+
+    public double determinant() {
+        if (singular) {
+            return 0;
+        }
+        double result = 1;
+        for (int i = 0; i < n; i += i + 1 < n && block[i + 1] ? 2 : 1) {
+            result *= blockDeterminant(i);
+        }
+        return result;
+    }
+
+    public int determinantSign() {
+        if (singular) {
+            return 0;
+        }
+        int result = 1;
+        for (int i = 0; i < n; i += i + 1 < n && block[i + 1] ? 2 : 1) {
+            if (blockDeterminant(i) < 0) {
+                result = -result;
+            }
+        }
+        return result;
+    }
+
+    public double logAbsDeterminant() {
+        if (singular) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        double result = 0;
+        for (int i = 0; i < n; i += i + 1 < n && block[i + 1] ? 2 : 1) {
+            result += Math.log(Math.abs(blockDeterminant(i)));
+        }
+        return result;
+    }
+
+    public Vector solve(Vector vector) {
+        Objects.requireNonNull(vector);
+        if (vector.size() != n) {
+            throw new IllegalArgumentException("incongruous matrix.height and vector.size: " +
+                    "expected vector.size = " + n + ", but found " + vector.size());
+        }
+        requireNonSingular();
+        double[] b = new double[n];
+        vector.copyTo(b);
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = b[pivot[i]];
+        }
+        solveInPlace(x, 1);
+        for (int i = 0; i < n; i++) {
+            b[pivot[i]] = x[i];
+        }
+        return new ArrayVector(b);
+    }
+
+    public Matrix solve(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        if (matrix.height() != n) {
+            throw new IllegalArgumentException("incongruous sizes of matrices: for decomposition.size = "
+                    + n + " expected argument.height = " + n + " but found " + matrix.height());
+        }
+        requireNonSingular();
+        int m = matrix.width();
+        double[] x = new double[n * m];
+        double[] row = new double[m];
+        for (int i = 0; i < n; i++) {
+            matrix.getRow(pivot[i], row);
+            System.arraycopy(row, 0, x, i * m, m);
+        }
+        return unpermute(solveInPlace(x, m), m);
+    }
+
+    public Matrix inverse() {
+        requireNonSingular();
+        double[] x = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            x[i * n + pivot[i]] = 1;
+        }
+        return unpermute(solveInPlace(x, n), n);
+    }
+
+    private static double[] row(double[] x, int width, int i) {
+        double[] result = new double[width];
+        System.arraycopy(x, i * width, result, 0, width);
+        return result;
+    }
+
+    private Matrix unpermute(double[] x, int m) {
+        double[][] result = new double[n][];
+        for (int i = 0; i < n; i++) {
+            result[pivot[i]] = row(x, m, i);
+        }
+        return new ArrayMatrix(result);
+    }
+
+    private double[] solveInPlace(double[] x, int m) {
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                double value = a[i * n + j];
+                if (value != 0 && !(block[i] && j == i - 1)) {
+                    axpy(x, m, -value, j, i);
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (i + 1 < n && block[i + 1]) {
+                double d11 = a[i * n + i];
+                double d21 = a[(i + 1) * n + i];
+                double d22 = a[(i + 1) * n + i + 1];
+                double determinant = d11 * d22 - d21 * d21;
+                for (int c = 0, r1 = i * m, r2 = (i + 1) * m; c < m; c++, r1++, r2++) {
+                    double y1 = x[r1];
+                    double y2 = x[r2];
+                    x[r1] = (d22 * y1 - d21 * y2) / determinant;
+                    x[r2] = (d11 * y2 - d21 * y1) / determinant;
+                }
+                i++;
+            } else {
+                double d = a[i * n + i];
+                for (int c = i * m; c < (i + 1) * m; c++) {
+                    x[c] /= d;
+                }
+            }
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = 0; j < i; j++) {
+                double value = a[i * n + j];
+                if (value != 0 && !(block[i] && j == i - 1)) {
+                    axpy(x, m, -value, i, j);
+                }
+            }
+        }
+        return x;
+    }
+
+    private static void axpy(double[] x, int width, double scalar, int from, int to) {
+        for (int j = 0, f = from * width, t = to * width; j < width; j++, f++, t++) {
+            x[t] += scalar * x[f];
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package maths.linear.decompositions;
+
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.Matrix;
+import maths.linear.matrices.MutableMatrix;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class LUDecomposition {
+
+    private final int n;
+    private final double[][] lu;
+    private final int[] pivot;
+    private final boolean singular;
+    private final int sign;
+
+    public LUDecomposition(Matrix matrix) {
+        this(rows(requireSquare(matrix)));
+    }
+
+    private LUDecomposition(double[][] lu) {
+        n = lu.length;
+        this.lu = lu;
+        pivot = new int[n];
+        boolean zeroPivot = false;
+        int swaps = 0;
+        for (int k = 0; k < n; k++) {
+            int p = k;
+            double max = Math.abs(lu[k][k]);
+            for (int i = k + 1; i < n; i++) {
+                double value = Math.abs(lu[i][k]);
+                if (value > max) {
+                    max = value;
+                    p = i;
+                }
+            }
+            pivot[k] = p;
+            if (p != k) {
+                swapRows(lu, p, k);
+                swaps++;
+            }
+            double[] pivotRow = lu[k];
+            double diagonal = pivotRow[k];
+            if (diagonal == 0) {
+                zeroPivot = true;
+                continue;
+            }
+            for (int i = k + 1; i < n; i++) {
+                double[] row = lu[i];
+                double l = row[k] / diagonal;
+                row[k] = l;
+                if (l == 0) {
+                    continue;
+                }
+                for (int j = k + 1; j < n; j++) {
+                    row[j] -= l * pivotRow[j];
+                }
+            }
+        }
+        singular = zeroPivot;
+        sign = swaps % 2 == 0 ? 1 : -1;
+    }
+
+    public static LUDecomposition inPlace(MutableMatrix matrix) {
+        requireSquare(matrix);
+        if (matrix instanceof ArrayMatrix) {
+            return new LUDecomposition(((ArrayMatrix) matrix).array());
+        }
+        LUDecomposition result = new LUDecomposition(rows(matrix));
+        for (int i = 0; i < result.n; i++) {
+            matrix.setRow(i, result.lu[i]);
+        }
+        return result;
+    }
+
+    private static Matrix requireSquare(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        if (matrix.height() != matrix.width()) {
+            throw new IllegalArgumentException("can not decompose non square matrix with sizes: " +
+                    "(" + matrix.height() + ", " + matrix.width() + ")");
+        }
+        return matrix;
+    }
+
+    private static double[][] rows(Matrix matrix) {
+        double[][] result = new double[matrix.height()][matrix.width()];
+        for (int i = 0; i < result.length; i++) {
+            matrix.getRow(i, result[i]);
+        }
+        return result;
+    }
+
+    private static void swapRows(double[][] array, int i1, int i2) {
+        double[] temp = array[i1];
+        array[i1] = array[i2];
+        array[i2] = temp;
+    }
+
+    private void requireNonSingular() {
+        if (singular) {
+            throw new ArithmeticException("can not solve system with singular matrix");
+        }
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public boolean isSingular() {
+        return singular;
+    }
+
+    public int[] getPivot() {
+        return Arrays.copyOf(pivot, n);
+    }
+
+    public Matrix getL() {
+        Matrix result = new ArrayMatrix(n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                result.setUnsafe(i, j, lu[i][j]);
+            }
+            result.setUnsafe(i, i, 1);
+        }
+        return result;
+    }
+
+    public Matrix getU() {
+        Matrix result = new ArrayMatrix(n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = i; j < n; j++) {
+                result.setUnsafe(i, j, lu[i][j]);
+            }
+        }
+        return result;
+    }
+
+    public double determinant() {
+        if (singular) {
+            return 0;
+        }
+        double result = sign;
+        for (int i = 0; i < n; i++) {
+            result *= lu[i][i];
+        }
+        return result;
+    }
+
+    public Vector solve(Vector vector) {
+        Objects.requireNonNull(vector);
+        if (vector.size() != n) {
+            throw new IllegalArgumentException("incongruous matrix.height and vector.size: " +
+                    "expected vector.size = " + n + ", but found " + vector.size());
+        }
+        requireNonSingular();
+        double[] x = new double[n];
+        vector.copyTo(x);
+        for (int k = 0; k < n; k++) {
+            if (pivot[k] != k) {
+                double temp = x[k];
+                x[k] = x[pivot[k]];
+                x[pivot[k]] = temp;
+            }
+        }
+        for (int i = 1; i < n; i++) {
+            double[] row = lu[i];
+            double sum = x[i];
+            for (int j = 0; j < i; j++) {
+                sum -= row[j] * x[j];
+            }
+            x[i] = sum;
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            double[] row = lu[i];
+            double sum = x[i];
+            for (int j = i + 1; j < n; j++) {
+                sum -= row[j] * x[j];
+            }
+            x[i] = sum / row[i];
+        }
+        return new ArrayVector(x);
+    }
+
+    public Matrix solve(Matrix matrix) {
+        checkHeight(matrix);
+        requireNonSingular();
+        ArrayMatrix result = new ArrayMatrix(n, matrix.width());
+        double[][] x = result.array();
+        for (int i = 0; i < n; i++) {
+            matrix.getRow(i, x[i]);
+        }
+        solveRows(x);
+        return result;
+    }
+
+    public void solveInPlace(MutableMatrix matrix) {
+        checkHeight(matrix);
+        requireNonSingular();
+        if (matrix instanceof ArrayMatrix) {
+            solveRows(((ArrayMatrix) matrix).array());
+            return;
+        }
+        double[][] x = rows(matrix);
+        solveRows(x);
+        for (int i = 0; i < n; i++) {
+            matrix.setRow(i, x[i]);
+        }
+    }
+
+    public Matrix inverse() {
+        requireNonSingular();
+        ArrayMatrix result = new ArrayMatrix(n, n);
+        double[][] x = result.array();
+        for (int i = 0; i < n; i++) {
+            x[i][i] = 1;
+        }
+        solveRows(x);
+        return result;
+    }
+
+    private void checkHeight(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        if (matrix.height() != n) {
+            throw new IllegalArgumentException("incongruous sizes of matrices: for decomposition.size = "
+                    + n + " expected argument.height = " + n + " but found " + matrix.height());
+        }
+    }
+
+    private void solveRows(double[][] x) {
+        for (int k = 0; k < n; k++) {
+            if (pivot[k] != k) {
+                swapRows(x, k, pivot[k]);
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            for (int i = k + 1; i < n; i++) {
+                double l = lu[i][k];
+                if (l != 0) {
+                    axpy(x[i], -l, x[k]);
+                }
+            }
+        }
+        for (int k = n - 1; k >= 0; k--) {
+            double diagonal = lu[k][k];
+            double[] row = x[k];
+            for (int j = 0; j < row.length; j++) {
+                row[j] /= diagonal;
+            }
+            for (int i = 0; i < k; i++) {
+                double u = lu[i][k];
+                if (u != 0) {
+                    axpy(x[i], -u, row);
+                }
+            }
+        }
+    }
+
+    private static void axpy(double[] dest, double scalar, double[] src) {
+        for (int j = 0; j < dest.length; j++) {
+            dest[j] += scalar * src[j];
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package maths.linear.decompositions;
+
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.Matrix;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class QRDecomposition {
+
+    private static final int BLOCK = 32;
+
+    private final int m;
+    private final int n;
+    private final int k;
+    private final double[] qr;
+    private final double[] tau;
+    private final double[][] t;
+    private final int[] pivot;
+    private final boolean pivoting;
+    private final int rank;
+
+    public QRDecomposition(Matrix matrix) {
+        this(matrix, false);
+    }
+
+    public QRDecomposition(Matrix matrix, boolean pivoting) {
+        Objects.requireNonNull(matrix);
+        m = matrix.height();
+        n = matrix.width();
+        k = Math.min(m, n);
+        qr = new double[Math.multiplyExact(m, n)];
+        matrix.copyTo(qr);
+        tau = new double[k];
+        t = new double[(k + BLOCK - 1) / BLOCK][];
+        pivot = new int[n];
+        for (int j = 0; j < n; j++) {
+            pivot[j] = j;
+        }
+        this.pivoting = pivoting;
+        if (pivoting) {
+            factorPivoted();
+            for (int b = 0; b < t.length; b++) {
+                t[b] = triangularFactor(b * BLOCK, Math.min(BLOCK, k - b * BLOCK));
+            }
+        } else {
+            factorBlocked();
+        }
+        rank = numericalRank();
+    }
+
+    private void factorBlocked() {
+        for (int b = 0; b < t.length; b++) {
+            int c0 = b * BLOCK;
+            int nb = Math.min(BLOCK, k - c0);
+            for (int j = c0; j < c0 + nb; j++) {
+                reflector(j);
+                applyReflector(j, j + 1, c0 + nb);
+            }
+            t[b] = triangularFactor(c0, nb);
+            if (c0 + nb < n) {
+                applyBlock(b, qr, n, c0 + nb, n, true);
+            }
+        }
+    }
+
+    private void factorPivoted() {
+        double[] norms = new double[n];
+        double[] initial = new double[n];
+        for (int j = 0; j < n; j++) {
+            norms[j] = columnNorm(j, 0);
+            initial[j] = norms[j];
+        }
+        double tolerance = Math.sqrt(Math.ulp(1.0));
+        for (int j = 0; j < k; j++) {
+            int p = j;
+            for (int l = j + 1; l < n; l++) {
+                if (norms[l] > norms[p]) {
+                    p = l;
+                }
+            }
+            if (p != j) {
+                for (int r = 0; r < m; r++) {
+                    double temp = qr[r * n + j];
+                    qr[r * n + j] = qr[r * n + p];
+                    qr[r * n + p] = temp;
+                }
+                swap(norms, j, p);
+                swap(initial, j, p);
+                int temp = pivot[j];
+                pivot[j] = pivot[p];
+                pivot[p] = temp;
+            }
+            reflector(j);
+            applyReflector(j, j + 1, n);
+            for (int l = j + 1; l < n; l++) {
+                if (norms[l] == 0) {
+                    continue;
+                }
+                double ratio = Math.abs(qr[j * n + l]) / norms[l];
+                double factor = Math.max(0, (1 + ratio) * (1 - ratio));
+                double ratioToInitial = norms[l] / initial[l];
+                if (factor * ratioToInitial * ratioToInitial <= tolerance) {
+                    norms[l] = j + 1 < m ? columnNorm(l, j + 1) : 0;
+                    initial[l] = norms[l];
+                } else {
+                    norms[l] *= Math.sqrt(factor);
+                }
+            }
+        }
+    }
+
+    private static void swap(double[] array, int i, int j) {
+        double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private double columnNorm(int column, int from) {
+        double sum = 0;
+        for (int r = from; r < m; r++) {
+            double value = qr[r * n + column];
+            sum += value * value;
+        }
+        if (sum >= Double.MIN_NORMAL && sum < Double.POSITIVE_INFINITY) {
+            return Math.sqrt(sum);
+        }
+        return scaledColumnNorm(column, from);
+    }
+
+    private double scaledColumnNorm(int column, int from) {
+        double scale = 0;
+        for (int r = from; r < m; r++) {
+            scale = Math.max(scale, Math.abs(qr[r * n + column]));
+        }
+        if (scale == 0 || Double.isInfinite(scale)) {
+            return scale;
+        }
+        double sum = 0;
+        for (int r = from; r < m; r++) {
+            double value = qr[r * n + column] / scale;
+            sum += value * value;
+        }
+        return scale * Math.sqrt(sum);
+    }
+
+    private void reflector(int j) {
+        double alpha = qr[j * n + j];
+        double norm = j + 1 < m ? columnNorm(j, j + 1) : 0;
+        if (norm == 0) {
+            tau[j] = 0;
+            return;
+        }
+        double beta = -Math.copySign(Math.hypot(alpha, norm), alpha);
+        tau[j] = (beta - alpha) / beta;
+        double scale = 1 / (alpha - beta);
+        for (int r = j + 1; r < m; r++) {
+            qr[r * n + j] *= scale;
+        }
+        qr[j * n + j] = beta;
+    }
+
+    private double v(int r, int column) {
+        return r == column ? 1 : qr[r * n + column];
+    }
+
+    private void applyReflector(int j, int from, int to) {
+        if (tau[j] == 0 || from >= to) {
+            return;
+        }
+        double[] w = new double[to - from];
+        for (int r = j; r < m; r++) {
+            double v = v(r, j);
+            if (v == 0) {
+                continue;
+            }
+            for (int c = from, row = r * n; c < to; c++) {
+                w[c - from] += v * qr[row + c];
+            }
+        }
+        for (int r = j; r < m; r++) {
+            double v = tau[j] * v(r, j);
+            if (v == 0) {
+                continue;
+            }
+            for (int c = from, row = r * n; c < to; c++) {
+                qr[row + c] -= v * w[c - from];
+            }
+        }
+    }
+
+    private double[] triangularFactor(int c0, int nb) {
+        double[] gram = new double[nb * nb];
+        for (int r = c0; r < m; r++) {
+            int count = Math.min(nb, r - c0 + 1);
+            for (int i = 0; i < count; i++) {
+                double vi = v(r, c0 + i);
+                if (vi == 0) {
+                    continue;
+                }
+                for (int l = i + 1; l < count; l++) {
+                    gram[i * nb + l] += vi * v(r, c0 + l);
+                }
+            }
+        }
+        double[] result = new double[nb * nb];
+        double[] z = new double[nb];
+        for (int i = 0; i < nb; i++) {
+            double ti = tau[c0 + i];
+            result[i * nb + i] = ti;
+            for (int l = 0; l < i; l++) {
+                double sum = 0;
+                for (int p = l; p < i; p++) {
+                    sum += result[l * nb + p] * gram[p * nb + i];
+                }
+                z[l] = -ti * sum;
+            }
+            for (int l = 0; l < i; l++) {
+                result[l * nb + i] = z[l];
+            }
+        }
+        return result;
+    }
+
+    private void applyBlock(int b, double[] x, int width, int from, int to, boolean transpose) {
+        int c0 = b * BLOCK;
+        int nb = Math.min(BLOCK, k - c0);
+        int w = to - from;
+        double[] factor = t[b];
+        double[] product = new double[nb * w];
+        for (int r = c0; r < m; r++) {
+            int count = Math.min(nb, r - c0 + 1);
+            for (int i = 0; i < count; i++) {
+                double v = v(r, c0 + i);
+                if (v == 0) {
+                    continue;
+                }
+                for (int c = 0, row = r * width + from; c < w; c++) {
+                    product[i * w + c] += v * x[row + c];
+                }
+            }
+        }
+        double[] temp = new double[w];
+        if (transpose) {
+            for (int i = nb - 1; i >= 0; i--) {
+                Arrays.fill(temp, 0);
+                for (int l = 0; l <= i; l++) {
+                    double value = factor[l * nb + i];
+                    for (int c = 0; c < w; c++) {
+                        temp[c] += value * product[l * w + c];
+                    }
+                }
+                System.arraycopy(temp, 0, product, i * w, w);
+            }
+        } else {
+            for (int i = 0; i < nb; i++) {
+                Arrays.fill(temp, 0);
+                for (int l = i; l < nb; l++) {
+                    double value = factor[i * nb + l];
+                    for (int c = 0; c < w; c++) {
+                        temp[c] += value * product[l * w + c];
+                    }
+                }
+                System.arraycopy(temp, 0, product, i * w, w);
+            }
+        }
+        for (int r = c0; r < m; r++) {
+            int count = Math.min(nb, r - c0 + 1);
+            for (int i = 0; i < count; i++) {
+                double v = v(r, c0 + i);
+                if (v == 0) {
+                    continue;
+                }
+                for (int c = 0, row = r * width + from; c < w; c++) {
+                    x[row + c] -= v * product[i * w + c];
+                }
+            }
+        }
+    }
+
+    private int numericalRank() {
+        double max = 0;
+        for (int i = 0; i < k; i++) {
+            max = Math.max(max, Math.abs(qr[i * n + i]));
+        }
+        double tolerance = Math.max(m, n) * Math.ulp(max);
+        int result = 0;
+        for (int i = 0; i < k; i++) {
+            if (Math.abs(qr[i * n + i]) > tolerance) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    public int height() {
+        return m;
+    }
+
+    public int width() {
+        return n;
+    }
+
+    public int rank() {
+        return rank;
+    }
+
+    public boolean isPivoting() {
+        return pivoting;
+    }
+
+    public boolean isFullRank() {
+        return rank == k;
+    }
+
+    public int[] getPivot() {
+        return Arrays.copyOf(pivot, n);
+    }
+
+    public Matrix getR() {
+        Matrix result = new ArrayMatrix(k, n);
+        for (int i = 0; i < k; i++) {
+            for (int j = i; j < n; j++) {
+                result.setUnsafe(i, j, qr[i * n + j]);
+            }
+        }
+        return result;
+    }
+
+    public Matrix getQ() {
+        double[] x = new double[m * k];
+        for (int i = 0; i < k; i++) {
+            x[i * k + i] = 1;
+        }
+        for (int b = t.length - 1; b >= 0; b--) {
+            applyBlock(b, x, k, 0, k, false);
+        }
+        double[][] result = new double[m][k];
+        for (int i = 0; i < m; i++) {
+            System.arraycopy(x, i * k, result[i], 0, k);
+        }
+        return new ArrayMatrix(result);
+    }
+
+    private void requireSolvable() {
+        if (m < n) {
+            throw new ArithmeticException("can not solve underdetermined least squares problem with sizes: " +
+                    "(" + m + ", " + n + ")");
+        }
+        if (rank < n && !pivoting) {
+            throw new ArithmeticException("can not solve least squares problem with rank deficient matrix: " +
+                    "rank = " + rank + ", width = " + n);
+        }
+    }
+
+    private double[] solveInPlace(double[] x, int width) {
+        for (int b = 0; b < t.length; b++) {
+            applyBlock(b, x, width, 0, width, true);
+        }
+        double[] result = new double[n * width];
+        for (int c = 0; c < width; c++) {
+            for (int i = rank - 1; i >= 0; i--) {
+                double sum = x[i * width + c];
+                for (int j = i + 1; j < rank; j++) {
+                    sum -= qr[i * n + j] * x[j * width + c];
+                }
+                x[i * width + c] = sum / qr[i * n + i];
+            }
+            for (int i = 0; i < rank; i++) {
+                result[pivot[i] * width + c] = x[i * width + c];
+            }
+        }
+        return result;
+    }
+
+    public Vector solveLeastSquares(Vector vector) {
+        Objects.requireNonNull(vector);
+        if (vector.size() != m) {
+            throw new IllegalArgumentException("incongruous matrix.height and vector.size: " +
+                    "expected vector.size = " + m + ", but found " + vector.size());
+        }
+        requireSolvable();
+        double[] x = new double[m];
+        vector.copyTo(x);
+        return new ArrayVector(solveInPlace(x, 1));
+    }
+
+    public Matrix solveLeastSquares(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        if (matrix.height() != m) {
+            throw new IllegalArgumentException("incongruous sizes of matrices: for decomposition.height = "
+                    + m + " expected argument.height = " + m + " but found " + matrix.height());
+        }
+        requireSolvable();
+        int width = matrix.width();
+        double[] x = new double[m * width];
+        matrix.copyTo(x);
+        double[] solution = solveInPlace(x, width);
+        double[][] result = new double[n][width];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(solution, i * width, result[i], 0, width);
+        }
+        return new ArrayMatrix(result);
+    }
+}
@@ -0,0 +1,309 @@
+package maths.linear.decompositions;
+
+import maths.linear.Asserts;
+import maths.linear.ExecutionPolicy;
+import maths.linear.kernels.Kernels;
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.Matrices;
+import maths.linear.matrices.Matrix;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+
+import java.util.Arrays;
+
+public class SingularValueDecomposition {
+
+    private static final int MAX_SWEEPS = 60;
+    private static final double EPS = Math.ulp(1.0);
+
+    private final int m;
+    private final int n;
+    private final int k;
+    private final double[] values;
+    private final double[][] u;
+    private final double[][] v;
+
+    public SingularValueDecomposition(Matrix matrix) {
+        this(matrix, true);
+    }
+
+    public SingularValueDecomposition(Matrix matrix, boolean computeVectors) {
+        this(matrix, computeVectors, Matrices.getExecutionPolicy());
+    }
+
+    public SingularValueDecomposition(Matrix matrix, boolean computeVectors, ExecutionPolicy policy) {
+        Asserts.requireNonNull(matrix, policy);
+        m = matrix.height();
+        n = matrix.width();
+        k = Math.min(m, n);
+        boolean transposed = m < n;
+        int exponent = exponent(matrix);
+        Matrix scaled = exponent == 0 ? matrix : Matrices.matrixXScalar(matrix, Math.scalb(1.0, -exponent));
+        QRDecomposition qr = new QRDecomposition(transposed ? Matrices.transpose(scaled) : scaled, true);
+        Matrix r = qr.getR();
+        double[][] x = new double[k][k];
+        for (int i = 0; i < k; i++) {
+            for (int j = i; j < k; j++) {
+                x[i][j] = r.getUnsafe(i, j);
+            }
+        }
+        double[][] w = null;
+        if (computeVectors) {
+            w = new double[k][k];
+            for (int i = 0; i < k; i++) {
+                w[i][i] = 1;
+            }
+        }
+        jacobi(x, w, k, policy);
+        double[] norms = new double[k];
+        Integer[] order = new Integer[k];
+        for (int j = 0; j < k; j++) {
+            norms[j] = Kernels.norm(x[j], 0, k);
+            order[j] = j;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(norms[b], norms[a]));
+        values = new double[k];
+        for (int c = 0; c < k; c++) {
+            values[c] = Math.scalb(norms[order[c]], exponent);
+        }
+        if (!computeVectors) {
+            u = null;
+            v = null;
+            return;
+        }
+        double[][] left = new double[k][k];
+        for (int c = 0; c < k; c++) {
+            double[] column = w[order[c]];
+            for (int i = 0; i < k; i++) {
+                left[i][c] = column[i];
+            }
+        }
+        double[][] q = ((ArrayMatrix) Matrices.matrixXMatrix(qr.getQ(), new ArrayMatrix(left))).array();
+        int[] pivot = qr.getPivot();
+        double[][] right = new double[k][k];
+        for (int c = 0; c < k; c++) {
+            double[] column = x[order[c]];
+            double norm = norms[order[c]];
+            if (norm > 0) {
+                for (int i = 0; i < k; i++) {
+                    right[pivot[i]][c] = column[i] / norm;
+                }
+            } else {
+                complete(right, pivot, c);
+            }
+        }
+        u = transposed ? right : q;
+        v = transposed ? q : right;
+    }
+
+    private static int exponent(Matrix matrix) {
+        double max = 0;
+        double[] row = new double[matrix.width()];
+        for (int i = 0; i < matrix.height(); i++) {
+            matrix.getRow(i, row);
+            for (double value : row) {
+                max = Math.max(max, Math.abs(value));
+            }
+        }
+        return max > 0 && Double.isFinite(max) ? Math.getExponent(max) : 0;
+    }
+
+    private static void jacobi(double[][] x, double[][] w, int k, ExecutionPolicy policy) {
+        int size = k + (k & 1);
+        int pairs = size / 2;
+        int[] position = new int[size];
+        for (int i = 0; i < size; i++) {
+            position[i] = i;
+        }
+        double tolerance = Math.sqrt(k) * EPS;
+        long work = (long) pairs * k * (w == null ? 5 : 9);
+        boolean[] rotated = new boolean[pairs];
+        double[] squares = new double[k];
+        for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+            Arrays.fill(rotated, false);
+            for (int j = 0; j < k; j++) {
+                squares[j] = Kernels.dot(x[j], 0, x[j], 0, k);
+            }
+            for (int round = 0; round < size - 1; round++) {
+                policy.forEachRange(pairs, work, (from, to) -> {
+                    for (int i = from; i < to; i++) {
+                        int p = Math.min(position[i], position[size - 1 - i]);
+                        int q = Math.max(position[i], position[size - 1 - i]);
+                        if (q < k && rotate(x, w, squares, p, q, tolerance)) {
+                            rotated[i] = true;
+                        }
+                    }
+                });
+                int last = position[size - 1];
+                System.arraycopy(position, 1, position, 2, size - 2);
+                position[1] = last;
+            }
+            boolean any = false;
+            for (boolean value : rotated) {
+                any |= value;
+            }
+            if (!any) {
+                return;
+            }
+        }
+        throw new ArithmeticException("singular value iteration did not converge");
+    }
+
+    private static boolean rotate(double[][] x, double[][] w, double[] squares, int p, int q, double tolerance) {
+        double[] a = x[p];
+        double[] b = x[q];
+        double alpha = squares[p];
+        double beta = squares[q];
+        double gamma = Kernels.dot(a, 0, b, 0, a.length);
+        if (gamma == 0 || Math.abs(gamma) <= tolerance * Math.sqrt(alpha) * Math.sqrt(beta)) {
+            return false;
+        }
+        double zeta = (beta - alpha) / (2 * gamma);
+        double t = Math.abs(zeta) > 1e150 ? 0.5 / zeta :
+                Math.copySign(1, zeta) / (Math.abs(zeta) + Math.sqrt(1 + zeta * zeta));
+        double c = 1 / Math.sqrt(1 + t * t);
+        double s = c * t;
+        squares[p] = Math.max(0, alpha - t * gamma);
+        squares[q] = beta + t * gamma;
+        apply(a, b, c, s);
+        if (w != null) {
+            apply(w[p], w[q], c, s);
+        }
+        return true;
+    }
+
+    private static void apply(double[] a, double[] b, double c, double s) {
+        for (int i = 0; i < a.length; i++) {
+            double x = a[i];
+            double y = b[i];
+            a[i] = c * x - s * y;
+            b[i] = s * x + c * y;
+        }
+    }
+
+    private static void complete(double[][] right, int[] pivot, int column) {
+        int size = right.length;
+        double[] candidate = new double[size];
+        for (int e = 0; e < size; e++) {
+            Arrays.fill(candidate, 0);
+            candidate[e] = 1;
+            for (int pass = 0; pass < 2; pass++) {
+                for (int c = 0; c < column; c++) {
+                    double dot = 0;
+                    for (int i = 0; i < size; i++) {
+                        dot += right[pivot[i]][c] * candidate[i];
+                    }
+                    for (int i = 0; i < size; i++) {
+                        candidate[i] -= dot * right[pivot[i]][c];
+                    }
+                }
+            }
+            double norm = Kernels.norm(candidate, 0, size);
+            if (norm > 0.5) {
+                for (int i = 0; i < size; i++) {
+                    right[pivot[i]][column] = candidate[i] / norm;
+                }
+                return;
+            }
+        }
+    }
+
+    private void requireVectors() {
+        if (u == null) {
+            throw new IllegalStateException("singular vectors were not computed");
+        }
+    }
+
+    public int height() {
+        return m;
+    }
+
+    public int width() {
+        return n;
+    }
+
+    public boolean hasSingularVectors() {
+        return u != null;
+    }
+
+    public Vector getSingularValues() {
+        return new ArrayVector(values);
+    }
+
+    public double getSingularValue(int index) {
+        return values[index];
+    }
+
+    public Matrix getS() {
+        Matrix result = new ArrayMatrix(k, k);
+        for (int i = 0; i < k; i++) {
+            result.setUnsafe(i, i, values[i]);
+        }
+        return result;
+    }
+
+    public Matrix getU() {
+        requireVectors();
+        return new ArrayMatrix(u);
+    }
+
+    public Matrix getV() {
+        requireVectors();
+        return new ArrayMatrix(v);
+    }
+
+    public double norm() {
+        return k == 0 ? 0 : values[0];
+    }
+
+    public double conditionNumber() {
+        if (k == 0) {
+            return 0;
+        }
+        return values[k - 1] == 0 ? Double.POSITIVE_INFINITY : values[0] / values[k - 1];
+    }
+
+    public double defaultTolerance() {
+        return k == 0 ? 0 : Math.max(m, n) * Math.ulp(values[0]);
+    }
+
+    public int rank() {
+        return rank(defaultTolerance());
+    }
+
+    public int rank(double tolerance) {
+        if (!(tolerance >= 0)) {
+            throw new IllegalArgumentException("tolerance must be non negative, but found " + tolerance);
+        }
+        int result = 0;
+        while (result < k && values[result] > tolerance) {
+            result++;
+        }
+        return result;
+    }
+
+    public Matrix pseudoInverse() {
+        return pseudoInverse(defaultTolerance());
+    }
+
+    public Matrix pseudoInverse(double tolerance) {
+        requireVectors();
+        int rank = rank(tolerance);
+        if (rank == 0) {
+            return new ArrayMatrix(n, m);
+        }
+        double[][] scaled = new double[n][rank];
+        for (int i = 0; i < n; i++) {
+            for (int c = 0; c < rank; c++) {
+                scaled[i][c] = v[i][c] / values[c];
+            }
+        }
+        double[][] transposed = new double[rank][m];
+        for (int i = 0; i < m; i++) {
+            for (int c = 0; c < rank; c++) {
+                transposed[c][i] = u[i][c];
+            }
+        }
+        return Matrices.matrixXMatrix(new ArrayMatrix(scaled), new ArrayMatrix(transposed));
+    }
+}
@@ -0,0 +1,580 @@
+package maths.linear.decompositions;
+
+import maths.linear.kernels.Kernels;
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.Matrices;
+import maths.linear.matrices.Matrix;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class SymmetricEigenDecomposition {
+
+    private static final int LEAF = 32;
+    private static final int MAX_ITERATIONS = 30;
+    private static final int MAX_SECULAR_ITERATIONS = 200;
+    private static final double EPS = Math.ulp(1.0);
+
+    private final int n;
+    private final double[] values;
+    private final double[] vectors;
+
+    public SymmetricEigenDecomposition(Matrix matrix) {
+        this(matrix, true);
+    }
+
+    public SymmetricEigenDecomposition(Matrix matrix, boolean computeVectors) {
+        Objects.requireNonNull(matrix);
+        CholeskyDecomposition.checkSymmetric(matrix);
+        n = matrix.height();
+        double[] a = new double[n * n];
+        matrix.copyTo(a);
+        values = new double[n];
+        double[] e = new double[n];
+        double[] tau = new double[n];
+        tridiagonalize(a, n, values, e, tau);
+        if (computeVectors) {
+            double[] z = new double[n * n];
+            for (int i = 0; i < n; i++) {
+                z[i * n + i] = 1;
+            }
+            divideAndConquer(values, e, z, n, 0, n);
+            vectors = backTransform(a, tau, z, n);
+        } else {
+            ql(values, e, null, n, 0, n);
+            vectors = null;
+        }
+    }
+
+    private static void tridiagonalize(double[] a, int n, double[] d, double[] e, double[] tau) {
+        double[] v = new double[n];
+        double[] w = new double[n];
+        double[] nextV = new double[n];
+        double[] nextW = new double[n];
+        boolean ready = false;
+        for (int k = 0; k < n - 2; k++) {
+            int s = k + 1;
+            if (!ready && reflector(a, n, k, d, e, tau, v)) {
+                Arrays.fill(w, s, n, 0);
+                symmetricProduct(a, n, s, v, w, s, n);
+            }
+            ready = false;
+            double t = tau[k];
+            if (t == 0) {
+                continue;
+            }
+            double dot = 0;
+            for (int i = s; i < n; i++) {
+                w[i] *= t;
+                dot += w[i] * v[i];
+            }
+            double half = 0.5 * t * dot;
+            for (int i = s; i < n; i++) {
+                w[i] -= half * v[i];
+            }
+            for (int i = s; i < n; i++) {
+                a[i * n + s] -= v[i] * w[s] + w[i] * v[s];
+            }
+            if (k + 1 < n - 2 && reflector(a, n, k + 1, d, e, tau, nextV)) {
+                Arrays.fill(nextW, s + 1, n, 0);
+                for (int i = s + 1; i < n; i++) {
+                    update(a, n, i, s + 1, v, w);
+                    symmetricProduct(a, n, s + 1, nextV, nextW, i, i + 1);
+                }
+                double[] temp = v;
+                v = nextV;
+                nextV = temp;
+                temp = w;
+                w = nextW;
+                nextW = temp;
+                ready = true;
+            } else {
+                for (int i = s + 1; i < n; i++) {
+                    update(a, n, i, s + 1, v, w);
+                }
+            }
+        }
+        if (n > 1) {
+            d[n - 2] = a[(n - 2) * n + n - 2];
+            e[n - 2] = a[(n - 1) * n + n - 2];
+        }
+        if (n > 0) {
+            d[n - 1] = a[n * n - 1];
+        }
+    }
+
+    private static boolean reflector(double[] a, int n, int k, double[] d, double[] e, double[] tau, double[] v) {
+        int s = k + 1;
+        d[k] = a[k * n + k];
+        double alpha = a[s * n + k];
+        double norm = 0;
+        for (int i = s + 1; i < n; i++) {
+            double value = a[i * n + k];
+            norm += value * value;
+        }
+        if (norm == 0) {
+            e[k] = alpha;
+            tau[k] = 0;
+            return false;
+        }
+        double beta = -Math.copySign(Math.hypot(alpha, Math.sqrt(norm)), alpha);
+        double scale = 1 / (alpha - beta);
+        tau[k] = (beta - alpha) / beta;
+        e[k] = beta;
+        v[s] = 1;
+        for (int i = s + 1; i < n; i++) {
+            a[i * n + k] *= scale;
+            v[i] = a[i * n + k];
+        }
+        return true;
+    }
+
+    private static void symmetricProduct(double[] a, int n, int s, double[] v, double[] w, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int row = i * n;
+            double sum = Kernels.dot(a, row + s, v, s, i - s);
+            Kernels.axpy(v[i], a, row + s, w, s, i - s);
+            w[i] += sum + a[row + i] * v[i];
+        }
+    }
+
+    private static void update(double[] a, int n, int i, int s, double[] v, double[] w) {
+        int row = i * n;
+        Kernels.axpy(-v[i], w, s, a, row + s, i - s + 1);
+        Kernels.axpy(-w[i], v, s, a, row + s, i - s + 1);
+    }
+
+    private static double[] backTransform(double[] a, double[] tau, double[] z, int n) {
+        double[] q = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            q[i * n + i] = 1;
+        }
+        double[] w = new double[n];
+        for (int k = n - 3; k >= 0; k--) {
+            double t = tau[k];
+            if (t == 0) {
+                continue;
+            }
+            int s = k + 1;
+            Arrays.fill(w, s, n, 0);
+            for (int i = s; i < n; i++) {
+                Kernels.axpy(i == s ? 1 : a[i * n + k], q, i * n + s, w, s, n - s);
+            }
+            for (int i = s; i < n; i++) {
+                Kernels.axpy(-t * (i == s ? 1 : a[i * n + k]), w, s, q, i * n + s, n - s);
+            }
+        }
+        double[][] product = ((ArrayMatrix) Matrices.matrixXMatrix(rows(q, n, n), rows(z, n, n))).array();
+        double[] result = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(product[i], 0, result, i * n, n);
+        }
+        return result;
+    }
+
+    private static ArrayMatrix rows(double[] x, int height, int width) {
+        double[][] result = new double[height][];
+        for (int i = 0; i < height; i++) {
+            result[i] = Arrays.copyOfRange(x, i * width, (i + 1) * width);
+        }
+        return new ArrayMatrix(result);
+    }
+
+    private static double hypot(double a, double b) {
+        a = Math.abs(a);
+        b = Math.abs(b);
+        if (a < b) {
+            double temp = a;
+            a = b;
+            b = temp;
+        }
+        if (a == 0) {
+            return 0;
+        }
+        double ratio = b / a;
+        return a * Math.sqrt(1 + ratio * ratio);
+    }
+
+    private static void ql(double[] d, double[] e, double[] z, int n, int lo, int hi) {
+        int m = hi - lo;
+        double[] dd = Arrays.copyOfRange(d, lo, hi);
+        double[] ee = new double[m];
+        System.arraycopy(e, lo, ee, 0, Math.max(0, m - 1));
+        double shift = 0;
+        double norm = 0;
+        int iterations = 0;
+        for (int l = 0; l < m; l++) {
+            norm = Math.max(norm, Math.abs(dd[l]) + Math.abs(ee[l]));
+            int k = l;
+            while (k < m - 1 && Math.abs(ee[k]) > EPS * norm) {
+                k++;
+            }
+            while (k > l && Math.abs(ee[l]) > EPS * norm) {
+                if (++iterations > MAX_ITERATIONS * m) {
+                    throw new ArithmeticException("symmetric eigenvalue iteration did not converge");
+                }
+                double g = dd[l];
+                double p = (dd[l + 1] - g) / (2 * ee[l]);
+                double r = Math.copySign(hypot(p, 1), p);
+                dd[l] = ee[l] / (p + r);
+                dd[l + 1] = ee[l] * (p + r);
+                double next = dd[l + 1];
+                double h = g - dd[l];
+                for (int i = l + 2; i < m; i++) {
+                    dd[i] -= h;
+                }
+                shift += h;
+                p = dd[k];
+                double c = 1;
+                double c2 = 1;
+                double c3 = 1;
+                double el1 = ee[l + 1];
+                double s = 0;
+                double s2 = 0;
+                for (int i = k - 1; i >= l; i--) {
+                    c3 = c2;
+                    c2 = c;
+                    s2 = s;
+                    g = c * ee[i];
+                    h = c * p;
+                    r = hypot(p, ee[i]);
+                    ee[i + 1] = s * r;
+                    s = ee[i] / r;
+                    c = p / r;
+                    p = c * dd[i] - s * g;
+                    dd[i + 1] = h + s * (c * g + s * dd[i]);
+                    if (z != null) {
+                        for (int row = lo * n + lo + i; row < hi * n; row += n) {
+                            double x = z[row];
+                            double y = z[row + 1];
+                            z[row + 1] = s * x + c * y;
+                            z[row] = c * x - s * y;
+                        }
+                    }
+                }
+                p = -s * s2 * c3 * el1 * ee[l] / next;
+                ee[l] = s * p;
+                dd[l] = c * p;
+            }
+            dd[l] += shift;
+            ee[l] = 0;
+        }
+        if (z == null) {
+            Arrays.sort(dd);
+        } else {
+            for (int i = 0; i < m - 1; i++) {
+                int min = i;
+                for (int j = i + 1; j < m; j++) {
+                    if (dd[j] < dd[min]) {
+                        min = j;
+                    }
+                }
+                if (min != i) {
+                    double temp = dd[i];
+                    dd[i] = dd[min];
+                    dd[min] = temp;
+                    for (int row = lo * n + lo; row < hi * n; row += n) {
+                        temp = z[row + i];
+                        z[row + i] = z[row + min];
+                        z[row + min] = temp;
+                    }
+                }
+            }
+        }
+        System.arraycopy(dd, 0, d, lo, m);
+    }
+
+    private static void divideAndConquer(double[] d, double[] e, double[] z, int n, int lo, int hi) {
+        if (hi - lo <= LEAF) {
+            ql(d, e, z, n, lo, hi);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double beta = e[mid - 1];
+        double rho = Math.abs(beta);
+        d[mid - 1] -= rho;
+        d[mid] -= rho;
+        divideAndConquer(d, e, z, n, lo, mid);
+        divideAndConquer(d, e, z, n, mid, hi);
+        merge(d, z, n, lo, mid, hi, rho, beta < 0 ? -1 : 1);
+    }
+
+    private static void merge(double[] d, double[] z, int n, int lo, int mid, int hi, double rho, double sign) {
+        int m = hi - lo;
+        int top = mid - lo;
+        int[] order = new int[m];
+        for (int i = 0, left = 0, right = top; i < m; i++) {
+            order[i] = right == m || left < top && d[lo + left] <= d[lo + right] ? left++ : right++;
+        }
+        double[] ds = new double[m];
+        double[] zs = new double[m];
+        double[] q = new double[m * m];
+        int[] type = new int[m];
+        double norm = 0;
+        for (int c = 0; c < m; c++) {
+            int column = order[c];
+            ds[c] = d[lo + column];
+            zs[c] = column < top ? z[(mid - 1) * n + lo + column] : sign * z[mid * n + lo + column];
+            norm += zs[c] * zs[c];
+            type[c] = column < top ? 1 : 3;
+            for (int r = column < top ? 0 : top, end = column < top ? top : m; r < end; r++) {
+                q[r * m + c] = z[(lo + r) * n + lo + column];
+            }
+        }
+        norm = Math.sqrt(norm);
+        rho *= norm * norm;
+        double dMax = 0;
+        double zMax = 0;
+        for (int c = 0; c < m; c++) {
+            zs[c] /= norm;
+            dMax = Math.max(dMax, Math.abs(ds[c]));
+            zMax = Math.max(zMax, Math.abs(zs[c]));
+        }
+        double tolerance = 8 * EPS * Math.max(dMax, rho * zMax);
+        int[] kept = new int[m];
+        int count = 0;
+        int previous = -1;
+        for (int c = 0; c < m; c++) {
+            if (rho * Math.abs(zs[c]) <= tolerance) {
+                continue;
+            }
+            if (previous >= 0) {
+                double t = hypot(zs[c], zs[previous]);
+                double cos = zs[c] / t;
+                double sin = -zs[previous] / t;
+                if (Math.abs((ds[c] - ds[previous]) * cos * sin) <= tolerance) {
+                    zs[c] = t;
+                    zs[previous] = 0;
+                    for (int r = 0; r < m; r++) {
+                        double x = q[r * m + previous];
+                        double y = q[r * m + c];
+                        q[r * m + previous] = cos * x + sin * y;
+                        q[r * m + c] = cos * y - sin * x;
+                    }
+                    if (type[previous] != type[c]) {
+                        type[previous] = 2;
+                        type[c] = 2;
+                    }
+                    double value = ds[previous] * cos * cos + ds[c] * sin * sin;
+                    ds[c] = ds[previous] * sin * sin + ds[c] * cos * cos;
+                    ds[previous] = value;
+                    previous = c;
+                    continue;
+                }
+                kept[count++] = previous;
+            }
+            previous = c;
+        }
+        if (previous >= 0) {
+            kept[count++] = previous;
+        }
+        double[] lambda = ds.clone();
+        double[] u = secular(ds, zs, kept, count, rho, lambda);
+        boolean[] isKept = new boolean[m];
+        for (int j = 0; j < count; j++) {
+            isKept[kept[j]] = true;
+        }
+        double[] result = new double[m * m];
+        for (int c = 0; c < m; c++) {
+            if (!isKept[c]) {
+                for (int r = 0; r < m; r++) {
+                    result[r * m + c] = q[r * m + c];
+                }
+            }
+        }
+        if (count > 0) {
+            product(q, u, kept, count, type, 0, top, m, result, 3);
+            product(q, u, kept, count, type, top, m, m, result, 1);
+        }
+        Integer[] sorted = new Integer[m];
+        for (int c = 0; c < m; c++) {
+            sorted[c] = c;
+        }
+        Arrays.sort(sorted, (x, y) -> Double.compare(lambda[x], lambda[y]));
+        for (int c = 0; c < m; c++) {
+            int column = sorted[c];
+            d[lo + c] = lambda[column];
+            for (int r = 0; r < m; r++) {
+                z[(lo + r) * n + lo + c] = result[r * m + column];
+            }
+        }
+    }
+
+    private static void product(double[] q, double[] u, int[] kept, int count, int[] type,
+                                int from, int to, int m, double[] result, int excluded) {
+        int[] columns = new int[count];
+        int width = 0;
+        for (int j = 0; j < count; j++) {
+            if (type[kept[j]] != excluded) {
+                columns[width++] = j;
+            }
+        }
+        if (width == 0 || from == to) {
+            return;
+        }
+        double[][] left = new double[to - from][width];
+        for (int r = from; r < to; r++) {
+            for (int c = 0; c < width; c++) {
+                left[r - from][c] = q[r * m + kept[columns[c]]];
+            }
+        }
+        double[][] right = new double[width][];
+        for (int c = 0; c < width; c++) {
+            right[c] = Arrays.copyOfRange(u, columns[c] * count, (columns[c] + 1) * count);
+        }
+        double[][] product = ((ArrayMatrix) Matrices.matrixXMatrix(new ArrayMatrix(left), new ArrayMatrix(right))).array();
+        for (int r = from; r < to; r++) {
+            for (int j = 0; j < count; j++) {
+                result[r * m + kept[j]] = product[r - from][j];
+            }
+        }
+    }
+
+    private static double[] secular(double[] ds, double[] zs, int[] kept, int count, double rho, double[] lambda) {
+        double[] dd = new double[count];
+        double[] zz = new double[count];
+        for (int j = 0; j < count; j++) {
+            dd[j] = ds[kept[j]];
+            zz[j] = zs[kept[j]];
+        }
+        int[] origin = new int[count];
+        double[] tau = new double[count];
+        for (int j = 0; j < count; j++) {
+            double lower;
+            double upper;
+            if (j < count - 1) {
+                double half = (dd[j + 1] - dd[j]) / 2;
+                if (secularFunction(dd, zz, rho, j, half) >= 0) {
+                    origin[j] = j;
+                    lower = 0;
+                    upper = half;
+                } else {
+                    origin[j] = j + 1;
+                    lower = -half;
+                    upper = 0;
+                }
+            } else {
+                origin[j] = j;
+                lower = 0;
+                upper = rho;
+            }
+            tau[j] = secularRoot(dd, zz, rho, origin[j], lower, upper);
+            lambda[kept[j]] = dd[origin[j]] + tau[j];
+        }
+        double[] zHat = new double[count];
+        for (int i = 0; i < count; i++) {
+            double product = -delta(dd, origin, tau, i, i) / rho;
+            for (int j = 0; j < count; j++) {
+                if (j != i) {
+                    product *= delta(dd, origin, tau, i, j) / (dd[i] - dd[j]);
+                }
+            }
+            zHat[i] = Math.copySign(Math.sqrt(Math.abs(product)), zz[i]);
+        }
+        double[] u = new double[count * count];
+        for (int j = 0; j < count; j++) {
+            double norm = 0;
+            for (int i = 0; i < count; i++) {
+                double value = zHat[i] / delta(dd, origin, tau, i, j);
+                u[i * count + j] = value;
+                norm += value * value;
+            }
+            norm = Math.sqrt(norm);
+            for (int i = 0; i < count; i++) {
+                u[i * count + j] /= norm;
+            }
+        }
+        return u;
+    }
+
+    private static double delta(double[] dd, int[] origin, double[] tau, int i, int j) {
+        return (dd[i] - dd[origin[j]]) - tau[j];
+    }
+
+    private static double secularFunction(double[] dd, double[] zz, double rho, int origin, double tau) {
+        double sum = 0;
+        double base = dd[origin];
+        for (int i = 0; i < dd.length; i++) {
+            sum += zz[i] * zz[i] / ((dd[i] - base) - tau);
+        }
+        return 1 + rho * sum;
+    }
+
+    private static double secularRoot(double[] dd, double[] zz, double rho, int origin, double lower, double upper) {
+        double base = dd[origin];
+        double tau = (lower + upper) / 2;
+        for (int iteration = 0; iteration < MAX_SECULAR_ITERATIONS; iteration++) {
+            double f = 1;
+            double derivative = 0;
+            for (int i = 0; i < dd.length; i++) {
+                double inverse = 1 / ((dd[i] - base) - tau);
+                double term = zz[i] * zz[i] * inverse;
+                f += rho * term;
+                derivative += rho * term * inverse;
+            }
+            if (f == 0) {
+                return tau;
+            }
+            if (f < 0) {
+                lower = tau;
+            } else {
+                upper = tau;
+            }
+            double next = tau - f / derivative;
+            if (!(next > lower && next < upper)) {
+                next = (lower + upper) / 2;
+            }
+            if (next == lower || next == upper || Math.abs(next - tau) <= 2 * Math.ulp(tau)) {
+                return next;
+            }
+            tau = next;
+        }
+        return tau;
+    }
+
+    private void requireVectors() {
+        if (vectors == null) {
+            throw new IllegalStateException("eigenvectors were not computed");
+        }
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public boolean hasEigenvectors() {
+        return vectors != null;
+    }
+
+    public Vector getEigenvalues() {
+        return new ArrayVector(values.clone());
+    }
+
+    public double getEigenvalue(int index) {
+        return values[index];
+    }
+
+    public Matrix getD() {
+        Matrix result = new ArrayMatrix(n, n);
+        for (int i = 0; i < n; i++) {
+            result.setUnsafe(i, i, values[i]);
+        }
+        return result;
+    }
+
+    public Matrix getV() {
+        requireVectors();
+        return rows(vectors, n, n);
+    }
+
+    public Vector getEigenvector(int index) {
+        requireVectors();
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = vectors[i * n + index];
+        }
+        return new ArrayVector(result);
+    }
+}
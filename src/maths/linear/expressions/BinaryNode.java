@@ -0,0 +1,54 @@
+package maths.linear.expressions;
+
+import maths.linear.kernels.BinaryKernel;
+
+import java.util.function.DoubleBinaryOperator;
+
+final class BinaryNode extends Node {
+
+    private final Node left;
+    private final Node right;
+    private final BinaryKernel kernel;
+    private final DoubleBinaryOperator operator;
+
+    BinaryNode(Node left, Node right, BinaryKernel kernel) {
+        this(left, right, kernel, null);
+    }
+
+    BinaryNode(Node left, Node right, DoubleBinaryOperator operator) {
+        this(left, right, null, operator);
+    }
+
+    private BinaryNode(Node left, Node right, BinaryKernel kernel, DoubleBinaryOperator operator) {
+        this.left = left;
+        this.right = right;
+        this.kernel = kernel;
+        this.operator = operator;
+    }
+
+    @Override
+    Evaluator evaluator(boolean transposed, int capacity) {
+        Evaluator leftEvaluator = left.evaluator(transposed, capacity);
+        Evaluator rightEvaluator = right.evaluator(transposed, capacity);
+        double[] scratch = new double[capacity];
+        if (kernel != null) {
+            return (index, length, out) -> {
+                leftEvaluator.fill(index, length, out);
+                rightEvaluator.fill(index, length, scratch);
+                kernel.apply(out, 0, scratch, 0, out, 0, length);
+            };
+        }
+        return (index, length, out) -> {
+            leftEvaluator.fill(index, length, out);
+            rightEvaluator.fill(index, length, scratch);
+            for (int k = 0; k < length; k++) {
+                out[k] = operator.applyAsDouble(out[k], scratch[k]);
+            }
+        };
+    }
+
+    @Override
+    boolean aliases(Object target, boolean transposed) {
+        return left.aliases(target, transposed) || right.aliases(target, transposed);
+    }
+}
@@ -0,0 +1,7 @@
+package maths.linear.expressions;
+
+@FunctionalInterface
+interface Evaluator {
+
+    void fill(int index, int length, double[] out);
+}
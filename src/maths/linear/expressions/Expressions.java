@@ -0,0 +1,27 @@
+package maths.linear.expressions;
+
+import maths.linear.matrices.Matrix;
+import maths.linear.tensors.Tensor;
+import maths.linear.vectors.Vector;
+
+import java.util.Objects;
+
+public final class Expressions {
+
+    private Expressions() {}
+
+    public static MatrixExpression of(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        return new MatrixExpression(new MatrixLeaf(matrix), matrix.height(), matrix.width());
+    }
+
+    public static VectorExpression of(Vector vector) {
+        Objects.requireNonNull(vector);
+        return new VectorExpression(new VectorLeaf(vector), vector.size());
+    }
+
+    public static TensorExpression of(Tensor tensor) {
+        Objects.requireNonNull(tensor);
+        return new TensorExpression(new TensorLeaf(tensor), tensor.sizes());
+    }
+}
@@ -0,0 +1,30 @@
+package maths.linear.expressions;
+
+import java.util.function.DoubleUnaryOperator;
+
+final class MapNode extends Node {
+
+    private final Node child;
+    private final DoubleUnaryOperator operator;
+
+    MapNode(Node child, DoubleUnaryOperator operator) {
+        this.child = child;
+        this.operator = operator;
+    }
+
+    @Override
+    Evaluator evaluator(boolean transposed, int capacity) {
+        Evaluator evaluator = child.evaluator(transposed, capacity);
+        return (index, length, out) -> {
+            evaluator.fill(index, length, out);
+            for (int k = 0; k < length; k++) {
+                out[k] = operator.applyAsDouble(out[k]);
+            }
+        };
+    }
+
+    @Override
+    boolean aliases(Object target, boolean transposed) {
+        return child.aliases(target, transposed);
+    }
+}
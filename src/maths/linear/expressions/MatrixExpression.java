@@ -0,0 +1,147 @@
+package maths.linear.expressions;
+
+import maths.linear.ExecutionPolicy;
+import maths.linear.kernels.BinaryKernel;
+import maths.linear.kernels.Kernels;
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.Matrices;
+import maths.linear.matrices.Matrix;
+
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+public final class MatrixExpression {
+
+    private final Node node;
+    private final int height;
+    private final int width;
+
+    MatrixExpression(Node node, int height, int width) {
+        this.node = node;
+        this.height = height;
+        this.width = width;
+    }
+
+    private static void illError(String message) {
+        throw new IllegalArgumentException(message);
+    }
+
+    private void checkCongruous(int otherHeight, int otherWidth) {
+        if (height != otherHeight || width != otherWidth) {
+            illError("incongruous sizes of arguments: " +
+                    "(" + height + ", " + width + "), (" + otherHeight + ", " + otherWidth + ")");
+        }
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    private MatrixExpression binary(MatrixExpression other, BinaryKernel kernel) {
+        Objects.requireNonNull(other);
+        checkCongruous(other.height, other.width);
+        return new MatrixExpression(new BinaryNode(node, other.node, kernel), height, width);
+    }
+
+    public MatrixExpression add(MatrixExpression other) {
+        return binary(other, Kernels::add);
+    }
+
+    public MatrixExpression add(Matrix other) {
+        return add(Expressions.of(other));
+    }
+
+    public MatrixExpression subtract(MatrixExpression other) {
+        return binary(other, Kernels::subtract);
+    }
+
+    public MatrixExpression subtract(Matrix other) {
+        return subtract(Expressions.of(other));
+    }
+
+    public MatrixExpression multiply(MatrixExpression other) {
+        return binary(other, Kernels::multiply);
+    }
+
+    public MatrixExpression multiply(Matrix other) {
+        return multiply(Expressions.of(other));
+    }
+
+    public MatrixExpression divide(MatrixExpression other) {
+        return binary(other, Kernels::divide);
+    }
+
+    public MatrixExpression divide(Matrix other) {
+        return divide(Expressions.of(other));
+    }
+
+    public MatrixExpression applyElementByElement(MatrixExpression other, DoubleBinaryOperator operator) {
+        Objects.requireNonNull(other);
+        Objects.requireNonNull(operator);
+        checkCongruous(other.height, other.width);
+        return new MatrixExpression(new BinaryNode(node, other.node, operator), height, width);
+    }
+
+    public MatrixExpression applyElementByElement(Matrix other, DoubleBinaryOperator operator) {
+        return applyElementByElement(Expressions.of(other), operator);
+    }
+
+    public MatrixExpression applyForEach(DoubleUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        return new MatrixExpression(new MapNode(node, operator), height, width);
+    }
+
+    public MatrixExpression scale(double scalar) {
+        return new MatrixExpression(new ScaleNode(node, scalar), height, width);
+    }
+
+    public MatrixExpression negate() {
+        return scale(-1);
+    }
+
+    public MatrixExpression transpose() {
+        return new MatrixExpression(new TransposeNode(node), width, height);
+    }
+
+    public Matrix evaluate() {
+        return evaluate(Matrices.getExecutionPolicy());
+    }
+
+    public Matrix evaluate(ExecutionPolicy policy) {
+        Objects.requireNonNull(policy);
+        Matrix result = new ArrayMatrix(height, width);
+        write(result, policy);
+        return result;
+    }
+
+    public void evaluateInto(Matrix dest) {
+        evaluateInto(dest, Matrices.getExecutionPolicy());
+    }
+
+    public void evaluateInto(Matrix dest, ExecutionPolicy policy) {
+        Objects.requireNonNull(dest);
+        Objects.requireNonNull(policy);
+        checkCongruous(dest.height(), dest.width());
+        if (node.aliases(dest, false)) {
+            Expressions.of(evaluate(policy)).write(dest, policy);
+            return;
+        }
+        write(dest, policy);
+    }
+
+    private void write(Matrix dest, ExecutionPolicy policy) {
+        policy.forEachRange(height, (long) height * width, (from, to) -> {
+            Evaluator evaluator = node.evaluator(false, width);
+            double[] row = new double[width];
+            for (int i = from; i < to; i++) {
+                evaluator.fill(i, width, row);
+                dest.setRow(i, row);
+            }
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package maths.linear.expressions;
+
+import maths.linear.matrices.DenseMatrix;
+import maths.linear.matrices.Matrix;
+
+final class MatrixLeaf extends Node {
+
+    private final Matrix matrix;
+
+    MatrixLeaf(Matrix matrix) {
+        this.matrix = matrix;
+    }
+
+    @Override
+    Evaluator evaluator(boolean transposed, int capacity) {
+        if (transposed) {
+            return (index, length, out) -> {
+                for (int k = 0; k < length; k++) {
+                    out[k] = matrix.getUnsafe(k, index);
+                }
+            };
+        }
+        return (index, length, out) -> matrix.getRow(index, out);
+    }
+
+    @Override
+    boolean aliases(Object target, boolean transposed) {
+        if (target == matrix) {
+            return transposed;
+        } else if (target instanceof DenseMatrix && matrix instanceof DenseMatrix) {
+            DenseMatrix dest = (DenseMatrix) target;
+            DenseMatrix source = (DenseMatrix) matrix;
+            return dest.sharesStorage(source) && (transposed || !dest.hasSameLayout(source));
+        }
+        return false;
+    }
+}
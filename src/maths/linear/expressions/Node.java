@@ -0,0 +1,8 @@
+package maths.linear.expressions;
+
+abstract class Node {
+
+    abstract Evaluator evaluator(boolean transposed, int capacity);
+
+    abstract boolean aliases(Object target, boolean transposed);
+}
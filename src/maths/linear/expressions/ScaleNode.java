@@ -0,0 +1,28 @@
+package maths.linear.expressions;
+
+import maths.linear.kernels.Kernels;
+
+final class ScaleNode extends Node {
+
+    private final Node child;
+    private final double scalar;
+
+    ScaleNode(Node child, double scalar) {
+        this.child = child;
+        this.scalar = scalar;
+    }
+
+    @Override
+    Evaluator evaluator(boolean transposed, int capacity) {
+        Evaluator evaluator = child.evaluator(transposed, capacity);
+        return (index, length, out) -> {
+            evaluator.fill(index, length, out);
+            Kernels.scale(scalar, out, 0, out, 0, length);
+        };
+    }
+
+    @Override
+    boolean aliases(Object target, boolean transposed) {
+        return child.aliases(target, transposed);
+    }
+}
@@ -0,0 +1,148 @@
+package maths.linear.expressions;
+
+import maths.linear.ExecutionPolicy;
+import maths.linear.kernels.BinaryKernel;
+import maths.linear.kernels.Kernels;
+import maths.linear.tensors.DenseTensor;
+import maths.linear.tensors.Tensor;
+import maths.linear.tensors.Tensors;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+public final class TensorExpression {
+
+    private static final int BLOCK = 1024;
+
+    private final Node node;
+    private final int[] sizes;
+    private final int length;
+
+    TensorExpression(Node node, int[] sizes) {
+        this.node = node;
+        this.sizes = sizes;
+        int result = 1;
+        for (int size : sizes) {
+            result = Math.multiplyExact(result, size);
+        }
+        this.length = result;
+    }
+
+    private void checkSizes(int[] otherSizes) {
+        if (!Arrays.equals(sizes, otherSizes)) {
+            throw new IllegalArgumentException("unequal sizes of arguments: " + Arrays.toString(sizes) + ", " + Arrays.toString(otherSizes));
+        }
+    }
+
+    public int[] sizes() {
+        return Arrays.copyOf(sizes, sizes.length);
+    }
+
+    private TensorExpression binary(TensorExpression other, BinaryKernel kernel) {
+        Objects.requireNonNull(other);
+        checkSizes(other.sizes);
+        return new TensorExpression(new BinaryNode(node, other.node, kernel), sizes);
+    }
+
+    public TensorExpression add(TensorExpression other) {
+        return binary(other, Kernels::add);
+    }
+
+    public TensorExpression add(Tensor other) {
+        return add(Expressions.of(other));
+    }
+
+    public TensorExpression subtract(TensorExpression other) {
+        return binary(other, Kernels::subtract);
+    }
+
+    public TensorExpression subtract(Tensor other) {
+        return subtract(Expressions.of(other));
+    }
+
+    public TensorExpression multiply(TensorExpression other) {
+        return binary(other, Kernels::multiply);
+    }
+
+    public TensorExpression multiply(Tensor other) {
+        return multiply(Expressions.of(other));
+    }
+
+    public TensorExpression divide(TensorExpression other) {
+        return binary(other, Kernels::divide);
+    }
+
+    public TensorExpression divide(Tensor other) {
+        return divide(Expressions.of(other));
+    }
+
+    public TensorExpression applyElementByElement(TensorExpression other, DoubleBinaryOperator operator) {
+        Objects.requireNonNull(other);
+        Objects.requireNonNull(operator);
+        checkSizes(other.sizes);
+        return new TensorExpression(new BinaryNode(node, other.node, operator), sizes);
+    }
+
+    public TensorExpression applyElementByElement(Tensor other, DoubleBinaryOperator operator) {
+        return applyElementByElement(Expressions.of(other), operator);
+    }
+
+    public TensorExpression applyForEach(DoubleUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        return new TensorExpression(new MapNode(node, operator), sizes);
+    }
+
+    public TensorExpression scale(double scalar) {
+        return new TensorExpression(new ScaleNode(node, scalar), sizes);
+    }
+
+    public TensorExpression negate() {
+        return scale(-1);
+    }
+
+    public Tensor evaluate() {
+        return evaluate(Tensors.getExecutionPolicy());
+    }
+
+    public Tensor evaluate(ExecutionPolicy policy) {
+        Objects.requireNonNull(policy);
+        Tensor result = new DenseTensor(sizes);
+        write(result, policy);
+        return result;
+    }
+
+    public void evaluateInto(Tensor dest) {
+        evaluateInto(dest, Tensors.getExecutionPolicy());
+    }
+
+    public void evaluateInto(Tensor dest, ExecutionPolicy policy) {
+        Objects.requireNonNull(dest);
+        Objects.requireNonNull(policy);
+        checkSizes(dest.sizes());
+        if (node.aliases(dest, false)) {
+            Expressions.of(evaluate(policy)).write(dest, policy);
+            return;
+        }
+        write(dest, policy);
+    }
+
+    private void write(Tensor dest, ExecutionPolicy policy) {
+        policy.forEachRange(length, length, (from, to) -> {
+            int capacity = Math.min(BLOCK, to - from);
+            Evaluator evaluator = node.evaluator(false, capacity);
+            double[] block = new double[capacity];
+            int[] indexes = new int[sizes.length];
+            TensorLeaf.position(from, sizes, indexes);
+            for (int start = from; start < to; start += capacity) {
+                int count = Math.min(capacity, to - start);
+                evaluator.fill(start, count, block);
+                for (int k = 0; k < count; k++) {
+                    dest.setUnsafe(block[k], indexes);
+                    TensorLeaf.increment(indexes, sizes);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package maths.linear.expressions;
+
+import maths.linear.tensors.DenseTensor;
+import maths.linear.tensors.Tensor;
+
+final class TensorLeaf extends Node {
+
+    private final Tensor tensor;
+    private final int[] sizes;
+
+    TensorLeaf(Tensor tensor) {
+        this.tensor = tensor;
+        this.sizes = tensor.sizes();
+    }
+
+    static void position(int index, int[] sizes, int[] indexes) {
+        for (int i = sizes.length - 1; i >= 0; i--) {
+            indexes[i] = index % sizes[i];
+            index /= sizes[i];
+        }
+    }
+
+    static void increment(int[] indexes, int[] sizes) {
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            if (++indexes[i] < sizes[i]) {
+                return;
+            }
+            indexes[i] = 0;
+        }
+    }
+
+    @Override
+    Evaluator evaluator(boolean transposed, int capacity) {
+        int[] indexes = new int[sizes.length];
+        return (index, length, out) -> {
+            position(index, sizes, indexes);
+            for (int k = 0; k < length; k++) {
+                out[k] = tensor.getUnsafe(indexes);
+                increment(indexes, sizes);
+            }
+        };
+    }
+
+    @Override
+    boolean aliases(Object target, boolean transposed) {
+        if (target instanceof DenseTensor && tensor instanceof DenseTensor) {
+            DenseTensor dest = (DenseTensor) target;
+            DenseTensor source = (DenseTensor) tensor;
+            return dest.sharesStorage(source) && !dest.hasSameLayout(source);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,20 @@
+package maths.linear.expressions;
+
+final class TransposeNode extends Node {
+
+    private final Node child;
+
+    TransposeNode(Node child) {
+        this.child = child;
+    }
+
+    @Override
+    Evaluator evaluator(boolean transposed, int capacity) {
+        return child.evaluator(!transposed, capacity);
+    }
+
+    @Override
+    boolean aliases(Object target, boolean transposed) {
+        return child.aliases(target, !transposed);
+    }
+}
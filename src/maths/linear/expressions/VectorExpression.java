@@ -0,0 +1,138 @@
+package maths.linear.expressions;
+
+import maths.linear.ExecutionPolicy;
+import maths.linear.kernels.BinaryKernel;
+import maths.linear.kernels.Kernels;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+import maths.linear.vectors.Vectors;
+
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+public final class VectorExpression {
+
+    private static final int BLOCK = 1024;
+
+    private final Node node;
+    private final int size;
+
+    VectorExpression(Node node, int size) {
+        this.node = node;
+        this.size = size;
+    }
+
+    private void checkSize(int otherSize) {
+        if (size != otherSize) {
+            throw new IllegalArgumentException("unequal sizes of arguments: " + size + ", " + otherSize);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private VectorExpression binary(VectorExpression other, BinaryKernel kernel) {
+        Objects.requireNonNull(other);
+        checkSize(other.size);
+        return new VectorExpression(new BinaryNode(node, other.node, kernel), size);
+    }
+
+    public VectorExpression add(VectorExpression other) {
+        return binary(other, Kernels::add);
+    }
+
+    public VectorExpression add(Vector other) {
+        return add(Expressions.of(other));
+    }
+
+    public VectorExpression subtract(VectorExpression other) {
+        return binary(other, Kernels::subtract);
+    }
+
+    public VectorExpression subtract(Vector other) {
+        return subtract(Expressions.of(other));
+    }
+
+    public VectorExpression multiply(VectorExpression other) {
+        return binary(other, Kernels::multiply);
+    }
+
+    public VectorExpression multiply(Vector other) {
+        return multiply(Expressions.of(other));
+    }
+
+    public VectorExpression divide(VectorExpression other) {
+        return binary(other, Kernels::divide);
+    }
+
+    public VectorExpression divide(Vector other) {
+        return divide(Expressions.of(other));
+    }
+
+    public VectorExpression applyElementByElement(VectorExpression other, DoubleBinaryOperator operator) {
+        Objects.requireNonNull(other);
+        Objects.requireNonNull(operator);
+        checkSize(other.size);
+        return new VectorExpression(new BinaryNode(node, other.node, operator), size);
+    }
+
+    public VectorExpression applyElementByElement(Vector other, DoubleBinaryOperator operator) {
+        return applyElementByElement(Expressions.of(other), operator);
+    }
+
+    public VectorExpression applyForEach(DoubleUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        return new VectorExpression(new MapNode(node, operator), size);
+    }
+
+    public VectorExpression scale(double scalar) {
+        return new VectorExpression(new ScaleNode(node, scalar), size);
+    }
+
+    public VectorExpression negate() {
+        return scale(-1);
+    }
+
+    public Vector evaluate() {
+        return evaluate(Vectors.getExecutionPolicy());
+    }
+
+    public Vector evaluate(ExecutionPolicy policy) {
+        Objects.requireNonNull(policy);
+        Vector result = new ArrayVector(size);
+        write(result, policy);
+        return result;
+    }
+
+    public void evaluateInto(Vector dest) {
+        evaluateInto(dest, Vectors.getExecutionPolicy());
+    }
+
+    public void evaluateInto(Vector dest, ExecutionPolicy policy) {
+        Objects.requireNonNull(dest);
+        Objects.requireNonNull(policy);
+        checkSize(dest.size());
+        if (node.aliases(dest, false)) {
+            Expressions.of(evaluate(policy)).write(dest, policy);
+            return;
+        }
+        write(dest, policy);
+    }
+
+    private void write(Vector dest, ExecutionPolicy policy) {
+        policy.forEachRange(size, size, (from, to) -> {
+            int capacity = Math.min(BLOCK, to - from);
+            Evaluator evaluator = node.evaluator(false, capacity);
+            double[] block = new double[capacity];
+            for (int start = from; start < to; start += capacity) {
+                int length = Math.min(capacity, to - start);
+                evaluator.fill(start, length, block);
+                for (int k = 0; k < length; k++) {
+                    dest.setUnsafe(start + k, block[k]);
+                }
+            }
+        });
+    }
+}
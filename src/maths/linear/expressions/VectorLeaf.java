@@ -0,0 +1,32 @@
+package maths.linear.expressions;
+
+import maths.linear.vectors.DenseVector;
+import maths.linear.vectors.Vector;
+
+final class VectorLeaf extends Node {
+
+    private final Vector vector;
+
+    VectorLeaf(Vector vector) {
+        this.vector = vector;
+    }
+
+    @Override
+    Evaluator evaluator(boolean transposed, int capacity) {
+        return (index, length, out) -> {
+            for (int k = 0; k < length; k++) {
+                out[k] = vector.getUnsafe(index + k);
+            }
+        };
+    }
+
+    @Override
+    boolean aliases(Object target, boolean transposed) {
+        if (target instanceof DenseVector && vector instanceof DenseVector) {
+            DenseVector dest = (DenseVector) target;
+            DenseVector source = (DenseVector) vector;
+            return dest.sharesStorage(source) && !dest.hasSameLayout(source);
+        }
+        return false;
+    }
+}
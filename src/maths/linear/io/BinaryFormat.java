@@ -0,0 +1,344 @@
+package maths.linear.io;
+
+import maths.linear.matrices.AbstractSparseMatrix;
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.CscMatrix;
+import maths.linear.matrices.Matrix;
+import maths.linear.matrices.SensitiveArrayMatrix;
+import maths.linear.matrices.SparseMatrixBuilder;
+import maths.linear.tensors.DenseTensor;
+import maths.linear.tensors.Tensor;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.SensitiveArrayVector;
+import maths.linear.vectors.Vector;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+public final class BinaryFormat {
+
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x4C4E5242;
+    private static final int PREFIX_SIZE = 16;
+    static final int BUFFER_SIZE = 1 << 20;
+    private static final int CHUNK = 1 << 13;
+
+    private static final byte VECTOR = 1;
+    private static final byte MATRIX = 2;
+    private static final byte TENSOR = 3;
+
+    private static final byte FLOAT64 = 1;
+
+    private static final byte BIG_ENDIAN = 0;
+    private static final byte LITTLE_ENDIAN = 1;
+
+    private static final byte DENSE = 0;
+    private static final byte SPARSE_ROWS = 1;
+    private static final byte SPARSE_COLUMNS = 2;
+
+    private BinaryFormat() {}
+
+    private static void error(String message) throws IOException {
+        throw new IOException(message);
+    }
+
+    private static String kindName(byte kind) {
+        return switch (kind) {
+            case VECTOR -> "vector";
+            case MATRIX -> "matrix";
+            case TENSOR -> "tensor";
+            default -> "unknown kind " + kind;
+        };
+    }
+
+    private static void writeHeader(ChannelWriter writer, byte kind, byte layout, int[] sizes, long nonZeros,
+                                    ByteOrder order) throws IOException {
+        writer.order(ByteOrder.BIG_ENDIAN);
+        writer.putInt(MAGIC);
+        writer.putByte((byte) VERSION);
+        writer.putByte(kind);
+        writer.putByte(FLOAT64);
+        writer.putByte(order == ByteOrder.BIG_ENDIAN ? BIG_ENDIAN : LITTLE_ENDIAN);
+        writer.putByte(layout);
+        writer.putByte((byte) 0);
+        writer.putByte((byte) 0);
+        writer.putByte((byte) 0);
+        writer.putInt(sizes.length);
+        for (int size : sizes) {
+            writer.putInt(size);
+        }
+        if (layout != DENSE) {
+            writer.putLong(nonZeros);
+        }
+        writer.order(order);
+    }
+
+    private static Header readHeader(ChannelReader reader, byte expected) throws IOException {
+        reader.order(ByteOrder.BIG_ENDIAN);
+        reader.expect(PREFIX_SIZE);
+        int magic = reader.getInt();
+        int version = reader.getByte();
+        byte kind = reader.getByte();
+        byte dtype = reader.getByte();
+        byte flag = reader.getByte();
+        byte layout = reader.getByte();
+        reader.getByte();
+        reader.getByte();
+        reader.getByte();
+        int rank = reader.getInt();
+        if (magic != MAGIC) {
+            error("invalid magic number " + Integer.toHexString(magic));
+        } else if (version != VERSION) {
+            error("unsupported format version = " + version);
+        } else if (kind != expected) {
+            error("expected " + kindName(expected) + ", but found " + kindName(kind));
+        } else if (dtype != FLOAT64) {
+            error("unsupported element type = " + dtype);
+        } else if (flag != BIG_ENDIAN && flag != LITTLE_ENDIAN) {
+            error("unknown byte order flag = " + flag);
+        } else if (layout != DENSE && (kind != MATRIX || layout != SPARSE_ROWS && layout != SPARSE_COLUMNS)) {
+            error("unsupported layout = " + layout + " for " + kindName(kind));
+        } else if (rank <= 0 || kind == VECTOR && rank != 1 || kind == MATRIX && rank != 2) {
+            error("invalid rank = " + rank + " for " + kindName(kind));
+        }
+        reader.expect((long) rank * Integer.BYTES + (layout != DENSE ? Long.BYTES : 0));
+        int[] sizes = new int[rank];
+        long length = 1;
+        for (int i = 0; i < rank; i++) {
+            sizes[i] = reader.getInt();
+            if (sizes[i] <= 0) {
+                error("invalid size = " + sizes[i] + " at depth = " + i);
+            }
+            length *= sizes[i];
+            if (length > Integer.MAX_VALUE) {
+                error("can not read object with more than " + Integer.MAX_VALUE + " elements");
+            }
+        }
+        long nonZeros = layout != DENSE ? reader.getLong() : length;
+        if (nonZeros < 0 || nonZeros > length) {
+            error("invalid count of non zeros = " + nonZeros + " for " + length + " elements");
+        }
+        reader.order(flag == BIG_ENDIAN ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        return new Header(layout, sizes, (int) nonZeros);
+    }
+
+    public static void write(Vector vector, WritableByteChannel channel) throws IOException {
+        write(vector, channel, ByteOrder.nativeOrder());
+    }
+
+    public static void write(Vector vector, WritableByteChannel channel, ByteOrder order) throws IOException {
+        write(vector, new ChannelWriter(Objects.requireNonNull(channel), BUFFER_SIZE), order);
+    }
+
+    static void write(Vector vector, ChannelWriter writer, ByteOrder order) throws IOException {
+        Objects.requireNonNull(vector);
+        Objects.requireNonNull(order);
+        writeHeader(writer, VECTOR, DENSE, new int[]{vector.size()}, vector.size(), order);
+        double[] values;
+        if (vector instanceof ArrayVector) {
+            values = ((ArrayVector) vector).array();
+        } else if (vector instanceof SensitiveArrayVector) {
+            values = ((SensitiveArrayVector) vector).array();
+        } else {
+            values = new double[vector.size()];
+            vector.copyTo(values);
+        }
+        writer.putDoubles(values, 0, vector.size());
+        writer.flush();
+    }
+
+    public static Vector readVector(ReadableByteChannel channel) throws IOException {
+        return readVector(new ChannelReader(Objects.requireNonNull(channel), BUFFER_SIZE));
+    }
+
+    static Vector readVector(ChannelReader reader) throws IOException {
+        Header header = readHeader(reader, VECTOR);
+        ArrayVector result = new ArrayVector(header.sizes[0]);
+        reader.expect((long) result.size() * Double.BYTES);
+        reader.getDoubles(result.array(), 0, result.size());
+        return result;
+    }
+
+    public static void write(Matrix matrix, WritableByteChannel channel) throws IOException {
+        write(matrix, channel, ByteOrder.nativeOrder());
+    }
+
+    public static void write(Matrix matrix, WritableByteChannel channel, ByteOrder order) throws IOException {
+        write(matrix, new ChannelWriter(Objects.requireNonNull(channel), BUFFER_SIZE), order);
+    }
+
+    static void write(Matrix matrix, ChannelWriter writer, ByteOrder order) throws IOException {
+        Objects.requireNonNull(matrix);
+        Objects.requireNonNull(order);
+        int[] sizes = {matrix.height(), matrix.width()};
+        if (matrix instanceof AbstractSparseMatrix) {
+            AbstractSparseMatrix sparse = (AbstractSparseMatrix) matrix;
+            writeHeader(writer, MATRIX, sparse instanceof CscMatrix ? SPARSE_COLUMNS : SPARSE_ROWS, sizes,
+                    sparse.nonZeros(), order);
+            IOException[] failure = new IOException[1];
+            sparse.forEachNonZero((i, j, value) -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    writer.putInt(i);
+                    writer.putInt(j);
+                    writer.putDouble(value);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            writer.flush();
+            return;
+        }
+        writeHeader(writer, MATRIX, DENSE, sizes, (long) sizes[0] * sizes[1], order);
+        double[][] rows = null;
+        if (matrix instanceof ArrayMatrix) {
+            rows = ((ArrayMatrix) matrix).array();
+        } else if (matrix instanceof SensitiveArrayMatrix) {
+            rows = ((SensitiveArrayMatrix) matrix).array();
+        }
+        double[] row = rows == null ? new double[matrix.width()] : null;
+        for (int i = 0; i < matrix.height(); i++) {
+            if (rows == null) {
+                matrix.getRow(i, row);
+            }
+            writer.putDoubles(rows != null ? rows[i] : row, 0, matrix.width());
+        }
+        writer.flush();
+    }
+
+    public static Matrix readMatrix(ReadableByteChannel channel) throws IOException {
+        return readMatrix(new ChannelReader(Objects.requireNonNull(channel), BUFFER_SIZE));
+    }
+
+    static Matrix readMatrix(ChannelReader reader) throws IOException {
+        Header header = readHeader(reader, MATRIX);
+        int height = header.sizes[0];
+        int width = header.sizes[1];
+        if (header.layout == DENSE) {
+            ArrayMatrix result = new ArrayMatrix(height, width);
+            reader.expect((long) height * width * Double.BYTES);
+            for (double[] row : result.array()) {
+                reader.getDoubles(row, 0, width);
+            }
+            return result;
+        }
+        SparseMatrixBuilder builder = new SparseMatrixBuilder(height, width);
+        reader.expect((long) header.nonZeros * (2 * Integer.BYTES + Double.BYTES));
+        for (int k = 0; k < header.nonZeros; k++) {
+            int i = reader.getInt();
+            int j = reader.getInt();
+            double value = reader.getDouble();
+            if (i < 0 || i >= height || j < 0 || j >= width) {
+                error("non zero at (" + i + ", " + j + ") out of bounds for sizes (" + height + ", " + width + ")");
+            }
+            builder.add(i, j, value);
+        }
+        return header.layout == SPARSE_ROWS ? builder.buildCsr() : builder.buildCsc();
+    }
+
+    public static void write(Tensor tensor, WritableByteChannel channel) throws IOException {
+        write(tensor, channel, ByteOrder.nativeOrder());
+    }
+
+    public static void write(Tensor tensor, WritableByteChannel channel, ByteOrder order) throws IOException {
+        write(tensor, new ChannelWriter(Objects.requireNonNull(channel), BUFFER_SIZE), order);
+    }
+
+    static void write(Tensor tensor, ChannelWriter writer, ByteOrder order) throws IOException {
+        Objects.requireNonNull(tensor);
+        Objects.requireNonNull(order);
+        int[] sizes = tensor.sizes();
+        long length = 1;
+        for (int size : sizes) {
+            length *= size;
+        }
+        writeHeader(writer, TENSOR, DENSE, sizes, length, order);
+        double[] chunk = new double[(int) Math.min(length, CHUNK)];
+        int[] indexes = new int[sizes.length];
+        for (long written = 0; written < length; written += chunk.length) {
+            int count = (int) Math.min(chunk.length, length - written);
+            for (int k = 0; k < count; k++) {
+                chunk[k] = tensor.getUnsafe(indexes);
+                increment(indexes, sizes);
+            }
+            writer.putDoubles(chunk, 0, count);
+        }
+        writer.flush();
+    }
+
+    private static void increment(int[] indexes, int[] sizes) {
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            if (++indexes[i] < sizes[i]) {
+                return;
+            }
+            indexes[i] = 0;
+        }
+    }
+
+    public static Tensor readTensor(ReadableByteChannel channel) throws IOException {
+        return readTensor(new ChannelReader(Objects.requireNonNull(channel), BUFFER_SIZE));
+    }
+
+    static Tensor readTensor(ChannelReader reader) throws IOException {
+        Header header = readHeader(reader, TENSOR);
+        double[] data = new double[header.nonZeros];
+        reader.expect((long) data.length * Double.BYTES);
+        reader.getDoubles(data, 0, data.length);
+        return DenseTensor.wrap(data, header.sizes);
+    }
+
+    private static FileChannel create(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    public static void save(Vector vector, Path path) throws IOException {
+        try (FileChannel channel = create(path)) {
+            write(vector, channel);
+        }
+    }
+
+    public static void save(Matrix matrix, Path path) throws IOException {
+        try (FileChannel channel = create(path)) {
+            write(matrix, channel);
+        }
+    }
+
+    public static void save(Tensor tensor, Path path) throws IOException {
+        try (FileChannel channel = create(path)) {
+            write(tensor, channel);
+        }
+    }
+
+    public static Vector loadVector(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readVector(channel);
+        }
+    }
+
+    public static Matrix loadMatrix(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readMatrix(channel);
+        }
+    }
+
+    public static Tensor loadTensor(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readTensor(channel);
+        }
+    }
+
+    private record Header(byte layout, int[] sizes, int nonZeros) {}
+}
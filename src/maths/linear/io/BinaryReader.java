@@ -0,0 +1,30 @@
+package maths.linear.io;
+
+import maths.linear.matrices.Matrix;
+import maths.linear.tensors.Tensor;
+import maths.linear.vectors.Vector;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+public final class BinaryReader {
+
+    private final ChannelReader reader;
+
+    public BinaryReader(ReadableByteChannel channel) {
+        this.reader = new ChannelReader(Objects.requireNonNull(channel), BinaryFormat.BUFFER_SIZE);
+    }
+
+    public Vector readVector() throws IOException {
+        return BinaryFormat.readVector(reader);
+    }
+
+    public Matrix readMatrix() throws IOException {
+        return BinaryFormat.readMatrix(reader);
+    }
+
+    public Tensor readTensor() throws IOException {
+        return BinaryFormat.readTensor(reader);
+    }
+}
@@ -0,0 +1,37 @@
+package maths.linear.io;
+
+import maths.linear.matrices.Matrix;
+import maths.linear.tensors.Tensor;
+import maths.linear.vectors.Vector;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+public final class BinaryWriter {
+
+    private final ChannelWriter writer;
+    private final ByteOrder order;
+
+    public BinaryWriter(WritableByteChannel channel) {
+        this(channel, ByteOrder.nativeOrder());
+    }
+
+    public BinaryWriter(WritableByteChannel channel, ByteOrder order) {
+        this.writer = new ChannelWriter(Objects.requireNonNull(channel), BinaryFormat.BUFFER_SIZE);
+        this.order = Objects.requireNonNull(order);
+    }
+
+    public void write(Vector vector) throws IOException {
+        BinaryFormat.write(vector, writer, order);
+    }
+
+    public void write(Matrix matrix) throws IOException {
+        BinaryFormat.write(matrix, writer, order);
+    }
+
+    public void write(Tensor tensor) throws IOException {
+        BinaryFormat.write(tensor, writer, order);
+    }
+}
@@ -0,0 +1,90 @@
+package maths.linear.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+
+final class ChannelReader {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final ReadableByteChannel channel;
+    private final int capacity;
+    private ByteBuffer buffer;
+    private long budget;
+
+    ChannelReader(ReadableByteChannel channel, int capacity) {
+        this.channel = channel;
+        this.capacity = capacity;
+        this.buffer = ByteBuffer.allocateDirect(Math.min(capacity, INITIAL_CAPACITY));
+        this.buffer.limit(0);
+    }
+
+    void order(ByteOrder order) {
+        buffer.order(order);
+    }
+
+    void expect(long bytes) {
+        budget += bytes;
+    }
+
+    private void require(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        if (buffer.capacity() < capacity && buffer.position() + budget > buffer.capacity()) {
+            ByteBuffer larger = ByteBuffer.allocateDirect((int) Math.min(capacity, buffer.position() + budget))
+                    .order(buffer.order());
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+        while (buffer.position() < bytes) {
+            if (budget <= 0) {
+                throw new IllegalStateException("read beyond the expected length of the object");
+            }
+            buffer.limit((int) Math.min(buffer.capacity(), buffer.position() + budget));
+            int read = channel.read(buffer);
+            if (read < 0) {
+                throw new EOFException("unexpected end of stream: required " + bytes +
+                        " bytes, but only " + buffer.position() + " available");
+            }
+            budget -= read;
+        }
+        buffer.flip();
+    }
+
+    byte getByte() throws IOException {
+        require(Byte.BYTES);
+        return buffer.get();
+    }
+
+    int getInt() throws IOException {
+        require(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    long getLong() throws IOException {
+        require(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    double getDouble() throws IOException {
+        require(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    void getDoubles(double[] dest, int offset, int length) throws IOException {
+        while (length > 0) {
+            require(Double.BYTES);
+            int count = Math.min(length, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().get(dest, offset, count);
+            buffer.position(buffer.position() + count * Double.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package maths.linear.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+
+final class ChannelWriter {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final WritableByteChannel channel;
+    private final int capacity;
+    private ByteBuffer buffer;
+
+    ChannelWriter(WritableByteChannel channel, int capacity) {
+        this.channel = channel;
+        this.capacity = capacity;
+        this.buffer = ByteBuffer.allocateDirect(Math.min(capacity, INITIAL_CAPACITY));
+    }
+
+    void order(ByteOrder order) {
+        buffer.order(order);
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        if (buffer.capacity() < capacity) {
+            int size = (int) Math.min(capacity, Math.max(2L * buffer.capacity(), (long) buffer.position() + bytes));
+            ByteBuffer larger = ByteBuffer.allocateDirect(size).order(buffer.order());
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    void putByte(byte value) throws IOException {
+        ensure(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    void putInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void putLong(long value) throws IOException {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    void putDouble(double value) throws IOException {
+        ensure(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    void putDoubles(double[] src, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensure((int) Math.min((long) length * Double.BYTES, capacity));
+            int count = Math.min(length, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(src, offset, count);
+            buffer.position(buffer.position() + count * Double.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,7 @@
+package maths.linear.kernels;
+
+@FunctionalInterface
+public interface BinaryKernel {
+
+    void apply(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length);
+}
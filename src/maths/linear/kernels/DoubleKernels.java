@@ -0,0 +1,28 @@
+package maths.linear.kernels;
+
+interface DoubleKernels {
+
+    int lanes();
+
+    double dot(double[] a, int aOffset, double[] b, int bOffset, int length);
+
+    void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length);
+
+    void scale(double alpha, double[] x, int xOffset, double[] dest, int destOffset, int length);
+
+    void add(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length);
+
+    void subtract(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length);
+
+    void multiply(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length);
+
+    void divide(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length);
+
+    double sum(double[] x, int offset, int length);
+
+    double sumOfSquares(double[] x, int offset, int length);
+
+    double min(double[] x, int offset, int length);
+
+    double max(double[] x, int offset, int length);
+}
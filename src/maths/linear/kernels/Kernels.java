@@ -0,0 +1,113 @@
+package maths.linear.kernels;
+
+import java.util.Objects;
+
+public final class Kernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String SCALAR_PROPERTY = "maths.linear.kernels.scalar";
+
+    private static final DoubleKernels KERNELS = load();
+
+    private Kernels() {}
+
+    private static DoubleKernels load() {
+        if (!Boolean.getBoolean(SCALAR_PROPERTY) && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                DoubleKernels kernels = (DoubleKernels) Class.forName("maths.linear.kernels.VectorKernels")
+                        .getDeclaredConstructor().newInstance();
+                if (kernels.lanes() > 1) {
+                    return kernels;
+                }
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return new ScalarKernels();
+            }
+        }
+        return new ScalarKernels();
+    }
+
+    private static void error(String message) {
+        throw new IllegalArgumentException(message);
+    }
+
+    private static void check(double[] array, int offset, int length) {
+        Objects.requireNonNull(array);
+        if (offset < 0 || length < 0 || offset > array.length - length) {
+            error("incorrect range for array.length = " + array.length + ": offset = " + offset + ", length = " + length);
+        }
+    }
+
+    public static boolean isVectorized() {
+        return KERNELS.lanes() > 1;
+    }
+
+    public static int lanes() {
+        return KERNELS.lanes();
+    }
+
+    public static double dot(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        check(a, aOffset, length);
+        check(b, bOffset, length);
+        return KERNELS.dot(a, aOffset, b, bOffset, length);
+    }
+
+    public static void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length) {
+        check(x, xOffset, length);
+        check(y, yOffset, length);
+        KERNELS.axpy(alpha, x, xOffset, y, yOffset, length);
+    }
+
+    public static void scale(double alpha, double[] x, int xOffset, double[] dest, int destOffset, int length) {
+        check(x, xOffset, length);
+        check(dest, destOffset, length);
+        KERNELS.scale(alpha, x, xOffset, dest, destOffset, length);
+    }
+
+    public static void add(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length) {
+        check(a, aOffset, length);
+        check(b, bOffset, length);
+        check(dest, destOffset, length);
+        KERNELS.add(a, aOffset, b, bOffset, dest, destOffset, length);
+    }
+
+    public static void subtract(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length) {
+        check(a, aOffset, length);
+        check(b, bOffset, length);
+        check(dest, destOffset, length);
+        KERNELS.subtract(a, aOffset, b, bOffset, dest, destOffset, length);
+    }
+
+    public static void multiply(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length) {
+        check(a, aOffset, length);
+        check(b, bOffset, length);
+        check(dest, destOffset, length);
+        KERNELS.multiply(a, aOffset, b, bOffset, dest, destOffset, length);
+    }
+
+    public static void divide(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length) {
+        check(a, aOffset, length);
+        check(b, bOffset, length);
+        check(dest, destOffset, length);
+        KERNELS.divide(a, aOffset, b, bOffset, dest, destOffset, length);
+    }
+
+    public static double sum(double[] x, int offset, int length) {
+        check(x, offset, length);
+        return KERNELS.sum(x, offset, length);
+    }
+
+    public static double norm(double[] x, int offset, int length) {
+        check(x, offset, length);
+        return Math.sqrt(KERNELS.sumOfSquares(x, offset, length));
+    }
+
+    public static double min(double[] x, int offset, int length) {
+        check(x, offset, length);
+        return KERNELS.min(x, offset, length);
+    }
+
+    public static double max(double[] x, int offset, int length) {
+        check(x, offset, length);
+        return KERNELS.max(x, offset, length);
+    }
+}
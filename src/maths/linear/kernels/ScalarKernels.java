@@ -0,0 +1,96 @@
+package maths.linear.kernels;
+
+final class ScalarKernels implements DoubleKernels {
+
+    @Override
+    public int lanes() {
+        return 1;
+    }
+
+    @Override
+    public double dot(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        double result = 0;
+        for (int i = 0; i < length; i++) {
+            result += a[aOffset + i] * b[bOffset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            y[yOffset + i] += alpha * x[xOffset + i];
+        }
+    }
+
+    @Override
+    public void scale(double alpha, double[] x, int xOffset, double[] dest, int destOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            dest[destOffset + i] = alpha * x[xOffset + i];
+        }
+    }
+
+    @Override
+    public void add(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            dest[destOffset + i] = a[aOffset + i] + b[bOffset + i];
+        }
+    }
+
+    @Override
+    public void subtract(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            dest[destOffset + i] = a[aOffset + i] - b[bOffset + i];
+        }
+    }
+
+    @Override
+    public void multiply(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            dest[destOffset + i] = a[aOffset + i] * b[bOffset + i];
+        }
+    }
+
+    @Override
+    public void divide(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            dest[destOffset + i] = a[aOffset + i] / b[bOffset + i];
+        }
+    }
+
+    @Override
+    public double sum(double[] x, int offset, int length) {
+        double result = 0;
+        for (int i = 0; i < length; i++) {
+            result += x[offset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public double sumOfSquares(double[] x, int offset, int length) {
+        double result = 0;
+        for (int i = 0; i < length; i++) {
+            result += x[offset + i] * x[offset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public double min(double[] x, int offset, int length) {
+        double result = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < length; i++) {
+            result = Math.min(result, x[offset + i]);
+        }
+        return result;
+    }
+
+    @Override
+    public double max(double[] x, int offset, int length) {
+        double result = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < length; i++) {
+            result = Math.max(result, x[offset + i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,157 @@
+package maths.linear.kernels;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.function.DoubleBinaryOperator;
+
+final class VectorKernels implements DoubleKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    @Override
+    public int lanes() {
+        return LANES;
+    }
+
+    @Override
+    public double dot(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+            acc = acc.add(x.mul(y));
+        }
+        double result = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += a[aOffset + i] * b[bOffset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            DoubleVector u = DoubleVector.fromArray(SPECIES, x, xOffset + i);
+            DoubleVector v = DoubleVector.fromArray(SPECIES, y, yOffset + i);
+            v.add(u.mul(alpha)).intoArray(y, yOffset + i);
+        }
+        for (; i < length; i++) {
+            y[yOffset + i] += alpha * x[xOffset + i];
+        }
+    }
+
+    @Override
+    public void scale(double alpha, double[] x, int xOffset, double[] dest, int destOffset, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, x, xOffset + i).mul(alpha).intoArray(dest, destOffset + i);
+        }
+        for (; i < length; i++) {
+            dest[destOffset + i] = alpha * x[xOffset + i];
+        }
+    }
+
+    private static void lanewise(VectorOperators.Binary vectorOperator, DoubleBinaryOperator operator,
+                                 double[] a, int aOffset, double[] b, int bOffset,
+                                 double[] dest, int destOffset, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+            x.lanewise(vectorOperator, y).intoArray(dest, destOffset + i);
+        }
+        for (; i < length; i++) {
+            dest[destOffset + i] = operator.applyAsDouble(a[aOffset + i], b[bOffset + i]);
+        }
+    }
+
+    @Override
+    public void add(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length) {
+        lanewise(VectorOperators.ADD, Double::sum, a, aOffset, b, bOffset, dest, destOffset, length);
+    }
+
+    @Override
+    public void subtract(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length) {
+        lanewise(VectorOperators.SUB, (x, y) -> x - y, a, aOffset, b, bOffset, dest, destOffset, length);
+    }
+
+    @Override
+    public void multiply(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length) {
+        lanewise(VectorOperators.MUL, (x, y) -> x * y, a, aOffset, b, bOffset, dest, destOffset, length);
+    }
+
+    @Override
+    public void divide(double[] a, int aOffset, double[] b, int bOffset, double[] dest, int destOffset, int length) {
+        lanewise(VectorOperators.DIV, (x, y) -> x / y, a, aOffset, b, bOffset, dest, destOffset, length);
+    }
+
+    @Override
+    public double sum(double[] x, int offset, int length) {
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            acc = acc.add(DoubleVector.fromArray(SPECIES, x, offset + i));
+        }
+        double result = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += x[offset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public double sumOfSquares(double[] x, int offset, int length) {
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            DoubleVector v = DoubleVector.fromArray(SPECIES, x, offset + i);
+            acc = acc.add(v.mul(v));
+        }
+        double result = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += x[offset + i] * x[offset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public double min(double[] x, int offset, int length) {
+        DoubleVector acc = DoubleVector.broadcast(SPECIES, Double.POSITIVE_INFINITY);
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            acc = acc.min(DoubleVector.fromArray(SPECIES, x, offset + i));
+        }
+        double result = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < length; i++) {
+            result = Math.min(result, x[offset + i]);
+        }
+        return result;
+    }
+
+    @Override
+    public double max(double[] x, int offset, int length) {
+        DoubleVector acc = DoubleVector.broadcast(SPECIES, Double.NEGATIVE_INFINITY);
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            acc = acc.max(DoubleVector.fromArray(SPECIES, x, offset + i));
+        }
+        double result = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < length; i++) {
+            result = Math.max(result, x[offset + i]);
+        }
+        return result;
+    }
+}
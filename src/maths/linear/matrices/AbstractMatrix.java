@@ -5,6 +5,8 @@ import maths.linear.vectors.Vector;
 import maths.linear.Asserts;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 
 public abstract class AbstractMatrix implements MutableMatrix {
 
@@ -75,14 +77,27 @@ public abstract class AbstractMatrix implements MutableMatrix {
         throw new IllegalArgumentException(message);
     }
 
-    private void check(int i, int j) {
+    protected void checkRow(int i) {
         if (i < 0 || i >= height) {
             illError("i = " + i + " out of bounds for height = " + height);
-        } else if (j < 0 || j >= width) {
+        }
+    }
+
+    private void check(int i, int j) {
+        checkRow(i);
+        if (j < 0 || j >= width) {
             illError("j = " + j + " out of bounds for width = " + width);
         }
     }
 
+    protected void checkCongruous(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        if (height != matrix.height() || width != matrix.width()) {
+            illError("incongruous size of argument: expected " +
+                    "(" + height + ", " + width + "), actual (" + matrix.height() + ", " + matrix.width() + ")");
+        }
+    }
+
     protected abstract double getImpl(int i, int j);
     protected abstract void setImpl(int i, int j, double value);
 
@@ -98,6 +113,44 @@ public abstract class AbstractMatrix implements MutableMatrix {
         setImpl(i, j, value);
     }
 
+    @Override
+    public double getUnsafe(int i, int j) {
+        return getImpl(i, j);
+    }
+
+    @Override
+    public void setUnsafe(int i, int j, double value) {
+        setImpl(i, j, value);
+    }
+
+    @Override
+    public void getRow(int i, double[] dest) {
+        checkRow(i);
+        Asserts.checkBuffer(dest, width);
+        for (int j = 0; j < width; j++) {
+            dest[j] = getImpl(i, j);
+        }
+    }
+
+    @Override
+    public void setRow(int i, double[] src) {
+        checkRow(i);
+        Asserts.checkBuffer(src, width);
+        for (int j = 0; j < width; j++) {
+            setImpl(i, j, src[j]);
+        }
+    }
+
+    @Override
+    public void copyTo(double[] dest) {
+        Asserts.checkBuffer(dest, height * width);
+        for (int i = 0, k = 0; i < height; i++) {
+            for (int j = 0; j < width; j++, k++) {
+                dest[k] = getImpl(i, j);
+            }
+        }
+    }
+
     @Override
     public int height() {
         return height;
@@ -110,9 +163,9 @@ public abstract class AbstractMatrix implements MutableMatrix {
 
     @Override
     public void clear() {
-        for (int i = 0; i < height(); i++) {
-            for (int j = 0; j < width(); j++) {
-                set(i, j, 0);
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                setImpl(i, j, 0);
             }
         }
     }
@@ -124,7 +177,7 @@ public abstract class AbstractMatrix implements MutableMatrix {
         for (int i = 0; i < height(); i++) {
             sb.append("[");
             for (int j = 0; j < width(); j++) {
-                sb.append(get(i, j)).append(j == width() - 1 ? "]" : ", ");
+                sb.append(getImpl(i, j)).append(j == width() - 1 ? "]" : ", ");
             }
             sb.append(i == height() - 1 ? "]" : ", ");
         }
@@ -139,7 +192,7 @@ public abstract class AbstractMatrix implements MutableMatrix {
             Asserts.checkMatrixAccess((Matrix) object);
             for (int i = 0; i < height(); i++) {
                 for (int j = 0; j < width(); j++) {
-                    if (get(i, j) != ((Matrix) object).get(i, j)) {
+                    if (getImpl(i, j) != ((Matrix) object).getUnsafe(i, j)) {
                         return false;
                     }
                 }
@@ -170,7 +223,10 @@ public abstract class AbstractMatrix implements MutableMatrix {
 
         @Override
         public Double next() {
-            double result = get(x, y);
+            if (x >= height) {
+                throw new NoSuchElementException();
+            }
+            double result = getImpl(x, y);
             y++;
             if (y == width()) {
                 y = 0;
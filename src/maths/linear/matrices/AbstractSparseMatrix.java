@@ -0,0 +1,53 @@
+package maths.linear.matrices;
+
+public abstract class AbstractSparseMatrix extends AbstractMatrix {
+
+    final CompressedStorage storage;
+
+    AbstractSparseMatrix(int height, int width, CompressedStorage storage) {
+        super(height, width);
+        this.storage = storage;
+    }
+
+    public int nonZeros() {
+        return storage.nonZeros();
+    }
+
+    public double density() {
+        return (double) nonZeros() / height / width;
+    }
+
+    abstract boolean isRowMajor();
+
+    public void forEachNonZero(NonZeroConsumer consumer) {
+        boolean rowMajor = isRowMajor();
+        for (int major = 0; major < storage.majorSize; major++) {
+            for (int p = storage.pointers[major]; p < storage.pointers[major + 1]; p++) {
+                if (rowMajor) {
+                    consumer.accept(major, storage.indices[p], storage.values[p]);
+                } else {
+                    consumer.accept(storage.indices[p], major, storage.values[p]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        storage.clear();
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == null || this.getClass() != object.getClass()) {
+            return false;
+        }
+        AbstractSparseMatrix matrix = (AbstractSparseMatrix) object;
+        return height == matrix.height && width == matrix.width && storage.sameValues(matrix.storage);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * storage.valuesHashCode() + height) + width;
+    }
+}
@@ -1,10 +1,15 @@
 package maths.linear.matrices;
 
+import maths.linear.Asserts;
+import maths.linear.kernels.BinaryKernel;
+import maths.linear.kernels.Kernels;
 import maths.linear.vectors.Vector;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 
 public class ArrayMatrix extends AbstractMatrix {
 
@@ -42,11 +47,15 @@ public class ArrayMatrix extends AbstractMatrix {
         array = new double[height][width];
         for (int i = 0; i < height; i++) {
             for (int j = 0; j < width; j++) {
-                array[i][j] = buildAsRows ? vectors[i].get(j) : vectors[j].get(i);
+                array[i][j] = buildAsRows ? vectors[i].getUnsafe(j) : vectors[j].getUnsafe(i);
             }
         }
     }
 
+    public double[][] array() {
+        return array;
+    }
+
     @Override
     protected double getImpl(int i, int j) {
         return array[i][j];
@@ -57,6 +66,79 @@ public class ArrayMatrix extends AbstractMatrix {
         array[i][j] = value;
     }
 
+    @Override
+    public void getRow(int i, double[] dest) {
+        checkRow(i);
+        Asserts.checkBuffer(dest, width);
+        System.arraycopy(array[i], 0, dest, 0, width);
+    }
+
+    @Override
+    public void setRow(int i, double[] src) {
+        checkRow(i);
+        Asserts.checkBuffer(src, width);
+        System.arraycopy(src, 0, array[i], 0, width);
+    }
+
+    @Override
+    public void copyTo(double[] dest) {
+        Asserts.checkBuffer(dest, height * width);
+        for (int i = 0; i < height; i++) {
+            System.arraycopy(array[i], 0, dest, i * width, width);
+        }
+    }
+
+    @Override
+    public void applyElementByElementAsDouble(Matrix matrix, DoubleBinaryOperator operator) {
+        checkCongruous(matrix);
+        Objects.requireNonNull(operator);
+        ArrayOperations.applyElementByElement(array, this, matrix, operator);
+    }
+
+    @Override
+    public void applyForEachAsDouble(DoubleUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        ArrayOperations.applyForEach(array, array, operator);
+    }
+
+    private boolean applyKernel(Matrix matrix, BinaryKernel kernel) {
+        checkCongruous(matrix);
+        return ArrayOperations.applyKernel(array, this, matrix, kernel);
+    }
+
+    @Override
+    public void add(Matrix matrix) {
+        if (!applyKernel(matrix, Kernels::add)) {
+            super.add(matrix);
+        }
+    }
+
+    @Override
+    public void subtract(Matrix matrix) {
+        if (!applyKernel(matrix, Kernels::subtract)) {
+            super.subtract(matrix);
+        }
+    }
+
+    @Override
+    public void multiply(Matrix matrix) {
+        if (!applyKernel(matrix, Kernels::multiply)) {
+            super.multiply(matrix);
+        }
+    }
+
+    @Override
+    public void divide(Matrix matrix) {
+        if (!applyKernel(matrix, Kernels::divide)) {
+            super.divide(matrix);
+        }
+    }
+
+    @Override
+    public void matrixXScalar(double scalar) {
+        ArrayOperations.scale(array, array, scalar);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(Arrays.deepHashCode(array), height, width);
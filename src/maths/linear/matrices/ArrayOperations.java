@@ -0,0 +1,151 @@
+package maths.linear.matrices;
+
+import maths.linear.kernels.BinaryKernel;
+import maths.linear.kernels.Kernels;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+final class ArrayOperations {
+
+    private static final int TILE = 32;
+
+    private ArrayOperations() {}
+
+    static double[][] rowsOf(Matrix matrix) {
+        if (matrix instanceof ArrayMatrix) {
+            return ((ArrayMatrix) matrix).array();
+        } else if (matrix instanceof SensitiveArrayMatrix) {
+            return ((SensitiveArrayMatrix) matrix).array();
+        }
+        return null;
+    }
+
+    static void copy(double[][] src, MutableMatrix dest) {
+        double[][] destRows = rowsOf(dest);
+        for (int i = 0; i < dest.height(); i++) {
+            if (destRows != null) {
+                System.arraycopy(src[i], 0, destRows[i], 0, dest.width());
+                continue;
+            }
+            for (int j = 0; j < dest.width(); j++) {
+                dest.setUnsafe(i, j, src[i][j]);
+            }
+        }
+    }
+
+    static void copy(Matrix src, MutableMatrix dest) {
+        double[][] srcRows = rowsOf(src);
+        if (srcRows != null) {
+            copy(srcRows, dest);
+            return;
+        } else if (src instanceof AbstractSparseMatrix) {
+            dest.clear();
+            ((AbstractSparseMatrix) src).forEachNonZero((i, j, value) -> dest.setUnsafe(i, j, value));
+            return;
+        }
+        for (int i = 0; i < dest.height(); i++) {
+            for (int j = 0; j < dest.width(); j++) {
+                dest.setUnsafe(i, j, src.getUnsafe(i, j));
+            }
+        }
+    }
+
+    static void applyForEach(double[][] dest, double[][] src, DoubleUnaryOperator operator) {
+        applyForEach(dest, src, operator, 0, dest.length);
+    }
+
+    static void applyForEach(double[][] dest, double[][] src, DoubleUnaryOperator operator, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double[] destRow = dest[i];
+            double[] srcRow = src[i];
+            for (int j = 0; j < destRow.length; j++) {
+                destRow[j] = operator.applyAsDouble(srcRow[j]);
+            }
+        }
+    }
+
+    static void applyForEach(double[][] dest, Matrix src, DoubleUnaryOperator operator, int from, int to) {
+        double[][] srcRows = rowsOf(src);
+        if (srcRows != null) {
+            applyForEach(dest, srcRows, operator, from, to);
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            double[] destRow = dest[i];
+            for (int j = 0; j < destRow.length; j++) {
+                destRow[j] = operator.applyAsDouble(src.getUnsafe(i, j));
+            }
+        }
+    }
+
+    static void applyElementByElement(double[][] dest, Matrix a, Matrix b, DoubleBinaryOperator operator) {
+        applyElementByElement(dest, a, b, operator, 0, dest.length);
+    }
+
+    static void applyElementByElement(double[][] dest, Matrix a, Matrix b, DoubleBinaryOperator operator,
+                                      int from, int to) {
+        double[][] aRows = rowsOf(a);
+        double[][] bRows = rowsOf(b);
+        if (aRows != null && bRows != null) {
+            for (int i = from; i < to; i++) {
+                double[] destRow = dest[i];
+                double[] aRow = aRows[i];
+                double[] bRow = bRows[i];
+                for (int j = 0; j < destRow.length; j++) {
+                    destRow[j] = operator.applyAsDouble(aRow[j], bRow[j]);
+                }
+            }
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            double[] destRow = dest[i];
+            for (int j = 0; j < destRow.length; j++) {
+                destRow[j] = operator.applyAsDouble(a.getUnsafe(i, j), b.getUnsafe(i, j));
+            }
+        }
+    }
+
+    static boolean applyKernel(double[][] dest, Matrix a, Matrix b, BinaryKernel kernel) {
+        double[][] aRows = rowsOf(a);
+        double[][] bRows = rowsOf(b);
+        if (aRows == null || bRows == null) {
+            return false;
+        }
+        applyKernel(dest, aRows, bRows, kernel, 0, dest.length);
+        return true;
+    }
+
+    static void applyKernel(double[][] dest, double[][] a, double[][] b, BinaryKernel kernel, int from, int to) {
+        for (int i = from; i < to; i++) {
+            kernel.apply(a[i], 0, b[i], 0, dest[i], 0, dest[i].length);
+        }
+    }
+
+    static void scale(double[][] dest, double[][] src, double scalar) {
+        scale(dest, src, scalar, 0, dest.length);
+    }
+
+    static void scale(double[][] dest, double[][] src, double scalar, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Kernels.scale(scalar, src[i], 0, dest[i], 0, dest[i].length);
+        }
+    }
+
+    static void transpose(double[][] dest, Matrix src, int from, int to) {
+        double[][] srcRows = rowsOf(src);
+        int height = src.height();
+        for (int j0 = from; j0 < to; j0 += TILE) {
+            int j1 = Math.min(j0 + TILE, to);
+            for (int i0 = 0; i0 < height; i0 += TILE) {
+                int i1 = Math.min(i0 + TILE, height);
+                for (int j = j0; j < j1; j++) {
+                    double[] destRow = dest[j];
+                    for (int i = i0; i < i1; i++) {
+                        destRow[i] = srcRows != null ? srcRows[i][j] : src.getUnsafe(i, j);
+                    }
+                }
+            }
+        }
+    }
+}
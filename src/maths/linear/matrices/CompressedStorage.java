@@ -0,0 +1,271 @@
+package maths.linear.matrices;
+
+import java.util.Arrays;
+
+final class CompressedStorage {
+
+    final int majorSize;
+    final int minorSize;
+    final int[] pointers;
+    int[] indices;
+    double[] values;
+
+    CompressedStorage(int majorSize, int minorSize) {
+        this(majorSize, minorSize, new int[majorSize + 1], new int[0], new double[0]);
+    }
+
+    CompressedStorage(int majorSize, int minorSize, int[] pointers, int[] indices, double[] values) {
+        this.majorSize = majorSize;
+        this.minorSize = minorSize;
+        this.pointers = pointers;
+        this.indices = indices;
+        this.values = values;
+    }
+
+    static CompressedStorage fromTriplets(int majorSize, int minorSize, int[] majors, int[] minors,
+                                          double[] values, int count) {
+        int[] byMinor = new int[count];
+        int[] minorPointers = new int[minorSize + 1];
+        for (int t = 0; t < count; t++) {
+            minorPointers[minors[t] + 1]++;
+        }
+        for (int k = 0; k < minorSize; k++) {
+            minorPointers[k + 1] += minorPointers[k];
+        }
+        for (int t = 0; t < count; t++) {
+            byMinor[minorPointers[minors[t]]++] = t;
+        }
+        int[] pointers = new int[majorSize + 1];
+        for (int t = 0; t < count; t++) {
+            pointers[majors[t] + 1]++;
+        }
+        for (int k = 0; k < majorSize; k++) {
+            pointers[k + 1] += pointers[k];
+        }
+        int[] next = Arrays.copyOf(pointers, majorSize);
+        int[] sortedIndices = new int[count];
+        double[] sortedValues = new double[count];
+        for (int t : byMinor) {
+            int position = next[majors[t]]++;
+            sortedIndices[position] = minors[t];
+            sortedValues[position] = values[t];
+        }
+        int[] resultPointers = new int[majorSize + 1];
+        int size = 0;
+        for (int major = 0; major < majorSize; major++) {
+            for (int p = pointers[major]; p < pointers[major + 1]; p++) {
+                if (size > resultPointers[major] && sortedIndices[size - 1] == sortedIndices[p]) {
+                    sortedValues[size - 1] += sortedValues[p];
+                } else {
+                    sortedIndices[size] = sortedIndices[p];
+                    sortedValues[size] = sortedValues[p];
+                    size++;
+                }
+            }
+            resultPointers[major + 1] = size;
+        }
+        return new CompressedStorage(majorSize, minorSize, resultPointers,
+                Arrays.copyOf(sortedIndices, size), Arrays.copyOf(sortedValues, size));
+    }
+
+    int nonZeros() {
+        return pointers[majorSize];
+    }
+
+    private int find(int major, int minor) {
+        return Arrays.binarySearch(indices, pointers[major], pointers[major + 1], minor);
+    }
+
+    double get(int major, int minor) {
+        int position = find(major, minor);
+        return position >= 0 ? values[position] : 0;
+    }
+
+    void set(int major, int minor, double value) {
+        int position = find(major, minor);
+        if (position >= 0) {
+            values[position] = value;
+            return;
+        } else if (value == 0) {
+            return;
+        }
+        position = -position - 1;
+        int size = nonZeros();
+        if (size == indices.length) {
+            int capacity = Math.max(8, size + (size >> 1));
+            indices = Arrays.copyOf(indices, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        System.arraycopy(indices, position, indices, position + 1, size - position);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        indices[position] = minor;
+        values[position] = value;
+        for (int k = major + 1; k <= majorSize; k++) {
+            pointers[k]++;
+        }
+    }
+
+    void clear() {
+        Arrays.fill(pointers, 0);
+    }
+
+    void multiplyMajor(double[] x, double[] y) {
+        multiplyMajor(x, y, 0, majorSize);
+    }
+
+    void multiplyMajor(double[] x, double[] y, int from, int to) {
+        for (int major = from; major < to; major++) {
+            double sum = 0;
+            for (int p = pointers[major]; p < pointers[major + 1]; p++) {
+                sum += values[p] * x[indices[p]];
+            }
+            y[major] += sum;
+        }
+    }
+
+    void multiplyMinor(double[] x, double[] y) {
+        for (int major = 0; major < majorSize; major++) {
+            double factor = x[major];
+            if (factor == 0) {
+                continue;
+            }
+            for (int p = pointers[major]; p < pointers[major + 1]; p++) {
+                y[indices[p]] += values[p] * factor;
+            }
+        }
+    }
+
+    CompressedStorage transpose() {
+        int size = nonZeros();
+        int[] resultPointers = new int[minorSize + 1];
+        for (int p = 0; p < size; p++) {
+            resultPointers[indices[p] + 1]++;
+        }
+        for (int k = 0; k < minorSize; k++) {
+            resultPointers[k + 1] += resultPointers[k];
+        }
+        int[] next = Arrays.copyOf(resultPointers, minorSize);
+        int[] resultIndices = new int[size];
+        double[] resultValues = new double[size];
+        for (int major = 0; major < majorSize; major++) {
+            for (int p = pointers[major]; p < pointers[major + 1]; p++) {
+                int position = next[indices[p]]++;
+                resultIndices[position] = major;
+                resultValues[position] = values[p];
+            }
+        }
+        return new CompressedStorage(minorSize, majorSize, resultPointers, resultIndices, resultValues);
+    }
+
+    CompressedStorage copy() {
+        int size = nonZeros();
+        return new CompressedStorage(majorSize, minorSize, Arrays.copyOf(pointers, majorSize + 1),
+                Arrays.copyOf(indices, size), Arrays.copyOf(values, size));
+    }
+
+    CompressedStorage scale(double scalar) {
+        CompressedStorage result = copy();
+        for (int p = 0; p < result.values.length; p++) {
+            result.values[p] *= scalar;
+        }
+        return result;
+    }
+
+    CompressedStorage add(CompressedStorage other) {
+        int[] resultPointers = new int[majorSize + 1];
+        int[] resultIndices = new int[nonZeros() + other.nonZeros()];
+        double[] resultValues = new double[resultIndices.length];
+        int size = 0;
+        for (int major = 0; major < majorSize; major++) {
+            int p = pointers[major], pEnd = pointers[major + 1];
+            int q = other.pointers[major], qEnd = other.pointers[major + 1];
+            while (p < pEnd || q < qEnd) {
+                if (q == qEnd || (p < pEnd && indices[p] < other.indices[q])) {
+                    resultIndices[size] = indices[p];
+                    resultValues[size++] = values[p++];
+                } else if (p == pEnd || other.indices[q] < indices[p]) {
+                    resultIndices[size] = other.indices[q];
+                    resultValues[size++] = other.values[q++];
+                } else {
+                    resultIndices[size] = indices[p];
+                    resultValues[size++] = values[p++] + other.values[q++];
+                }
+            }
+            resultPointers[major + 1] = size;
+        }
+        return new CompressedStorage(majorSize, minorSize, resultPointers,
+                Arrays.copyOf(resultIndices, size), Arrays.copyOf(resultValues, size));
+    }
+
+    CompressedStorage multiply(CompressedStorage other) {
+        int width = other.minorSize;
+        int[] marker = new int[width];
+        Arrays.fill(marker, -1);
+        double[] accumulator = new double[width];
+        int[] resultPointers = new int[majorSize + 1];
+        int[] resultIndices = new int[Math.max(8, nonZeros())];
+        double[] resultValues = new double[resultIndices.length];
+        int size = 0;
+        for (int major = 0; major < majorSize; major++) {
+            int rowStart = size;
+            for (int p = pointers[major]; p < pointers[major + 1]; p++) {
+                int k = indices[p];
+                double value = values[p];
+                for (int q = other.pointers[k]; q < other.pointers[k + 1]; q++) {
+                    int j = other.indices[q];
+                    if (marker[j] < rowStart) {
+                        marker[j] = size;
+                        if (size == resultIndices.length) {
+                            resultIndices = Arrays.copyOf(resultIndices, size * 2);
+                            resultValues = Arrays.copyOf(resultValues, size * 2);
+                        }
+                        resultIndices[size++] = j;
+                        accumulator[j] = value * other.values[q];
+                    } else {
+                        accumulator[j] += value * other.values[q];
+                    }
+                }
+            }
+            Arrays.sort(resultIndices, rowStart, size);
+            for (int p = rowStart; p < size; p++) {
+                resultValues[p] = accumulator[resultIndices[p]];
+            }
+            resultPointers[major + 1] = size;
+        }
+        return new CompressedStorage(majorSize, width, resultPointers,
+                Arrays.copyOf(resultIndices, size), Arrays.copyOf(resultValues, size));
+    }
+
+    boolean sameValues(CompressedStorage other) {
+        for (int major = 0; major < majorSize; major++) {
+            int p = pointers[major], pEnd = pointers[major + 1];
+            int q = other.pointers[major], qEnd = other.pointers[major + 1];
+            while (p < pEnd || q < qEnd) {
+                if (q == qEnd || (p < pEnd && indices[p] < other.indices[q])) {
+                    if (values[p++] != 0) {
+                        return false;
+                    }
+                } else if (p == pEnd || other.indices[q] < indices[p]) {
+                    if (other.values[q++] != 0) {
+                        return false;
+                    }
+                } else if (values[p++] != other.values[q++]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    int valuesHashCode() {
+        int result = 0;
+        for (int major = 0; major < majorSize; major++) {
+            for (int p = pointers[major]; p < pointers[major + 1]; p++) {
+                if (values[p] != 0) {
+                    result += (31 * major + indices[p]) ^ Double.hashCode(values[p]);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,35 @@
+package maths.linear.matrices;
+
+public class CscMatrix extends AbstractSparseMatrix {
+
+    public CscMatrix(int height, int width) {
+        this(new CompressedStorage(width, height));
+    }
+
+    CscMatrix(CompressedStorage storage) {
+        super(storage.minorSize, storage.majorSize, storage);
+    }
+
+    public CsrMatrix transpose() {
+        return new CsrMatrix(storage);
+    }
+
+    public CsrMatrix toCsr() {
+        return new CsrMatrix(storage.transpose());
+    }
+
+    @Override
+    boolean isRowMajor() {
+        return false;
+    }
+
+    @Override
+    protected double getImpl(int i, int j) {
+        return storage.get(j, i);
+    }
+
+    @Override
+    protected void setImpl(int i, int j, double value) {
+        storage.set(j, i, value);
+    }
+}
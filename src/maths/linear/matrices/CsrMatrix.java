@@ -0,0 +1,35 @@
+package maths.linear.matrices;
+
+public class CsrMatrix extends AbstractSparseMatrix {
+
+    public CsrMatrix(int height, int width) {
+        this(new CompressedStorage(height, width));
+    }
+
+    CsrMatrix(CompressedStorage storage) {
+        super(storage.majorSize, storage.minorSize, storage);
+    }
+
+    public CscMatrix transpose() {
+        return new CscMatrix(storage);
+    }
+
+    public CscMatrix toCsc() {
+        return new CscMatrix(storage.transpose());
+    }
+
+    @Override
+    boolean isRowMajor() {
+        return true;
+    }
+
+    @Override
+    protected double getImpl(int i, int j) {
+        return storage.get(i, j);
+    }
+
+    @Override
+    protected void setImpl(int i, int j, double value) {
+        storage.set(i, j, value);
+    }
+}
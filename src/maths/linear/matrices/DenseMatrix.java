@@ -0,0 +1,221 @@
+package maths.linear.matrices;
+
+import maths.linear.vectors.DenseVector;
+import maths.linear.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+public class DenseMatrix extends AbstractMatrix {
+
+    private final double[] data;
+    private final int offset;
+    private final int rowStride;
+    private final int colStride;
+
+    public DenseMatrix() {
+        this(3, 3);
+    }
+
+    public DenseMatrix(int height, int width) {
+        super(height, width);
+        this.data = new double[Math.multiplyExact(height, width)];
+        this.offset = 0;
+        this.rowStride = width;
+        this.colStride = 1;
+    }
+
+    public DenseMatrix(double[][] srcArray) {
+        super(srcArray);
+        this.data = new double[Math.multiplyExact(height, width)];
+        this.offset = 0;
+        this.rowStride = width;
+        this.colStride = 1;
+        for (int i = 0; i < height; i++) {
+            System.arraycopy(srcArray[i], 0, data, i * width, width);
+        }
+    }
+
+    public DenseMatrix(List<List<Double>> srcList) {
+        super(srcList);
+        this.data = new double[Math.multiplyExact(height, width)];
+        this.offset = 0;
+        this.rowStride = width;
+        this.colStride = 1;
+        for (int i = 0; i < height; i++) {
+            List<Double> row = srcList.get(i);
+            for (int j = 0; j < width; j++) {
+                data[i * width + j] = row.get(j);
+            }
+        }
+    }
+
+    public DenseMatrix(Vector[] vectors, boolean buildAsRows) {
+        super(vectors, buildAsRows);
+        this.data = new double[Math.multiplyExact(height, width)];
+        this.offset = 0;
+        this.rowStride = width;
+        this.colStride = 1;
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                data[i * width + j] = buildAsRows ? vectors[i].getUnsafe(j) : vectors[j].getUnsafe(i);
+            }
+        }
+    }
+
+    private DenseMatrix(double[] data, int offset, int height, int width, int rowStride, int colStride) {
+        super(height, width);
+        this.data = data;
+        this.offset = offset;
+        this.rowStride = rowStride;
+        this.colStride = colStride;
+    }
+
+    private static void illError(String message) {
+        throw new IllegalArgumentException(message);
+    }
+
+    private int index(int i, int j) {
+        return offset + i * rowStride + j * colStride;
+    }
+
+    public Vector row(int i) {
+        if (i < 0 || i >= height) {
+            illError("i = " + i + " out of bounds for height = " + height);
+        }
+        return new DenseVector(data, index(i, 0), colStride, width);
+    }
+
+    public Vector column(int j) {
+        if (j < 0 || j >= width) {
+            illError("j = " + j + " out of bounds for width = " + width);
+        }
+        return new DenseVector(data, index(0, j), rowStride, height);
+    }
+
+    public DenseMatrix subMatrix(int low, int left, int up, int right) {
+        if (low < 0 || up > height || low >= up || left < 0 || right > width || left >= right) {
+            illError("incorrect bounds for matrix.sizes = (" + height + ", " + width + "): " +
+                    "low = " + low + ", left = " + left + ", up = " + up + ", right = " + right);
+        }
+        return new DenseMatrix(data, index(low, left), up - low, right - left, rowStride, colStride);
+    }
+
+    public DenseMatrix transpose() {
+        return new DenseMatrix(data, offset, width, height, colStride, rowStride);
+    }
+
+    public boolean sharesStorage(DenseMatrix other) {
+        if (data != other.data || height == 0 || width == 0 || other.height == 0 || other.width == 0) {
+            return false;
+        }
+        return offset <= other.index(other.height - 1, other.width - 1) &&
+                other.offset <= index(height - 1, width - 1);
+    }
+
+    public boolean hasSameLayout(DenseMatrix other) {
+        return data == other.data && offset == other.offset && height == other.height && width == other.width &&
+                rowStride == other.rowStride && colStride == other.colStride;
+    }
+
+    private DenseMatrix copy() {
+        DenseMatrix result = new DenseMatrix(height, width);
+        for (int i = 0; i < height; i++) {
+            for (int j = 0, k = index(i, 0); j < width; j++, k += colStride) {
+                result.data[i * width + j] = data[k];
+            }
+        }
+        return result;
+    }
+
+    public boolean isContiguous() {
+        return colStride == 1 && (rowStride == width || height == 1);
+    }
+
+    @Override
+    protected double getImpl(int i, int j) {
+        return data[index(i, j)];
+    }
+
+    @Override
+    protected void setImpl(int i, int j, double value) {
+        data[index(i, j)] = value;
+    }
+
+    @Override
+    public void applyElementByElement(Matrix matrix, BinaryOperator<Double> operator) {
+        Objects.requireNonNull(operator);
+        applyElementByElementAsDouble(matrix, operator::apply);
+    }
+
+    @Override
+    public void applyElementByElementAsDouble(Matrix matrix, DoubleBinaryOperator operator) {
+        checkCongruous(matrix);
+        Objects.requireNonNull(operator);
+        if (matrix instanceof DenseMatrix) {
+            DenseMatrix other = (DenseMatrix) matrix;
+            if (sharesStorage(other) && !hasSameLayout(other)) {
+                other = other.copy();
+            }
+            for (int i = 0; i < height; i++) {
+                int k = index(i, 0);
+                int l = other.index(i, 0);
+                for (int j = 0; j < width; j++, k += colStride, l += other.colStride) {
+                    data[k] = operator.applyAsDouble(data[k], other.data[l]);
+                }
+            }
+            return;
+        }
+        double[][] rows = ArrayOperations.rowsOf(matrix);
+        for (int i = 0; i < height; i++) {
+            int k = index(i, 0);
+            for (int j = 0; j < width; j++, k += colStride) {
+                data[k] = operator.applyAsDouble(data[k], rows != null ? rows[i][j] : matrix.getUnsafe(i, j));
+            }
+        }
+    }
+
+    @Override
+    public void applyForEachAsDouble(DoubleUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        if (isContiguous()) {
+            for (int k = offset; k < offset + height * width; k++) {
+                data[k] = operator.applyAsDouble(data[k]);
+            }
+            return;
+        }
+        for (int i = 0; i < height; i++) {
+            for (int j = 0, k = index(i, 0); j < width; j++, k += colStride) {
+                data[k] = operator.applyAsDouble(data[k]);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (isContiguous()) {
+            Arrays.fill(data, offset, offset + height * width, 0);
+            return;
+        }
+        for (int i = 0; i < height; i++) {
+            for (int j = 0, k = index(i, 0); j < width; j++, k += colStride) {
+                data[k] = 0;
+            }
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < height; i++) {
+            for (int j = 0, k = index(i, 0); j < width; j++, k += colStride) {
+                result = 31 * result + Double.hashCode(data[k]);
+            }
+        }
+        return 31 * (31 * result + height) + width;
+    }
+}
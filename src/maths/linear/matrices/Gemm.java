@@ -0,0 +1,178 @@
+package maths.linear.matrices;
+
+import maths.linear.ExecutionPolicy;
+import maths.linear.ScratchPool;
+
+final class Gemm {
+
+    private static final int MR = 4;
+    private static final int NR = 4;
+    private static final int MC = 128;
+    private static final int KC = 256;
+    private static final int NC = 4096;
+    private static final long BLOCKED_THRESHOLD = 32L * 32 * 32;
+    private static final long PARALLEL_THRESHOLD = 128L * 128 * 128;
+
+    private Gemm() {}
+
+    static void multiply(double[][] a, double[][] b, double[][] c, int m, int k, int n, ExecutionPolicy policy) {
+        multiply(a, 0, 0, b, 0, 0, c, 0, 0, m, k, n, policy);
+    }
+
+    static void multiply(double[][] a, int ar, int ac, double[][] b, int br, int bc,
+                         double[][] c, int cr, int cc, int m, int k, int n, ExecutionPolicy policy) {
+        long work = (long) m * k * n;
+        if (work < BLOCKED_THRESHOLD) {
+            naive(a, ar, ac, b, br, bc, c, cr, cc, m, k, n);
+            return;
+        }
+        boolean parallel = work >= PARALLEL_THRESHOLD && m > MC && !policy.isSequential() && policy.parallelism() > 1;
+        double[] bPack = ScratchPool.acquire(Math.min(k, KC) * roundUp(Math.min(n, NC), NR));
+        double[] aPack = parallel ? null : ScratchPool.acquire(aPackLength(m, k));
+        try {
+            for (int jc = 0; jc < n; jc += NC) {
+                int nc = Math.min(NC, n - jc);
+                for (int pc = 0; pc < k; pc += KC) {
+                    int kc = Math.min(KC, k - pc);
+                    packB(b, br + pc, bc + jc, bPack, kc, nc);
+                    if (parallel) {
+                        parallelRowBlocks(a, ar, ac + pc, bPack, c, cr, cc + jc, m, k, kc, nc, policy);
+                    } else {
+                        rowBlocks(a, ar, ac + pc, bPack, c, cr, cc + jc, aPack, 0, m, kc, nc);
+                    }
+                }
+            }
+        } finally {
+            ScratchPool.release(bPack);
+            if (aPack != null) {
+                ScratchPool.release(aPack);
+            }
+        }
+    }
+
+    private static int aPackLength(int m, int k) {
+        return roundUp(Math.min(m, MC), MR) * Math.min(k, KC);
+    }
+
+    private static void naive(double[][] a, int ar, int ac, double[][] b, int br, int bc,
+                              double[][] c, int cr, int cc, int m, int k, int n) {
+        for (int i = 0; i < m; i++) {
+            double[] aRow = a[ar + i];
+            double[] cRow = c[cr + i];
+            for (int p = 0; p < k; p++) {
+                double x = aRow[ac + p];
+                double[] bRow = b[br + p];
+                for (int j = 0; j < n; j++) {
+                    cRow[cc + j] += x * bRow[bc + j];
+                }
+            }
+        }
+    }
+
+    private static int roundUp(int value, int step) {
+        return (value + step - 1) / step * step;
+    }
+
+    private static void packB(double[][] b, int br, int bc, double[] bPack, int kc, int nc) {
+        int index = 0;
+        for (int jr = 0; jr < nc; jr += NR) {
+            int nr = Math.min(NR, nc - jr);
+            for (int p = 0; p < kc; p++) {
+                double[] bRow = b[br + p];
+                int j = 0;
+                for (; j < nr; j++) {
+                    bPack[index++] = bRow[bc + jr + j];
+                }
+                for (; j < NR; j++) {
+                    bPack[index++] = 0;
+                }
+            }
+        }
+    }
+
+    private static void packA(double[][] a, int ar, int ac, double[] aPack, int mc, int kc) {
+        int index = 0;
+        for (int ir = 0; ir < mc; ir += MR) {
+            int mr = Math.min(MR, mc - ir);
+            for (int p = 0; p < kc; p++) {
+                int i = 0;
+                for (; i < mr; i++) {
+                    aPack[index++] = a[ar + ir + i][ac + p];
+                }
+                for (; i < MR; i++) {
+                    aPack[index++] = 0;
+                }
+            }
+        }
+    }
+
+    private static void rowBlocks(double[][] a, int ar, int ac, double[] bPack, double[][] c, int cr, int cc,
+                                  double[] aPack, int from, int to, int kc, int nc) {
+        for (int ic = from; ic < to; ic += MC) {
+            int mc = Math.min(MC, to - ic);
+            packA(a, ar + ic, ac, aPack, mc, kc);
+            for (int jr = 0; jr < nc; jr += NR) {
+                int nr = Math.min(NR, nc - jr);
+                for (int ir = 0; ir < mc; ir += MR) {
+                    int mr = Math.min(MR, mc - ir);
+                    microKernel(kc, aPack, ir * kc, bPack, jr * kc, c, cr + ic + ir, cc + jr, mr, nr);
+                }
+            }
+        }
+    }
+
+    private static void microKernel(int kc, double[] aPack, int aFrom, double[] bPack, int bFrom,
+                                    double[][] c, int row, int col, int mr, int nr) {
+        if (mr != MR || nr != NR) {
+            edgeKernel(kc, aPack, aFrom, bPack, bFrom, c, row, col, mr, nr);
+            return;
+        }
+        double c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+        double c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+        double c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+        double c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+        int ap = aFrom;
+        int bp = bFrom;
+        for (int p = 0; p < kc; p++, ap += MR, bp += NR) {
+            double a0 = aPack[ap], a1 = aPack[ap + 1], a2 = aPack[ap + 2], a3 = aPack[ap + 3];
+            double b0 = bPack[bp], b1 = bPack[bp + 1], b2 = bPack[bp + 2], b3 = bPack[bp + 3];
+            c00 += a0 * b0; c01 += a0 * b1; c02 += a0 * b2; c03 += a0 * b3;
+            c10 += a1 * b0; c11 += a1 * b1; c12 += a1 * b2; c13 += a1 * b3;
+            c20 += a2 * b0; c21 += a2 * b1; c22 += a2 * b2; c23 += a2 * b3;
+            c30 += a3 * b0; c31 += a3 * b1; c32 += a3 * b2; c33 += a3 * b3;
+        }
+        double[] r0 = c[row], r1 = c[row + 1], r2 = c[row + 2], r3 = c[row + 3];
+        r0[col] += c00; r0[col + 1] += c01; r0[col + 2] += c02; r0[col + 3] += c03;
+        r1[col] += c10; r1[col + 1] += c11; r1[col + 2] += c12; r1[col + 3] += c13;
+        r2[col] += c20; r2[col + 1] += c21; r2[col + 2] += c22; r2[col + 3] += c23;
+        r3[col] += c30; r3[col + 1] += c31; r3[col + 2] += c32; r3[col + 3] += c33;
+    }
+
+    private static void edgeKernel(int kc, double[] aPack, int aFrom, double[] bPack, int bFrom,
+                                   double[][] c, int row, int col, int mr, int nr) {
+        for (int i = 0; i < mr; i++) {
+            double[] cRow = c[row + i];
+            for (int j = 0; j < nr; j++) {
+                double sum = 0;
+                for (int p = 0, ap = aFrom + i, bp = bFrom + j; p < kc; p++, ap += MR, bp += NR) {
+                    sum += aPack[ap] * bPack[bp];
+                }
+                cRow[col + j] += sum;
+            }
+        }
+    }
+
+    private static void parallelRowBlocks(double[][] a, int ar, int ac, double[] bPack, double[][] c, int cr, int cc,
+                                          int m, int k, int kc, int nc, ExecutionPolicy policy) {
+        int blocks = (m + MC - 1) / MC;
+        int aPackLength = aPackLength(m, k);
+        policy.forEachRange(blocks, (long) m * kc * nc, (from, to) -> {
+            double[] aPack = ScratchPool.acquire(aPackLength);
+            try {
+                rowBlocks(a, ar, ac, bPack, c, cr, cc, aPack, from * MC, Math.min(m, to * MC), kc, nc);
+            } finally {
+                ScratchPool.release(aPack);
+            }
+        });
+    }
+}
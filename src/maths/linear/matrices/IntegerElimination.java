@@ -0,0 +1,314 @@
+package maths.linear.matrices;
+
+import maths.linear.ExecutionPolicy;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+final class IntegerElimination {
+
+    private static final double MAX_INTEGER = 0x1p53;
+    private static final int PRIME_BOUND = 1 << 26;
+
+    private IntegerElimination() {}
+
+    static boolean isIntegral(double value) {
+        return Math.abs(value) <= MAX_INTEGER && value == Math.rint(value);
+    }
+
+    static long[] toLongs(Matrix matrix) {
+        int height = matrix.height();
+        int width = matrix.width();
+        long[] result = new long[height * width];
+        for (int i = 0, k = 0; i < height; i++) {
+            for (int j = 0; j < width; j++, k++) {
+                double value = matrix.getUnsafe(i, j);
+                if (!isIntegral(value)) {
+                    throw new IllegalArgumentException("can not eliminate exactly matrix with non integer element = "
+                            + value + " at (" + i + ", " + j + ")");
+                }
+                result[k] = (long) value;
+            }
+        }
+        return result;
+    }
+
+    static double log2MinorBound(long[] a, int height, int width) {
+        double rows = 0;
+        for (int i = 0; i < height; i++) {
+            double norm = 0;
+            for (int j = 0; j < width; j++) {
+                double value = a[i * width + j];
+                norm += value * value;
+            }
+            rows += norm == 0 ? 0 : 0.5 * Math.log(norm);
+        }
+        double columns = 0;
+        for (int j = 0; j < width; j++) {
+            double norm = 0;
+            for (int i = 0; i < height; i++) {
+                double value = a[i * width + j];
+                norm += value * value;
+            }
+            columns += norm == 0 ? 0 : 0.5 * Math.log(norm);
+        }
+        return Math.min(rows, columns) / Math.log(2);
+    }
+
+    static boolean fitsLong(long[] a, int n) {
+        return 2 * log2MinorBound(a, n, n) + 1 < Long.SIZE - 2;
+    }
+
+    private static void swapRows(long[] a, int width, int i1, int i2) {
+        for (int j = 0; j < width; j++) {
+            long temp = a[i1 * width + j];
+            a[i1 * width + j] = a[i2 * width + j];
+            a[i2 * width + j] = temp;
+        }
+    }
+
+    static long bareiss(long[] a, int n) {
+        long sign = 1;
+        long previous = 1;
+        for (int k = 0; k < n - 1; k++) {
+            if (a[k * n + k] == 0) {
+                int p = k + 1;
+                while (p < n && a[p * n + k] == 0) {
+                    p++;
+                }
+                if (p == n) {
+                    return 0;
+                }
+                swapRows(a, n, p, k);
+                sign = -sign;
+            }
+            long pivot = a[k * n + k];
+            for (int i = k + 1; i < n; i++) {
+                long factor = a[i * n + k];
+                for (int j = k + 1; j < n; j++) {
+                    a[i * n + j] = Math.subtractExact(Math.multiplyExact(a[i * n + j], pivot),
+                            Math.multiplyExact(factor, a[k * n + j])) / previous;
+                }
+            }
+            previous = pivot;
+        }
+        return Math.multiplyExact(sign, a[n * n - 1]);
+    }
+
+    static BigInteger bareiss(BigInteger[] a, int n) {
+        int sign = 1;
+        BigInteger previous = BigInteger.ONE;
+        for (int k = 0; k < n - 1; k++) {
+            if (a[k * n + k].signum() == 0) {
+                int p = k + 1;
+                while (p < n && a[p * n + k].signum() == 0) {
+                    p++;
+                }
+                if (p == n) {
+                    return BigInteger.ZERO;
+                }
+                for (int j = 0; j < n; j++) {
+                    BigInteger temp = a[k * n + j];
+                    a[k * n + j] = a[p * n + j];
+                    a[p * n + j] = temp;
+                }
+                sign = -sign;
+            }
+            BigInteger pivot = a[k * n + k];
+            for (int i = k + 1; i < n; i++) {
+                BigInteger factor = a[i * n + k];
+                for (int j = k + 1; j < n; j++) {
+                    a[i * n + j] = a[i * n + j].multiply(pivot).subtract(factor.multiply(a[k * n + j]))
+                            .divide(previous);
+                }
+            }
+            previous = pivot;
+        }
+        return sign < 0 ? a[n * n - 1].negate() : a[n * n - 1];
+    }
+
+    static BigInteger bareiss(long[] a, int n, boolean tryLong) {
+        if (tryLong && fitsLong(a, n)) {
+            return BigInteger.valueOf(bareiss(Arrays.copyOf(a, a.length), n));
+        }
+        BigInteger[] big = new BigInteger[a.length];
+        for (int k = 0; k < a.length; k++) {
+            big[k] = BigInteger.valueOf(a[k]);
+        }
+        return bareiss(big, n);
+    }
+
+    private static boolean isPrime(int value) {
+        if (value % 2 == 0) {
+            return value == 2;
+        }
+        for (int d = 3; d * d <= value; d += 2) {
+            if (value % d == 0) {
+                return false;
+            }
+        }
+        return value > 1;
+    }
+
+    private static int primeBound(int updates) {
+        return (int) Math.min(PRIME_BOUND, Math.sqrt(MAX_INTEGER / (updates + 1)));
+    }
+
+    private static int[] primes(double log2Product, int bound) {
+        int[] result = new int[16];
+        int count = 0;
+        double bits = 0;
+        for (int candidate = (bound - 1) | 1; bits <= log2Product; candidate -= 2) {
+            if (isPrime(candidate)) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, 2 * count);
+                }
+                result[count++] = candidate;
+                bits += Math.log(candidate) / Math.log(2);
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static long inverse(long value, long p) {
+        long r0 = p;
+        long r1 = value;
+        long t0 = 0;
+        long t1 = 1;
+        while (r1 != 0) {
+            long q = r0 / r1;
+            long r = r0 - q * r1;
+            r0 = r1;
+            r1 = r;
+            long t = t0 - q * t1;
+            t0 = t1;
+            t1 = t;
+        }
+        return Math.floorMod(t0, p);
+    }
+
+    private static void reduce(long[] a, int p, double[] work) {
+        for (int k = 0; k < a.length; k++) {
+            work[k] = Math.floorMod(a[k], p);
+        }
+    }
+
+    private static void reduceRow(double[] work, int width, int row, int column, int p) {
+        for (int j = row * width + column; j < (row + 1) * width; j++) {
+            work[j] = Math.floorMod((long) work[j], p);
+        }
+    }
+
+    private static void eliminate(double[] work, int width, int row, int column, int pivotRow, long factor) {
+        int target = row * width;
+        int source = pivotRow * width;
+        double f = factor;
+        for (int j = column; j < width; j++) {
+            work[target + j] -= f * work[source + j];
+        }
+    }
+
+    private static long canonical(double value, int p) {
+        return Math.floorMod((long) value, p);
+    }
+
+    static long determinantModulo(long[] a, int n, int p, double[] work) {
+        reduce(a, p, work);
+        long result = 1;
+        for (int k = 0; k < n; k++) {
+            int pivotRow = k;
+            while (pivotRow < n && canonical(work[pivotRow * n + k], p) == 0) {
+                pivotRow++;
+            }
+            if (pivotRow == n) {
+                return 0;
+            }
+            if (pivotRow != k) {
+                for (int j = k; j < n; j++) {
+                    double temp = work[k * n + j];
+                    work[k * n + j] = work[pivotRow * n + j];
+                    work[pivotRow * n + j] = temp;
+                }
+                result = p - result;
+            }
+            reduceRow(work, n, k, k, p);
+            long pivot = (long) work[k * n + k];
+            result = result * pivot % p;
+            long pivotInverse = inverse(pivot, p);
+            for (int i = k + 1; i < n; i++) {
+                long value = canonical(work[i * n + k], p);
+                if (value != 0) {
+                    eliminate(work, n, i, k + 1, k, value * pivotInverse % p);
+                }
+            }
+        }
+        return result % p;
+    }
+
+    static int rankModulo(long[] a, int height, int width, int p, double[] work) {
+        reduce(a, p, work);
+        int rank = 0;
+        for (int k = 0; k < width && rank < height; k++) {
+            int pivotRow = rank;
+            while (pivotRow < height && canonical(work[pivotRow * width + k], p) == 0) {
+                pivotRow++;
+            }
+            if (pivotRow == height) {
+                continue;
+            }
+            if (pivotRow != rank) {
+                for (int j = k; j < width; j++) {
+                    double temp = work[rank * width + j];
+                    work[rank * width + j] = work[pivotRow * width + j];
+                    work[pivotRow * width + j] = temp;
+                }
+            }
+            reduceRow(work, width, rank, k, p);
+            long pivotInverse = inverse((long) work[rank * width + k], p);
+            for (int i = rank + 1; i < height; i++) {
+                long value = canonical(work[i * width + k], p);
+                if (value != 0) {
+                    eliminate(work, width, i, k + 1, rank, value * pivotInverse % p);
+                }
+            }
+            rank++;
+        }
+        return rank;
+    }
+
+    static BigInteger modularDeterminant(long[] a, int n, ExecutionPolicy policy) {
+        int[] primes = primes(log2MinorBound(a, n, n) + 2, primeBound(n));
+        long[] residues = new long[primes.length];
+        policy.forEachRange(primes.length, (long) primes.length * n * n * n / 3, (from, to) -> {
+            double[] work = new double[n * n];
+            for (int t = from; t < to; t++) {
+                residues[t] = determinantModulo(a, n, primes[t], work);
+            }
+        });
+        BigInteger result = BigInteger.ZERO;
+        BigInteger modulus = BigInteger.ONE;
+        for (int t = 0; t < primes.length; t++) {
+            long p = primes[t];
+            BigInteger prime = BigInteger.valueOf(p);
+            long current = result.mod(prime).longValue();
+            long coefficient = Math.floorMod(residues[t] - current, p) * inverse(modulus.mod(prime).longValue(), p) % p;
+            result = result.add(modulus.multiply(BigInteger.valueOf(coefficient)));
+            modulus = modulus.multiply(prime);
+        }
+        return result.compareTo(modulus.shiftRight(1)) > 0 ? result.subtract(modulus) : result;
+    }
+
+    static int rank(long[] a, int height, int width) {
+        int full = Math.min(height, width);
+        int[] primes = primes(log2MinorBound(a, height, width) + 1, primeBound(Math.max(height, width)));
+        double[] work = new double[height * width];
+        int rank = 0;
+        for (int p : primes) {
+            rank = Math.max(rank, rankModulo(a, height, width, p, work));
+            if (rank == full) {
+                break;
+            }
+        }
+        return rank;
+    }
+}
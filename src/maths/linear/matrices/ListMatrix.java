@@ -56,7 +56,7 @@ public class ListMatrix extends AbstractMatrix {
         for (int i = 0; i < height; i++) {
             List<Double> temp = new ArrayList<>();
             for (int j = 0; j < width; j++) {
-                temp.add(buildAsRows ? vectors[i].get(j) : vectors[j].get(i));
+                temp.add(buildAsRows ? vectors[i].getUnsafe(j) : vectors[j].getUnsafe(i));
             }
             list.add(temp);
         }
@@ -0,0 +1,277 @@
+package maths.linear.matrices;
+
+import maths.exceptions.InitializationException;
+import maths.linear.Asserts;
+import maths.linear.kernels.Kernels;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+public class MappedMatrix extends AbstractMatrix implements Closeable {
+
+    public static final int HEADER_SIZE = 64;
+
+    private static final int MAGIC = 0x4D4D5458;
+    private static final int VERSION = 1;
+    private static final byte BIG_ENDIAN = 0;
+    private static final byte LITTLE_ENDIAN = 1;
+    private static final int CHUNK_SHIFT = 27;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+    private static final int BAND = 64;
+    private static final int BAND_ELEMENTS = 1 << 20;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] buffers;
+    private final DoubleBuffer[] chunks;
+    private final ByteOrder order;
+    private final boolean readOnly;
+
+    private MappedMatrix(FileChannel channel, int height, int width, ByteOrder order, boolean readOnly)
+            throws IOException {
+        super(height, width);
+        this.channel = channel;
+        this.order = order;
+        this.readOnly = readOnly;
+        long elements = (long) height * width;
+        int count = (int) ((elements + CHUNK_MASK) >>> CHUNK_SHIFT);
+        buffers = new MappedByteBuffer[count];
+        chunks = new DoubleBuffer[count];
+        FileChannel.MapMode mode = readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+        for (int k = 0; k < count; k++) {
+            long first = (long) k << CHUNK_SHIFT;
+            long length = Math.min(elements - first, 1L << CHUNK_SHIFT);
+            buffers[k] = channel.map(mode, HEADER_SIZE + first * Double.BYTES, length * Double.BYTES);
+            chunks[k] = buffers[k].order(order).asDoubleBuffer();
+        }
+    }
+
+    private static void initError(String message) {
+        throw new InitializationException(message);
+    }
+
+    public static MappedMatrix create(Path path, int height, int width) throws IOException {
+        return create(path, height, width, ByteOrder.nativeOrder());
+    }
+
+    public static MappedMatrix create(Path path, int height, int width, ByteOrder order) throws IOException {
+        Asserts.requireNonNull(path, order);
+        if (height <= 0 || width <= 0) {
+            initError("can not create matrix with sizes: (" + height + ", " + width + ")");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).put(order == ByteOrder.BIG_ENDIAN ? BIG_ENDIAN : LITTLE_ENDIAN);
+            header.position(12);
+            header.putInt(height).putInt(width);
+            header.clear();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            return new MappedMatrix(channel, height, width, order, false);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static MappedMatrix open(Path path) throws IOException {
+        return open(path, false);
+    }
+
+    public static MappedMatrix openReadOnly(Path path) throws IOException {
+        return open(path, true);
+    }
+
+    private static MappedMatrix open(Path path, boolean readOnly) throws IOException {
+        Objects.requireNonNull(path);
+        FileChannel channel = readOnly ? FileChannel.open(path, StandardOpenOption.READ) :
+                FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    break;
+                }
+            }
+            if (header.hasRemaining()) {
+                initError("can not map matrix: file " + path + " is shorter than header");
+            }
+            header.flip();
+            int magic = header.getInt();
+            int version = header.getInt();
+            byte flag = header.get();
+            header.position(12);
+            int height = header.getInt();
+            int width = header.getInt();
+            if (magic != MAGIC) {
+                initError("can not map matrix: file " + path + " has invalid magic number " + Integer.toHexString(magic));
+            } else if (version != VERSION) {
+                initError("can not map matrix: unsupported version = " + version);
+            } else if (flag != BIG_ENDIAN && flag != LITTLE_ENDIAN) {
+                initError("can not map matrix: unknown byte order flag = " + flag);
+            } else if (height <= 0 || width <= 0) {
+                initError("can not map matrix with sizes: (" + height + ", " + width + ")");
+            }
+            long required = HEADER_SIZE + (long) height * width * Double.BYTES;
+            if (channel.size() < required) {
+                initError("can not map matrix: file " + path + " has size = " + channel.size() +
+                        ", but expected at least " + required);
+            }
+            ByteOrder order = flag == BIG_ENDIAN ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+            return new MappedMatrix(channel, height, width, order, readOnly);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public ByteOrder order() {
+        return order;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    void read(long index, double[] dest, int offset, int length) {
+        while (length > 0) {
+            int chunk = (int) (index >>> CHUNK_SHIFT);
+            int position = (int) (index & CHUNK_MASK);
+            int count = Math.min(length, chunks[chunk].limit() - position);
+            chunks[chunk].get(position, dest, offset, count);
+            index += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void write(long index, double[] src, int offset, int length) {
+        while (length > 0) {
+            int chunk = (int) (index >>> CHUNK_SHIFT);
+            int position = (int) (index & CHUNK_MASK);
+            int count = Math.min(length, chunks[chunk].limit() - position);
+            chunks[chunk].put(position, src, offset, count);
+            index += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    @Override
+    protected double getImpl(int i, int j) {
+        long index = (long) i * width + j;
+        return chunks[(int) (index >>> CHUNK_SHIFT)].get((int) (index & CHUNK_MASK));
+    }
+
+    @Override
+    protected void setImpl(int i, int j, double value) {
+        long index = (long) i * width + j;
+        chunks[(int) (index >>> CHUNK_SHIFT)].put((int) (index & CHUNK_MASK), value);
+    }
+
+    @Override
+    public void getRow(int i, double[] dest) {
+        checkRow(i);
+        Asserts.checkBuffer(dest, width);
+        read((long) i * width, dest, 0, width);
+    }
+
+    @Override
+    public void setRow(int i, double[] src) {
+        checkRow(i);
+        Asserts.checkBuffer(src, width);
+        write((long) i * width, src, 0, width);
+    }
+
+    @Override
+    public void copyTo(double[] dest) {
+        Asserts.checkBuffer(dest, Math.multiplyExact(height, width));
+        read(0, dest, 0, height * width);
+    }
+
+    @Override
+    public void clear() {
+        double[] zeros = new double[(int) Math.min((long) height * width, BAND_ELEMENTS)];
+        long elements = (long) height * width;
+        for (long index = 0; index < elements; index += zeros.length) {
+            write(index, zeros, 0, (int) Math.min(zeros.length, elements - index));
+        }
+    }
+
+    private int bandRows() {
+        return Math.max(1, Math.min(BAND, BAND_ELEMENTS / width));
+    }
+
+    void multiply(double[] x, double[] y, int from, int to) {
+        int rows = bandRows();
+        double[] band = new double[rows * width];
+        for (int i0 = from; i0 < to; i0 += rows) {
+            int count = Math.min(rows, to - i0);
+            read((long) i0 * width, band, 0, count * width);
+            for (int i = 0; i < count; i++) {
+                y[i0 + i] = Kernels.dot(band, i * width, x, 0, width);
+            }
+        }
+    }
+
+    void transpose(MutableMatrix dest) {
+        int rows = bandRows();
+        double[] band = new double[rows * width];
+        double[] segment = new double[rows];
+        double[][] destRows = ArrayOperations.rowsOf(dest);
+        for (int i0 = 0; i0 < height; i0 += rows) {
+            int count = Math.min(rows, height - i0);
+            read((long) i0 * width, band, 0, count * width);
+            for (int j = 0; j < width; j++) {
+                double[] target = destRows != null ? destRows[j] : segment;
+                int offset = destRows != null ? i0 : 0;
+                for (int i = 0, k = j; i < count; i++, k += width) {
+                    target[offset + i] = band[k];
+                }
+                if (dest instanceof MappedMatrix) {
+                    ((MappedMatrix) dest).write((long) j * height + i0, segment, 0, count);
+                } else if (destRows == null) {
+                    for (int i = 0; i < count; i++) {
+                        dest.setUnsafe(j, i0 + i, segment[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    public MappedMatrix transpose(Path target) throws IOException {
+        MappedMatrix result = create(target, width, height, order);
+        transpose(result);
+        return result;
+    }
+
+    public void force() {
+        if (readOnly) {
+            return;
+        }
+        for (MappedByteBuffer buffer : buffers) {
+            buffer.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * height + width;
+    }
+}
@@ -1,64 +1,117 @@
 package maths.linear.matrices;
 
+import maths.linear.ExecutionPolicy;
+import maths.linear.ScratchPool;
+import maths.linear.decompositions.CholeskyDecomposition;
+import maths.linear.decompositions.LUDecomposition;
+import maths.linear.decompositions.SingularValueDecomposition;
+import maths.linear.kernels.BinaryKernel;
+import maths.linear.kernels.Kernels;
 import maths.linear.vectors.Vector;
 import maths.linear.vectors.Vectors;
 import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.MutableVector;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.UnaryOperator;
 
 public final class Matrices {
 
+    private static volatile ExecutionPolicy executionPolicy = ExecutionPolicy.sequential();
+    private static volatile int strassenCrossover = 0;
+
     private Matrices() {}
 
-    private static Vector getRowColumn(Matrix matrix, int k, boolean isRow) {
-        Vector result = new ArrayVector(isRow ? matrix.width() : matrix.height());
-        for (int i = 0; i < result.size(); i++) {
-            result.set(i, matrix.get(isRow ? k : i, isRow ? i : k));
+    public static ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    public static void setExecutionPolicy(ExecutionPolicy policy) {
+        executionPolicy = Objects.requireNonNull(policy);
+    }
+
+    public static int getStrassenCrossover() {
+        return strassenCrossover;
+    }
+
+    public static void setStrassenCrossover(int crossover) {
+        if (crossover < 0) {
+            throw new IllegalArgumentException("crossover must be non negative, but found " + crossover);
+        }
+        strassenCrossover = crossover;
+    }
+
+    private static void checkIndex(int index, int bound, String name, String stringBound) {
+        if (index < 0 || index >= bound) {
+            throw new IllegalArgumentException(name + " = " + index + " out of bounds for " + stringBound + " = " + bound);
         }
-        return result;
     }
 
     public static Vector getRow(Matrix matrix, int i) {
-        return getRowColumn(matrix, i, true);
+        if (matrix instanceof DenseMatrix) {
+            return ((DenseMatrix) matrix).row(i);
+        }
+        ArrayVector result = new ArrayVector(matrix.width());
+        matrix.getRow(i, result.array());
+        return result;
     }
 
     public static Vector getColumn(Matrix matrix, int j) {
-        return getRowColumn(matrix, j, false);
+        if (matrix instanceof DenseMatrix) {
+            return ((DenseMatrix) matrix).column(j);
+        }
+        checkIndex(j, matrix.width(), "j", "width");
+        ArrayVector result = new ArrayVector(matrix.height());
+        double[] column = result.array();
+        for (int i = 0; i < column.length; i++) {
+            column[i] = matrix.getUnsafe(i, j);
+        }
+        return result;
     }
 
-    private static void setRowColumn(Matrix matrix, int k, Vector vector, boolean isRow, int param, String stringParam, String object) {
+    private static void checkVector(Vector vector, int param, String stringParam, String object) {
         if (vector.size() != param) {
             throw new IllegalArgumentException("can not set " + object + " with size = " +
                     vector.size() + " in matrix with " + stringParam + " = " + param);
         }
-        for (int i = 0; i < param; i++) {
-            matrix.set(isRow ? k : i, isRow ? i : k, vector.get(i));
-        }
     }
 
     public static void setRow(Matrix matrix, int i, Vector row) {
-        setRowColumn(matrix, i, row, true, matrix.width(), "width", "row");
+        checkVector(row, matrix.width(), "width", "row");
+        double[] values = new double[row.size()];
+        row.copyTo(values);
+        matrix.setRow(i, values);
     }
 
     public static void setColumn(Matrix matrix, int j, Vector column) {
-        setRowColumn(matrix, j, column, false, matrix.height(), "height", "column");
+        checkVector(column, matrix.height(), "height", "column");
+        checkIndex(j, matrix.width(), "j", "width");
+        for (int i = 0; i < matrix.height(); i++) {
+            matrix.setUnsafe(i, j, column.getUnsafe(i));
+        }
     }
 
     public static void swapRows(Matrix matrix, int i1, int i2) {
-        Vector temp = getRow(matrix, i1);
-        setRow(matrix, i1, getRow(matrix, i2));
-        setRow(matrix, i2, temp);
+        checkIndex(i1, matrix.height(), "i", "height");
+        checkIndex(i2, matrix.height(), "i", "height");
+        for (int j = 0; j < matrix.width(); j++) {
+            swapUnsafe(matrix, i1, j, i2, j);
+        }
     }
 
     public static void swapColumns( Matrix matrix, int j1, int j2) {
-        Vector temp = getColumn(matrix, j1);
-        setColumn(matrix, j1, getColumn(matrix, j2));
-        setColumn(matrix, j2, temp);
+        checkIndex(j1, matrix.width(), "j", "width");
+        checkIndex(j2, matrix.width(), "j", "width");
+        for (int i = 0; i < matrix.height(); i++) {
+            swapUnsafe(matrix, i, j1, i, j2);
+        }
     }
 
     public static void swap( Matrix matrix, int i1, int j1, int i2, int j2) {
@@ -67,10 +120,21 @@ public final class Matrices {
         matrix.set(i2, j2, temp);
     }
 
+    private static void swapUnsafe(Matrix matrix, int i1, int j1, int i2, int j2) {
+        double temp = matrix.getUnsafe(i1, j1);
+        matrix.setUnsafe(i1, j1, matrix.getUnsafe(i2, j2));
+        matrix.setUnsafe(i2, j2, temp);
+    }
+
     public static void fill( Matrix matrix, double x) {
+        double[][] rows = ArrayOperations.rowsOf(matrix);
         for (int i = 0; i < matrix.height(); i++) {
+            if (rows != null) {
+                Arrays.fill(rows[i], x);
+                continue;
+            }
             for (int j = 0; j < matrix.width(); j++) {
-                matrix.set(i, j, x);
+                matrix.setUnsafe(i, j, x);
             }
         }
     }
@@ -78,19 +142,19 @@ public final class Matrices {
     public static double[][] asArray( Matrix matrix) {
         double[][] result = new double[matrix.height()][matrix.width()];
         for (int i = 0; i < matrix.height(); i++) {
-            for (int j = 0; j < matrix.width(); j++) {
-                result[i][j] = matrix.get(i, j);
-            }
+            matrix.getRow(i, result[i]);
         }
         return result;
     }
 
     public static List<List<Double>> asList( Matrix matrix) {
         List<List<Double>> result = new ArrayList<>();
+        double[] row = new double[matrix.width()];
         for (int i = 0; i < matrix.height(); i++) {
+            matrix.getRow(i, row);
             List<Double> temp = new ArrayList<>();
-            for (int j = 0; j < matrix.width(); j++) {
-                temp.add(matrix.get(i, j));
+            for (double x : row) {
+                temp.add(x);
             }
             result.add(temp);
         }
@@ -98,118 +162,459 @@ public final class Matrices {
     }
 
     public static  Vector asVector( Matrix matrix) {
-        List<Double> list = new ArrayList<>();
-        for (double x : matrix) {
-            list.add(x);
-        }
-        return new ArrayVector(list);
+        ArrayVector result = new ArrayVector(matrix.height() * matrix.width());
+        matrix.copyTo(result.array());
+        return result;
     }
 
-    public static  Matrix subMatrix( Matrix matrix, int low, int left, int up, int right) {
+    private static void checkBounds(Matrix matrix, int low, int left, int up, int right) {
         if (low < 0 || low > matrix.height() || up < 0 || up > matrix.height() || low >= up ||
                 left < 0 || left > matrix.width() || right < 0 || right > matrix.width() || left >= right) {
             throw new IllegalArgumentException("incorrect bounds for matrix.sizes = (" + matrix.height() + ", " + matrix.width() + "): " +
                     "low = " + low + ", left = " + left + ", up = " + up + ", right = " + right);
         }
-        Matrix result = new ArrayMatrix(up - low, right - left);
+    }
+
+    private static void checkDestination(Matrix dest, int height, int width) {
+        if (dest.height() != height || dest.width() != width) {
+            throw new IllegalArgumentException("incongruous sizes of destination: expected " +
+                    "(" + height + ", " + width + "), actual (" + dest.height() + ", " + dest.width() + ")");
+        }
+    }
+
+    public static  Matrix subMatrix( Matrix matrix, int low, int left, int up, int right) {
+        checkBounds(matrix, low, left, up, right);
+        if (matrix instanceof DenseMatrix) {
+            return ((DenseMatrix) matrix).subMatrix(low, left, up, right);
+        }
+        ArrayMatrix result = new ArrayMatrix(up - low, right - left);
+        subMatrix(matrix, low, left, up, right, result);
+        return result;
+    }
+
+    public static void subMatrix(Matrix matrix, int low, int left, int up, int right, MutableMatrix dest) {
+        checkBounds(matrix, low, left, up, right);
+        checkDestination(dest, up - low, right - left);
+        double[][] rows = ArrayOperations.rowsOf(matrix);
+        double[][] destRows = ArrayOperations.rowsOf(dest);
         for (int i = low; i < up; i++) {
+            if (rows != null && destRows != null) {
+                System.arraycopy(rows[i], left, destRows[i - low], 0, right - left);
+                continue;
+            }
             for (int j = left; j < right; j++) {
-                result.set(i - low, j - left, matrix.get(i, j));
+                dest.setUnsafe(i - low, j - left, matrix.getUnsafe(i, j));
             }
         }
-        return result;
     }
 
     public static  Matrix applyElementByElement( Matrix a,  Matrix b, BinaryOperator<Double> operator) {
+        Objects.requireNonNull(operator);
+        return applyElementByElementAsDouble(a, b, (x, y) -> operator.apply(x, y));
+    }
+
+    private static void checkSizes(Matrix a, Matrix b) {
         if (a.height() != b.height() || a.width() != b.width()) {
             throw new IllegalArgumentException("incongruous sizes of arguments: " +
                     "(" + a.height() + ", " + a.width() + "), (" + b.height() + ", " + b.width() + ")");
         }
-        Matrix result = new ArrayMatrix(a.height(), a.width());
+    }
+
+    private static long work(Matrix matrix) {
+        return (long) matrix.height() * matrix.width();
+    }
+
+    public static  Matrix applyElementByElementAsDouble(Matrix a, Matrix b, DoubleBinaryOperator operator) {
+        return applyElementByElementAsDouble(a, b, operator, executionPolicy);
+    }
+
+    public static  Matrix applyElementByElementAsDouble(Matrix a, Matrix b, DoubleBinaryOperator operator,
+                                                        ExecutionPolicy policy) {
+        checkSizes(a, b);
+        ArrayMatrix result = new ArrayMatrix(a.height(), a.width());
+        applyElementByElementAsDouble(a, b, operator, result, policy);
+        return result;
+    }
+
+    public static void applyElementByElementAsDouble(Matrix a, Matrix b, DoubleBinaryOperator operator,
+                                                     MutableMatrix dest) {
+        applyElementByElementAsDouble(a, b, operator, dest, executionPolicy);
+    }
+
+    public static void applyElementByElementAsDouble(Matrix a, Matrix b, DoubleBinaryOperator operator,
+                                                     MutableMatrix dest, ExecutionPolicy policy) {
+        checkSizes(a, b);
+        Objects.requireNonNull(operator);
+        checkDestination(dest, a.height(), a.width());
+        double[][] destRows = ArrayOperations.rowsOf(dest);
+        if (destRows != null) {
+            policy.forEachRange(a.height(), work(a),
+                    (from, to) -> ArrayOperations.applyElementByElement(destRows, a, b, operator, from, to));
+            return;
+        }
         for (int i = 0; i < a.height(); i++) {
             for (int j = 0; j < a.width(); j++) {
-                result.set(i, j, operator.apply(a.get(i, j), b.get(i, j)));
+                dest.setUnsafe(i, j,
+                        operator.applyAsDouble(a.getUnsafe(i, j), b.getUnsafe(i, j)));
             }
         }
+    }
+
+    private static Matrix applyKernel(Matrix a, Matrix b, BinaryKernel kernel, DoubleBinaryOperator operator) {
+        checkSizes(a, b);
+        ArrayMatrix result = new ArrayMatrix(a.height(), a.width());
+        applyKernel(a, b, kernel, operator, result);
         return result;
     }
 
+    private static void applyKernel(Matrix a, Matrix b, BinaryKernel kernel, DoubleBinaryOperator operator,
+                                    MutableMatrix dest) {
+        double[][] aRows = ArrayOperations.rowsOf(a);
+        double[][] bRows = ArrayOperations.rowsOf(b);
+        double[][] destRows = ArrayOperations.rowsOf(dest);
+        if (aRows == null || bRows == null || destRows == null) {
+            applyElementByElementAsDouble(a, b, operator, dest);
+            return;
+        }
+        checkSizes(a, b);
+        checkDestination(dest, a.height(), a.width());
+        executionPolicy.forEachRange(a.height(), work(a),
+                (from, to) -> ArrayOperations.applyKernel(destRows, aRows, bRows, kernel, from, to));
+    }
+
     public static  Matrix add(Matrix a, Matrix b) {
-        return applyElementByElement(a, b, Double::sum);
+        if (a instanceof AbstractSparseMatrix && b instanceof AbstractSparseMatrix &&
+                a.height() == b.height() && a.width() == b.width()) {
+            if (a instanceof CsrMatrix) {
+                CompressedStorage bRows = rowStorage(b);
+                return new CsrMatrix(((CsrMatrix) a).storage.add(bRows));
+            }
+            CompressedStorage bColumns = b instanceof CscMatrix ?
+                    ((CscMatrix) b).storage : ((CsrMatrix) b).storage.transpose();
+            return new CscMatrix(((CscMatrix) a).storage.add(bColumns));
+        }
+        return applyKernel(a, b, Kernels::add, Double::sum);
     }
 
     public static  Matrix subtract(Matrix a, Matrix b) {
-        return applyElementByElement(a, b, (x, y) -> x - y);
+        return applyKernel(a, b, Kernels::subtract, (x, y) -> x - y);
     }
 
     public static  Matrix multiply(Matrix a, Matrix b) {
-        return applyElementByElement(a, b, (x, y) -> x * y);
+        return applyKernel(a, b, Kernels::multiply, (x, y) -> x * y);
     }
 
     public static  Matrix divide(Matrix a, Matrix b) {
-        return applyElementByElement(a, b, (x, y) -> x / y);
+        return applyKernel(a, b, Kernels::divide, (x, y) -> x / y);
+    }
+
+    public static void add(Matrix a, Matrix b, MutableMatrix dest) {
+        applyKernel(a, b, Kernels::add, Double::sum, dest);
+    }
+
+    public static void subtract(Matrix a, Matrix b, MutableMatrix dest) {
+        applyKernel(a, b, Kernels::subtract, (x, y) -> x - y, dest);
+    }
+
+    public static void multiply(Matrix a, Matrix b, MutableMatrix dest) {
+        applyKernel(a, b, Kernels::multiply, (x, y) -> x * y, dest);
+    }
+
+    public static void divide(Matrix a, Matrix b, MutableMatrix dest) {
+        applyKernel(a, b, Kernels::divide, (x, y) -> x / y, dest);
     }
 
     public static  Matrix applyForEach( Matrix matrix, UnaryOperator<Double> operator) {
-        Matrix result = new ArrayMatrix(matrix.height(), matrix.width());
+        Objects.requireNonNull(operator);
+        return applyForEachAsDouble(matrix, (x) -> operator.apply(x));
+    }
+
+    public static  Matrix applyForEachAsDouble(Matrix matrix, DoubleUnaryOperator operator) {
+        return applyForEachAsDouble(matrix, operator, executionPolicy);
+    }
+
+    public static  Matrix applyForEachAsDouble(Matrix matrix, DoubleUnaryOperator operator, ExecutionPolicy policy) {
+        ArrayMatrix result = new ArrayMatrix(matrix.height(), matrix.width());
+        applyForEachAsDouble(matrix, operator, result, policy);
+        return result;
+    }
+
+    public static void applyForEachAsDouble(Matrix matrix, DoubleUnaryOperator operator, MutableMatrix dest) {
+        applyForEachAsDouble(matrix, operator, dest, executionPolicy);
+    }
+
+    public static void applyForEachAsDouble(Matrix matrix, DoubleUnaryOperator operator, MutableMatrix dest,
+                                            ExecutionPolicy policy) {
+        Objects.requireNonNull(operator);
+        checkDestination(dest, matrix.height(), matrix.width());
+        double[][] destRows = ArrayOperations.rowsOf(dest);
+        if (destRows != null) {
+            policy.forEachRange(matrix.height(), work(matrix),
+                    (from, to) -> ArrayOperations.applyForEach(destRows, matrix, operator, from, to));
+            return;
+        }
         for (int i = 0; i < matrix.height(); i++) {
             for (int j = 0; j < matrix.width(); j++) {
-                result.set(i, j, operator.apply(matrix.get(i, j)));
+                dest.setUnsafe(i, j, operator.applyAsDouble(matrix.getUnsafe(i, j)));
             }
         }
-        return result;
     }
 
     public static  Matrix matrixXScalar(Matrix matrix, double scalar) {
-        return applyForEach(matrix, (a) -> a * scalar);
+        if (matrix instanceof CsrMatrix) {
+            return new CsrMatrix(((CsrMatrix) matrix).storage.scale(scalar));
+        } else if (matrix instanceof CscMatrix) {
+            return new CscMatrix(((CscMatrix) matrix).storage.scale(scalar));
+        }
+        ArrayMatrix result = new ArrayMatrix(matrix.height(), matrix.width());
+        matrixXScalar(matrix, scalar, result);
+        return result;
+    }
+
+    public static void matrixXScalar(Matrix matrix, double scalar, MutableMatrix dest) {
+        double[][] rows = ArrayOperations.rowsOf(matrix);
+        double[][] destRows = ArrayOperations.rowsOf(dest);
+        if (rows == null || destRows == null) {
+            applyForEachAsDouble(matrix, (a) -> a * scalar, dest);
+            return;
+        }
+        checkDestination(dest, matrix.height(), matrix.width());
+        executionPolicy.forEachRange(matrix.height(), work(matrix),
+                (from, to) -> ArrayOperations.scale(destRows, rows, scalar, from, to));
     }
 
     public static  Matrix copyOf(Matrix matrix) {
-        return applyForEach(matrix, (a) -> a);
+        return applyForEachAsDouble(matrix, (a) -> a);
     }
 
-    private static  Vector mxvOrVxm(Matrix matrix,  Vector vector,
-                                            int required, int using, String stringRequired,
-                                            BiFunction<Matrix, Integer, Vector> func) {
+    private static void checkVectorSize(Vector vector, int required, String stringRequired) {
         if (required != vector.size()) {
             throw new IllegalArgumentException("incongruous matrix." + stringRequired + " and vector.size: " +
                     "for matrix." + stringRequired + " = " + required +
                     " expected vector.size = " + required + ", but found " + vector.size());
         }
-        Vector result = new ArrayVector(using);
-        for (int i = 0; i < using; i++) {
-            result.set(i, Vectors.scalarMultiply(func.apply(matrix, i), vector));
+    }
+
+    private static void matrixXVector(Matrix matrix, double[] x, double[] y, ExecutionPolicy policy) {
+        int height = matrix.height();
+        int width = matrix.width();
+        if (matrix instanceof CscMatrix) {
+            Arrays.fill(y, 0, height, 0);
+            ((CscMatrix) matrix).storage.multiplyMinor(x, y);
+            return;
+        } else if (matrix instanceof CsrMatrix) {
+            CompressedStorage storage = ((CsrMatrix) matrix).storage;
+            Arrays.fill(y, 0, height, 0);
+            policy.forEachRange(height, storage.nonZeros(), (from, to) -> storage.multiplyMajor(x, y, from, to));
+            return;
+        } else if (matrix instanceof MappedMatrix) {
+            MappedMatrix mapped = (MappedMatrix) matrix;
+            policy.forEachRange(height, work(matrix), (from, to) -> mapped.multiply(x, y, from, to));
+            return;
+        }
+        double[][] rows = ArrayOperations.rowsOf(matrix);
+        policy.forEachRange(height, work(matrix), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (rows != null) {
+                    y[i] = Kernels.dot(rows[i], 0, x, 0, width);
+                    continue;
+                }
+                double sum = 0;
+                for (int j = 0; j < width; j++) {
+                    sum += matrix.getUnsafe(i, j) * x[j];
+                }
+                y[i] = sum;
+            }
+        });
+    }
+
+    private static void vectorXMatrix(double[] x, Matrix matrix, double[] y) {
+        int height = matrix.height();
+        int width = matrix.width();
+        Arrays.fill(y, 0, width, 0);
+        if (matrix instanceof CscMatrix) {
+            ((CscMatrix) matrix).storage.multiplyMajor(x, y);
+            return;
+        } else if (matrix instanceof CsrMatrix) {
+            ((CsrMatrix) matrix).storage.multiplyMinor(x, y);
+            return;
+        }
+        double[][] rows = ArrayOperations.rowsOf(matrix);
+        for (int i = 0; i < height; i++) {
+            if (rows != null) {
+                Kernels.axpy(x[i], rows[i], 0, y, 0, width);
+                continue;
+            }
+            for (int j = 0; j < width; j++) {
+                y[j] += x[i] * matrix.getUnsafe(i, j);
+            }
         }
+    }
+
+    private static double[] acquire(Vector vector) {
+        double[] result = ScratchPool.acquire(vector.size());
+        vector.copyTo(result);
         return result;
     }
 
+    private static void copy(double[] y, MutableVector dest) {
+        for (int i = 0; i < dest.size(); i++) {
+            dest.setUnsafe(i, y[i]);
+        }
+    }
+
     public static  Vector matrixXVector(Matrix matrix, Vector vector) {
-        return mxvOrVxm(matrix, vector, matrix.width(), matrix.height(), "width", Matrices::getRow);
+        return matrixXVector(matrix, vector, executionPolicy);
+    }
+
+    public static  Vector matrixXVector(Matrix matrix, Vector vector, ExecutionPolicy policy) {
+        checkVectorSize(vector, matrix.width(), "width");
+        double[] y = new double[matrix.height()];
+        matrixXVector(matrix, Vectors.asArray(vector), y, policy);
+        return new ArrayVector(y);
+    }
+
+    public static void matrixXVector(Matrix matrix, Vector vector, MutableVector dest) {
+        checkVectorSize(vector, matrix.width(), "width");
+        checkVectorSize(dest, matrix.height(), "height");
+        double[] x = acquire(vector);
+        double[] y = ScratchPool.acquire(matrix.height());
+        try {
+            matrixXVector(matrix, x, y, executionPolicy);
+            copy(y, dest);
+        } finally {
+            ScratchPool.release(x);
+            ScratchPool.release(y);
+        }
     }
 
     public static  Vector vectorXMatrix(Vector vector, Matrix matrix) {
-        return mxvOrVxm(matrix, vector, matrix.height(), matrix.width(), "height", Matrices::getColumn);
+        checkVectorSize(vector, matrix.height(), "height");
+        double[] y = new double[matrix.width()];
+        vectorXMatrix(Vectors.asArray(vector), matrix, y);
+        return new ArrayVector(y);
     }
 
-    public static  Matrix matrixXMatrix( Matrix a,  Matrix b) {
+    public static void vectorXMatrix(Vector vector, Matrix matrix, MutableVector dest) {
+        checkVectorSize(vector, matrix.height(), "height");
+        checkVectorSize(dest, matrix.width(), "width");
+        double[] x = acquire(vector);
+        double[] y = ScratchPool.acquire(matrix.width());
+        try {
+            vectorXMatrix(x, matrix, y);
+            copy(y, dest);
+        } finally {
+            ScratchPool.release(x);
+            ScratchPool.release(y);
+        }
+    }
+
+    private static double[][] rawArray(Matrix matrix) {
+        double[][] rows = ArrayOperations.rowsOf(matrix);
+        return rows != null ? rows : asArray(matrix);
+    }
+
+    private static CompressedStorage rowStorage(Matrix matrix) {
+        if (matrix instanceof CsrMatrix) {
+            return ((CsrMatrix) matrix).storage;
+        } else if (matrix instanceof CscMatrix) {
+            return ((CscMatrix) matrix).storage.transpose();
+        }
+        return null;
+    }
+
+    private static void sparseXDense(CompressedStorage a, double[][] b, double[][] c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double[] cRow = c[i];
+            for (int p = a.pointers[i]; p < a.pointers[i + 1]; p++) {
+                double value = a.values[p];
+                double[] bRow = b[a.indices[p]];
+                for (int j = 0; j < cRow.length; j++) {
+                    cRow[j] += value * bRow[j];
+                }
+            }
+        }
+    }
+
+    private static void denseXSparse(double[][] a, CompressedStorage b, double[][] c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double[] aRow = a[i];
+            double[] cRow = c[i];
+            for (int k = 0; k < aRow.length; k++) {
+                double value = aRow[k];
+                for (int q = b.pointers[k]; q < b.pointers[k + 1]; q++) {
+                    cRow[b.indices[q]] += value * b.values[q];
+                }
+            }
+        }
+    }
+
+    private static void checkMultiplicable(Matrix a, Matrix b) {
         if (a.width() != b.height()) {
             throw new IllegalArgumentException("incongruous sizes of matrices: for first.width = "
                     + a.width() + " expected second.height = " + a.width() + " but found " + b.height());
         }
-        Matrix result = new ArrayMatrix(a.height(), b.width());
-        for (int i = 0; i < a.height(); i++) {
-            for (int j = 0; j < b.width(); j++) {
-                result.set(i, j, Vectors.scalarMultiply(getRow(a, i), getColumn(b, j)));
+    }
+
+    private static void multiply(Matrix a, Matrix b, CompressedStorage aRows, CompressedStorage bRows, double[][] c,
+                                 ExecutionPolicy policy) {
+        if (aRows != null) {
+            double[][] bArray = rawArray(b);
+            policy.forEachRange(c.length, (long) aRows.nonZeros() * b.width(),
+                    (from, to) -> sparseXDense(aRows, bArray, c, from, to));
+        } else if (bRows != null) {
+            double[][] aArray = rawArray(a);
+            policy.forEachRange(c.length, (long) a.height() * bRows.nonZeros(),
+                    (from, to) -> denseXSparse(aArray, bRows, c, from, to));
+        } else {
+            int crossover = strassenCrossover;
+            int levels = crossover > 0 ? Strassen.levels(a.height(), a.width(), b.width(), crossover) : 0;
+            if (levels > 0) {
+                Strassen.multiply(rawArray(a), rawArray(b), c, a.height(), a.width(), b.width(), levels, policy);
+            } else {
+                Gemm.multiply(rawArray(a), rawArray(b), c, a.height(), a.width(), b.width(), policy);
             }
         }
+    }
+
+    public static  Matrix matrixXMatrix( Matrix a,  Matrix b) {
+        return matrixXMatrix(a, b, executionPolicy);
+    }
+
+    public static  Matrix matrixXMatrix(Matrix a, Matrix b, ExecutionPolicy policy) {
+        checkMultiplicable(a, b);
+        Objects.requireNonNull(policy);
+        CompressedStorage aRows = rowStorage(a);
+        CompressedStorage bRows = rowStorage(b);
+        if (aRows != null && bRows != null) {
+            return new CsrMatrix(aRows.multiply(bRows));
+        }
+        ArrayMatrix result = new ArrayMatrix(a.height(), b.width());
+        multiply(a, b, aRows, bRows, result.array(), policy);
         return result;
     }
 
-    private static void applyLinearCombination(Matrix matrix, double scalar, int row, int col) {
-        setRow(matrix, row,
-                Vectors.subtract(
-                    getRow(matrix, row),
-                    Vectors.vectorXScalar(getRow(matrix, col), scalar)));
+    public static void matrixXMatrix(Matrix a, Matrix b, MutableMatrix dest) {
+        checkMultiplicable(a, b);
+        checkDestination(dest, a.height(), b.width());
+        CompressedStorage aRows = rowStorage(a);
+        CompressedStorage bRows = rowStorage(b);
+        if (aRows != null && bRows != null) {
+            ArrayOperations.copy(new CsrMatrix(aRows.multiply(bRows)), dest);
+            return;
+        }
+        double[][] destRows = ArrayOperations.rowsOf(dest);
+        if (destRows == null || dest == a || dest == b ||
+                destRows == ArrayOperations.rowsOf(a) || destRows == ArrayOperations.rowsOf(b)) {
+            double[][] result = new double[a.height()][b.width()];
+            multiply(a, b, aRows, bRows, result, executionPolicy);
+            ArrayOperations.copy(result, dest);
+            return;
+        }
+        for (double[] row : destRows) {
+            Arrays.fill(row, 0);
+        }
+        multiply(a, b, aRows, bRows, destRows, executionPolicy);
     }
 
     public static double determinant( Matrix matrix) {
@@ -217,51 +622,145 @@ public final class Matrices {
             throw new IllegalArgumentException("can not get determinant of non square matrix with sizes: " +
                     "(" + matrix.height() + ", " + matrix.width() + ")");
         }
-        int n = matrix.height();
-        Matrix mat = copyOf(matrix);
-        double mul = 1;
-        for (int col = 0; col < n - 1; col++) {
-            if (mat.get(col, col) == 0) {
-                boolean allZeros = true;
-                for (int row = col + 1; row < n; row++) {
-                    if (mat.get(row, col) != 0) {
-                        swapRows(mat, row, col);
-                        mul *= -1;
-                        allZeros = false;
-                        break;
-                    }
-                }
-                if (allZeros) {
-                    return 0;
+        CholeskyDecomposition cholesky = cholesky(matrix);
+        return cholesky != null ? cholesky.determinant() : new LUDecomposition(matrix).determinant();
+    }
+
+    public static boolean isSymmetric(Matrix matrix) {
+        if (matrix.height() != matrix.width()) {
+            return false;
+        }
+        for (int i = 0; i < matrix.height(); i++) {
+            for (int j = 0; j < i; j++) {
+                if (matrix.getUnsafe(i, j) != matrix.getUnsafe(j, i)) {
+                    return false;
                 }
             }
-            for (int row = col + 1; row < n; row++) {
-                if (mat.get(row, col) != 0) {
-                    applyLinearCombination(mat, mat.get(row, col) / mat.get(col, col), row, col);
+        }
+        return true;
+    }
+
+    private static CholeskyDecomposition cholesky(Matrix matrix) {
+        if (!CholeskyDecomposition.mayBePositiveDefinite(matrix)) {
+            return null;
+        }
+        CholeskyDecomposition decomposition = new CholeskyDecomposition(matrix);
+        return decomposition.isPositiveDefinite() ? decomposition : null;
+    }
+
+    private static long[] integerSquare(Matrix matrix) {
+        if (matrix.height() != matrix.width()) {
+            throw new IllegalArgumentException("can not get determinant of non square matrix with sizes: " +
+                    "(" + matrix.height() + ", " + matrix.width() + ")");
+        }
+        return IntegerElimination.toLongs(matrix);
+    }
+
+    public static boolean isIntegral(Matrix matrix) {
+        for (int i = 0; i < matrix.height(); i++) {
+            for (int j = 0; j < matrix.width(); j++) {
+                if (!IntegerElimination.isIntegral(matrix.getUnsafe(i, j))) {
+                    return false;
                 }
             }
         }
-        double result = 1;
-        for (int i = 0; i < n; i++) {
-            result *= mat.get(i, i);
+        return true;
+    }
+
+    public static BigInteger exactDeterminant(Matrix matrix) {
+        long[] a = integerSquare(matrix);
+        int n = matrix.height();
+        if (IntegerElimination.fitsLong(a, n)) {
+            return BigInteger.valueOf(IntegerElimination.bareiss(a.clone(), n));
         }
-        return result * mul;
+        return IntegerElimination.modularDeterminant(a, n, executionPolicy);
+    }
+
+    public static BigInteger bareissDeterminant(Matrix matrix) {
+        return IntegerElimination.bareiss(integerSquare(matrix), matrix.height(), true);
+    }
+
+    public static BigInteger modularDeterminant(Matrix matrix) {
+        return modularDeterminant(matrix, executionPolicy);
+    }
+
+    public static BigInteger modularDeterminant(Matrix matrix, ExecutionPolicy policy) {
+        Objects.requireNonNull(policy);
+        return IntegerElimination.modularDeterminant(integerSquare(matrix), matrix.height(), policy);
+    }
+
+    public static int exactRank(Matrix matrix) {
+        return IntegerElimination.rank(IntegerElimination.toLongs(matrix), matrix.height(), matrix.width());
+    }
+
+    public static int rank(Matrix matrix) {
+        return new SingularValueDecomposition(matrix, false).rank();
+    }
+
+    public static double conditionNumber(Matrix matrix) {
+        return new SingularValueDecomposition(matrix, false).conditionNumber();
+    }
+
+    public static Matrix pseudoInverse(Matrix matrix) {
+        return new SingularValueDecomposition(matrix).pseudoInverse();
     }
 
     public static  Matrix transpose( Matrix matrix) {
-        Matrix result = new ArrayMatrix(matrix.width(), matrix.height());
+        return transpose(matrix, executionPolicy);
+    }
+
+    public static  Matrix transpose(Matrix matrix, ExecutionPolicy policy) {
+        if (matrix instanceof DenseMatrix) {
+            return ((DenseMatrix) matrix).transpose();
+        } else if (matrix instanceof CsrMatrix) {
+            return ((CsrMatrix) matrix).transpose();
+        } else if (matrix instanceof CscMatrix) {
+            return ((CscMatrix) matrix).transpose();
+        }
+        ArrayMatrix result = new ArrayMatrix(matrix.width(), matrix.height());
+        if (matrix instanceof MappedMatrix) {
+            ((MappedMatrix) matrix).transpose(result);
+            return result;
+        }
+        policy.forEachRange(matrix.width(), work(matrix),
+                (from, to) -> ArrayOperations.transpose(result.array(), matrix, from, to));
+        return result;
+    }
+
+    public static void transpose(Matrix matrix, MutableMatrix dest) {
+        Objects.requireNonNull(matrix);
+        checkDestination(dest, matrix.width(), matrix.height());
+        double[][] destRows = ArrayOperations.rowsOf(dest);
+        if (dest == matrix || destRows != null && destRows == ArrayOperations.rowsOf(matrix)) {
+            for (int i = 0; i < matrix.height(); i++) {
+                for (int j = i + 1; j < matrix.width(); j++) {
+                    double temp = matrix.getUnsafe(i, j);
+                    dest.setUnsafe(i, j, matrix.getUnsafe(j, i));
+                    dest.setUnsafe(j, i, temp);
+                }
+            }
+            return;
+        }
+        if (matrix instanceof MappedMatrix) {
+            ((MappedMatrix) matrix).transpose(dest);
+            return;
+        }
+        if (destRows != null) {
+            executionPolicy.forEachRange(matrix.width(), work(matrix),
+                    (from, to) -> ArrayOperations.transpose(destRows, matrix, from, to));
+            return;
+        }
         for (int i = 0; i < matrix.height(); i++) {
             for (int j = 0; j < matrix.width(); j++) {
-                result.set(j, i, matrix.get(i, j));
+                dest.setUnsafe(j, i, matrix.getUnsafe(i, j));
             }
         }
-        return result;
     }
 
     public static  Matrix unitMatrix(int n) {
         Matrix result = new ArrayMatrix(n, n);
         for (int i = 0; i < n; i++) {
-            result.set(i, i, 1);
+            result.setUnsafe(i, i, 1);
         }
         return result;
     }
@@ -270,52 +769,43 @@ public final class Matrices {
         return new ArrayMatrix(n, n);
     }
 
-    private static void gaussForInverse(Matrix left, Matrix right, int n, boolean underDiag) {
-        for (int col = 0; col < n; col++) {
-            int low = underDiag ? col + 1 : 0;
-            int up = underDiag ? n : col;
-            if (left.get(col, col) == 0) {
-                boolean allZeros = true;
-                for (int row = low; row < up; row++) {
-                    if (left.get(row, col) != 0) {
-                        swapRows(left, row, col);
-                        swapRows(right, row, col);
-                        allZeros = false;
-                        break;
-                    }
-                }
-                if (allZeros) {
-                    throw new AssertionError();
-                }
-            }
-            for (int row = low; row < up; row++) {
-                if (left.get(row, col) != 0) {
-                    double sc = left.get(row, col) / left.get(col, col);
-                    applyLinearCombination(left, sc, row, col);
-                    applyLinearCombination(right, sc, row, col);
-                }
-            }
-        }
-    }
-
-    public static Matrix inverseMatrix(Matrix matrix) {
+    private static void checkInvertible(Matrix matrix) {
         Objects.requireNonNull(matrix);
         if (matrix.height() != matrix.width()) {
             throw new IllegalArgumentException("can not get inverse matrix of non square matrix with sizes: " +
                     "(" + matrix.height() + ", " + matrix.width() + ")");
         }
-        int n = matrix.height();
-        Matrix left = copyOf(matrix);
-        Matrix right = unitMatrix(n);
-        try {
-            gaussForInverse(left, right, n, true);
-            gaussForInverse(left, right, n, false);
-        } catch (AssertionError e) {
-            return zeroMatrix(n);
+    }
+
+    public static Matrix inverseMatrix(Matrix matrix) {
+        checkInvertible(matrix);
+        CholeskyDecomposition cholesky = cholesky(matrix);
+        if (cholesky != null) {
+            return cholesky.inverse();
+        }
+        LUDecomposition decomposition = new LUDecomposition(matrix);
+        if (decomposition.isSingular()) {
+            return zeroMatrix(matrix.height());
+        }
+        return decomposition.inverse();
+    }
+
+    public static void inverseMatrix(Matrix matrix, MutableMatrix dest) {
+        checkInvertible(matrix);
+        checkDestination(dest, matrix.height(), matrix.width());
+        CholeskyDecomposition cholesky = cholesky(matrix);
+        if (cholesky != null) {
+            ArrayOperations.copy(cholesky.inverse(), dest);
+            return;
+        }
+        LUDecomposition decomposition = new LUDecomposition(matrix);
+        dest.clear();
+        if (decomposition.isSingular()) {
+            return;
         }
-        for (int row = 0; row < n; row++) {
-            setRow(right, row, Vectors.vectorXScalar(getRow(right, row), 1 / left.get(row, row)));
+        for (int i = 0; i < dest.height(); i++) {
+            dest.setUnsafe(i, i, 1);
         }
-        return right;
+        decomposition.solveInPlace(dest);
     }
 }
@@ -1,5 +1,7 @@
 package maths.linear.matrices;
 
+import maths.linear.Asserts;
+
 import java.util.Iterator;
 
 public interface Matrix extends Iterable<Double> {
@@ -10,4 +12,35 @@ public interface Matrix extends Iterable<Double> {
     double get(int i, int j);
     void set(int i, int j, double value);
 
+    default double getUnsafe(int i, int j) {
+        return get(i, j);
+    }
+
+    default void setUnsafe(int i, int j, double value) {
+        set(i, j, value);
+    }
+
+    default void getRow(int i, double[] dest) {
+        Asserts.checkBuffer(dest, width());
+        for (int j = 0; j < width(); j++) {
+            dest[j] = get(i, j);
+        }
+    }
+
+    default void setRow(int i, double[] src) {
+        Asserts.checkBuffer(src, width());
+        for (int j = 0; j < width(); j++) {
+            set(i, j, src[j]);
+        }
+    }
+
+    default void copyTo(double[] dest) {
+        Asserts.checkBuffer(dest, height() * width());
+        for (int i = 0, k = 0; i < height(); i++) {
+            for (int j = 0; j < width(); j++, k++) {
+                dest[k] = get(i, j);
+            }
+        }
+    }
+
 }
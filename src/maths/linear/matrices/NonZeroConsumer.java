@@ -0,0 +1,8 @@
+package maths.linear.matrices;
+
+@FunctionalInterface
+public interface NonZeroConsumer {
+
+    void accept(int i, int j, double value);
+
+}
@@ -0,0 +1,165 @@
+package maths.linear.matrices;
+
+import maths.exceptions.InitializationException;
+import maths.linear.Asserts;
+import maths.linear.OffHeapArena;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+public class OffHeapMatrix extends AbstractMatrix {
+
+    private static final DoubleBuffer RELEASED = DoubleBuffer.allocate(0);
+
+    private final OffHeapArena arena;
+    private DoubleBuffer data;
+
+    public OffHeapMatrix(OffHeapArena arena, int height, int width) {
+        super(height, width);
+        Objects.requireNonNull(arena);
+        this.arena = arena;
+        this.data = arena.allocate(Math.multiplyExact(height, width));
+        arena.onClose(() -> data = RELEASED);
+    }
+
+    public OffHeapMatrix(OffHeapArena arena, Matrix matrix) {
+        this(arena, matrix.height(), matrix.width());
+        double[] row = new double[width];
+        for (int i = 0; i < height; i++) {
+            matrix.getRow(i, row);
+            data.put(i * width, row, 0, width);
+        }
+    }
+
+    private OffHeapMatrix(DoubleBuffer data, int height, int width) {
+        super(height, width);
+        if ((long) height * width != data.capacity()) {
+            throw new InitializationException("can not create matrix with sizes: (" + height + ", " + width +
+                    ") from buffer with " + data.capacity() + " elements");
+        }
+        this.arena = OffHeapArena.global();
+        this.data = data;
+    }
+
+    public static OffHeapMatrix wrap(ByteBuffer buffer, int height, int width) {
+        return new OffHeapMatrix(OffHeapArena.wrap(buffer), height, width);
+    }
+
+    public OffHeapArena arena() {
+        return arena;
+    }
+
+    public DoubleBuffer buffer() {
+        arena.checkAccess();
+        return data.duplicate();
+    }
+
+    @Override
+    protected double getImpl(int i, int j) {
+        try {
+            return data.get(i * width + j);
+        } catch (IndexOutOfBoundsException e) {
+            arena.checkAccess();
+            throw e;
+        }
+    }
+
+    @Override
+    protected void setImpl(int i, int j, double value) {
+        try {
+            data.put(i * width + j, value);
+        } catch (IndexOutOfBoundsException e) {
+            arena.checkAccess();
+            throw e;
+        }
+    }
+
+    @Override
+    public double get(int i, int j) {
+        arena.checkAccess();
+        return super.get(i, j);
+    }
+
+    @Override
+    public void set(int i, int j, double value) {
+        arena.checkAccess();
+        super.set(i, j, value);
+    }
+
+    @Override
+    public void getRow(int i, double[] dest) {
+        arena.checkAccess();
+        checkRow(i);
+        Asserts.checkBuffer(dest, width);
+        data.get(i * width, dest, 0, width);
+    }
+
+    @Override
+    public void setRow(int i, double[] src) {
+        arena.checkAccess();
+        checkRow(i);
+        Asserts.checkBuffer(src, width);
+        data.put(i * width, src, 0, width);
+    }
+
+    @Override
+    public void copyTo(double[] dest) {
+        arena.checkAccess();
+        Asserts.checkBuffer(dest, height * width);
+        data.get(0, dest, 0, height * width);
+    }
+
+    @Override
+    public void clear() {
+        arena.checkAccess();
+        for (int k = 0; k < height * width; k++) {
+            data.put(k, 0);
+        }
+    }
+
+    @Override
+    public void applyElementByElementAsDouble(Matrix matrix, DoubleBinaryOperator operator) {
+        arena.checkAccess();
+        checkCongruous(matrix);
+        Objects.requireNonNull(operator);
+        for (int i = 0, k = 0; i < height; i++) {
+            for (int j = 0; j < width; j++, k++) {
+                data.put(k, operator.applyAsDouble(data.get(k), matrix.getUnsafe(i, j)));
+            }
+        }
+    }
+
+    @Override
+    public void applyForEachAsDouble(DoubleUnaryOperator operator) {
+        arena.checkAccess();
+        Objects.requireNonNull(operator);
+        for (int k = 0; k < height * width; k++) {
+            data.put(k, operator.applyAsDouble(data.get(k)));
+        }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        arena.checkAccess();
+        return super.equals(object);
+    }
+
+    @Override
+    public String toString() {
+        arena.checkAccess();
+        return super.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        arena.checkAccess();
+        int result = 1;
+        for (int k = 0; k < height * width; k++) {
+            result = 31 * result + Double.hashCode(data.get(k));
+        }
+        return 31 * (31 * result + height) + width;
+    }
+}
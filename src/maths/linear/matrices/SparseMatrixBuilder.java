@@ -0,0 +1,53 @@
+package maths.linear.matrices;
+
+import maths.exceptions.InitializationException;
+
+import java.util.Arrays;
+
+public class SparseMatrixBuilder {
+
+    private final int height;
+    private final int width;
+    private int[] rows;
+    private int[] columns;
+    private double[] values;
+    private int size;
+
+    public SparseMatrixBuilder(int height, int width) {
+        if (height <= 0 || width <= 0) {
+            throw new InitializationException("can not create matrix with sizes: (" + height + ", " + width + ")");
+        }
+        this.height = height;
+        this.width = width;
+        this.rows = new int[16];
+        this.columns = new int[16];
+        this.values = new double[16];
+    }
+
+    public SparseMatrixBuilder add(int i, int j, double value) {
+        if (i < 0 || i >= height) {
+            throw new IllegalArgumentException("i = " + i + " out of bounds for height = " + height);
+        } else if (j < 0 || j >= width) {
+            throw new IllegalArgumentException("j = " + j + " out of bounds for width = " + width);
+        }
+        if (size == rows.length) {
+            int capacity = size * 2;
+            rows = Arrays.copyOf(rows, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        rows[size] = i;
+        columns[size] = j;
+        values[size] = value;
+        size++;
+        return this;
+    }
+
+    public CsrMatrix buildCsr() {
+        return new CsrMatrix(CompressedStorage.fromTriplets(height, width, rows, columns, values, size));
+    }
+
+    public CscMatrix buildCsc() {
+        return new CscMatrix(CompressedStorage.fromTriplets(width, height, columns, rows, values, size));
+    }
+}
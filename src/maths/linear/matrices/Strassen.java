@@ -0,0 +1,182 @@
+package maths.linear.matrices;
+
+import maths.linear.ExecutionPolicy;
+
+final class Strassen {
+
+    private static final int MAX_LEVELS = 16;
+
+    private Strassen() {}
+
+    static int levels(int m, int k, int n, int crossover) {
+        int min = Math.min(m, Math.min(k, n));
+        int levels = 0;
+        while (levels < MAX_LEVELS && (min >> (levels + 1)) >= crossover) {
+            levels++;
+        }
+        return levels;
+    }
+
+    static void multiply(double[][] a, double[][] b, double[][] c, int m, int k, int n, int levels,
+                         ExecutionPolicy policy) {
+        int step = 1 << levels;
+        int mp = roundUp(m, step);
+        int kp = roundUp(k, step);
+        int np = roundUp(n, step);
+        double[][] ap = mp != m || kp != k ? pad(a, m, k, mp, kp) : a;
+        double[][] bp = kp != k || np != n ? pad(b, k, n, kp, np) : b;
+        double[][] cp = mp != m || np != n ? new double[mp][np] : c;
+        if (!policy.isSequential() && policy.parallelism() > 1) {
+            parallel(ap, bp, cp, mp, kp, np, levels, policy);
+        } else {
+            product(ap, 0, 0, bp, 0, 0, cp, 0, 0, mp, kp, np, workspace(mp, kp, np, levels), 0, policy);
+        }
+        if (cp != c) {
+            for (int i = 0; i < m; i++) {
+                System.arraycopy(cp[i], 0, c[i], 0, n);
+            }
+        }
+    }
+
+    private static int roundUp(int value, int step) {
+        return (value + step - 1) / step * step;
+    }
+
+    private static double[][] pad(double[][] source, int height, int width, int paddedHeight, int paddedWidth) {
+        double[][] result = new double[paddedHeight][paddedWidth];
+        for (int i = 0; i < height; i++) {
+            System.arraycopy(source[i], 0, result[i], 0, width);
+        }
+        return result;
+    }
+
+    private static Level[] workspace(int m, int k, int n, int levels) {
+        Level[] result = new Level[levels];
+        for (int level = 0; level < levels; level++) {
+            m >>= 1;
+            k >>= 1;
+            n >>= 1;
+            result[level] = new Level(new double[m][k], new double[k][n], new double[m][n]);
+        }
+        return result;
+    }
+
+    private static void product(double[][] a, int ar, int ac, double[][] b, int br, int bc,
+                                double[][] c, int cr, int cc, int m, int k, int n, Level[] levels, int level,
+                                ExecutionPolicy policy) {
+        if (level == levels.length) {
+            clear(c, cr, cc, m, n);
+            Gemm.multiply(a, ar, ac, b, br, bc, c, cr, cc, m, k, n, policy);
+            return;
+        }
+        int m2 = m >> 1;
+        int k2 = k >> 1;
+        int n2 = n >> 1;
+        double[][] x = levels[level].x;
+        double[][] y = levels[level].y;
+        double[][] z = levels[level].z;
+        int next = level + 1;
+        subtract(a, ar, ac, a, ar + m2, ac, x, 0, 0, m2, k2);
+        subtract(b, br + k2, bc + n2, b, br, bc + n2, y, 0, 0, k2, n2);
+        product(x, 0, 0, y, 0, 0, c, cr + m2, cc, m2, k2, n2, levels, next, policy);
+        add(a, ar + m2, ac, a, ar + m2, ac + k2, x, 0, 0, m2, k2);
+        subtract(b, br, bc + n2, b, br, bc, y, 0, 0, k2, n2);
+        product(x, 0, 0, y, 0, 0, c, cr + m2, cc + n2, m2, k2, n2, levels, next, policy);
+        subtract(x, 0, 0, a, ar, ac, x, 0, 0, m2, k2);
+        subtract(b, br + k2, bc + n2, y, 0, 0, y, 0, 0, k2, n2);
+        product(x, 0, 0, y, 0, 0, c, cr, cc + n2, m2, k2, n2, levels, next, policy);
+        subtract(a, ar, ac + k2, x, 0, 0, x, 0, 0, m2, k2);
+        product(x, 0, 0, b, br + k2, bc + n2, c, cr, cc, m2, k2, n2, levels, next, policy);
+        product(a, ar, ac, b, br, bc, z, 0, 0, m2, k2, n2, levels, next, policy);
+        add(z, 0, 0, c, cr, cc + n2, c, cr, cc + n2, m2, n2);
+        add(c, cr, cc + n2, c, cr + m2, cc, c, cr + m2, cc, m2, n2);
+        add(c, cr, cc + n2, c, cr + m2, cc + n2, c, cr, cc + n2, m2, n2);
+        add(c, cr + m2, cc, c, cr + m2, cc + n2, c, cr + m2, cc + n2, m2, n2);
+        add(c, cr, cc + n2, c, cr, cc, c, cr, cc + n2, m2, n2);
+        subtract(y, 0, 0, b, br + k2, bc, y, 0, 0, k2, n2);
+        product(a, ar + m2, ac + k2, y, 0, 0, c, cr, cc, m2, k2, n2, levels, next, policy);
+        subtract(c, cr + m2, cc, c, cr, cc, c, cr + m2, cc, m2, n2);
+        product(a, ar, ac + k2, b, br + k2, bc, c, cr, cc, m2, k2, n2, levels, next, policy);
+        add(z, 0, 0, c, cr, cc, c, cr, cc, m2, n2);
+    }
+
+    private static void parallel(double[][] a, double[][] b, double[][] c, int m, int k, int n, int levels,
+                                 ExecutionPolicy policy) {
+        int m2 = m >> 1;
+        int k2 = k >> 1;
+        int n2 = n >> 1;
+        double[][][] s = new double[4][m2][k2];
+        double[][][] t = new double[4][k2][n2];
+        double[][][] q = new double[3][m2][n2];
+        add(a, m2, 0, a, m2, k2, s[0], 0, 0, m2, k2);
+        subtract(s[0], 0, 0, a, 0, 0, s[1], 0, 0, m2, k2);
+        subtract(a, 0, 0, a, m2, 0, s[2], 0, 0, m2, k2);
+        subtract(a, 0, k2, s[1], 0, 0, s[3], 0, 0, m2, k2);
+        subtract(b, 0, n2, b, 0, 0, t[0], 0, 0, k2, n2);
+        subtract(b, k2, n2, t[0], 0, 0, t[1], 0, 0, k2, n2);
+        subtract(b, k2, n2, b, 0, n2, t[2], 0, 0, k2, n2);
+        subtract(t[1], 0, 0, b, k2, 0, t[3], 0, 0, k2, n2);
+        Runnable[] tasks = {
+                task(a, 0, 0, b, 0, 0, q[0], 0, 0, m2, k2, n2, levels, policy),
+                task(a, 0, k2, b, k2, 0, c, 0, 0, m2, k2, n2, levels, policy),
+                task(s[3], 0, 0, b, k2, n2, c, 0, n2, m2, k2, n2, levels, policy),
+                task(a, m2, k2, t[3], 0, 0, c, m2, 0, m2, k2, n2, levels, policy),
+                task(s[0], 0, 0, t[0], 0, 0, c, m2, n2, m2, k2, n2, levels, policy),
+                task(s[1], 0, 0, t[1], 0, 0, q[1], 0, 0, m2, k2, n2, levels, policy),
+                task(s[2], 0, 0, t[2], 0, 0, q[2], 0, 0, m2, k2, n2, levels, policy)};
+        policy.forEachRange(tasks.length, (long) m * k * n, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                tasks[i].run();
+            }
+        });
+        add(c, 0, 0, q[0], 0, 0, c, 0, 0, m2, n2);
+        add(q[0], 0, 0, q[1], 0, 0, q[0], 0, 0, m2, n2);
+        add(q[2], 0, 0, q[0], 0, 0, q[2], 0, 0, m2, n2);
+        add(c, 0, n2, q[0], 0, 0, c, 0, n2, m2, n2);
+        add(c, 0, n2, c, m2, n2, c, 0, n2, m2, n2);
+        add(c, m2, n2, q[2], 0, 0, c, m2, n2, m2, n2);
+        subtract(q[2], 0, 0, c, m2, 0, c, m2, 0, m2, n2);
+    }
+
+    private static Runnable task(double[][] a, int ar, int ac, double[][] b, int br, int bc,
+                                 double[][] c, int cr, int cc, int m, int k, int n, int levels,
+                                 ExecutionPolicy policy) {
+        Level[] workspace = workspace(m, k, n, levels - 1);
+        return () -> product(a, ar, ac, b, br, bc, c, cr, cc, m, k, n, workspace, 0, policy);
+    }
+
+    private static void clear(double[][] c, int cr, int cc, int rows, int cols) {
+        for (int i = 0; i < rows; i++) {
+            double[] row = c[cr + i];
+            for (int j = 0; j < cols; j++) {
+                row[cc + j] = 0;
+            }
+        }
+    }
+
+    private static void add(double[][] x, int xr, int xc, double[][] y, int yr, int yc,
+                            double[][] d, int dr, int dc, int rows, int cols) {
+        for (int i = 0; i < rows; i++) {
+            double[] xRow = x[xr + i];
+            double[] yRow = y[yr + i];
+            double[] dRow = d[dr + i];
+            for (int j = 0; j < cols; j++) {
+                dRow[dc + j] = xRow[xc + j] + yRow[yc + j];
+            }
+        }
+    }
+
+    private static void subtract(double[][] x, int xr, int xc, double[][] y, int yr, int yc,
+                                 double[][] d, int dr, int dc, int rows, int cols) {
+        for (int i = 0; i < rows; i++) {
+            double[] xRow = x[xr + i];
+            double[] yRow = y[yr + i];
+            double[] dRow = d[dr + i];
+            for (int j = 0; j < cols; j++) {
+                dRow[dc + j] = xRow[xc + j] - yRow[yc + j];
+            }
+        }
+    }
+
+    private record Level(double[][] x, double[][] y, double[][] z) {}
+}
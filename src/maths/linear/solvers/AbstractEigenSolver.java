@@ -0,0 +1,409 @@
+package maths.linear.solvers;
+
+import maths.linear.Asserts;
+import maths.linear.ExecutionPolicy;
+import maths.linear.decompositions.LUDecomposition;
+import maths.linear.kernels.Kernels;
+import maths.linear.matrices.AbstractSparseMatrix;
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.Matrices;
+import maths.linear.matrices.Matrix;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public abstract class AbstractEigenSolver {
+
+    private static final double EPS = Math.ulp(1.0);
+    private static final double EPS23 = Math.pow(EPS, 2.0 / 3);
+    private static final int MIN_BASIS = 20;
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+
+    protected final double tolerance;
+    protected final int maxIterations;
+
+    protected AbstractEigenSolver(double tolerance, int maxIterations) {
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("tolerance must be positive, but found " + tolerance);
+        } else if (maxIterations <= 0) {
+            throw new IllegalArgumentException("max iterations must be positive, but found " + maxIterations);
+        }
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+    }
+
+    public double tolerance() {
+        return tolerance;
+    }
+
+    public int maxIterations() {
+        return maxIterations;
+    }
+
+    public EigenResult solve(Matrix matrix, int count) {
+        return solve(LinearOperator.of(matrix), count, EigenTarget.LARGEST_MAGNITUDE, null);
+    }
+
+    public EigenResult solve(Matrix matrix, int count, EigenTarget target) {
+        Asserts.requireNonNull(matrix, target);
+        if (target == EigenTarget.SMALLEST_MAGNITUDE && !(matrix instanceof AbstractSparseMatrix) &&
+                matrix.height() == matrix.width()) {
+            LUDecomposition decomposition = new LUDecomposition(matrix);
+            if (!decomposition.isSingular()) {
+                EigenResult inverse = solve(LinearOperator.inverseOf(decomposition), count,
+                        EigenTarget.LARGEST_MAGNITUDE, null);
+                return invert(matrix, inverse);
+            }
+        }
+        return solve(LinearOperator.of(matrix), count, target, null);
+    }
+
+    public EigenResult solve(LinearOperator operator, int count, EigenTarget target) {
+        return solve(operator, count, target, null);
+    }
+
+    public EigenResult solve(LinearOperator operator, int count, EigenTarget target, Vector initialGuess) {
+        Asserts.requireNonNull(operator, target);
+        int n = operator.width();
+        if (operator.height() != n) {
+            throw new IllegalArgumentException("can not find eigenvalues of non square operator with sizes: " +
+                    "(" + operator.height() + ", " + n + ")");
+        } else if (count <= 0 || count > n) {
+            throw new IllegalArgumentException("count must be in range [1, " + n + "], but found " + count);
+        } else if (initialGuess != null && initialGuess.size() != n) {
+            throw new IllegalArgumentException("incongruous operator.width and initial guess size: " +
+                    "expected size = " + n + ", but found " + initialGuess.size());
+        }
+        return new Factorization(operator, Math.min(n, Math.max(2 * count + 1, MIN_BASIS)))
+                .run(count, target, initialGuess);
+    }
+
+    private static EigenResult invert(Matrix matrix, EigenResult inverse) {
+        int count = inverse.count();
+        int n = matrix.width();
+        double[][] vectors = ((ArrayMatrix) inverse.eigenvectors()).array();
+        Vector inverseReal = inverse.eigenvalues();
+        Vector inverseImaginary = inverse.imaginaryEigenvalues();
+        double[] real = new double[count];
+        double[] imaginary = new double[count];
+        for (int p = 0; p < count; p++) {
+            double a = inverseReal.getUnsafe(p);
+            double b = inverseImaginary.getUnsafe(p);
+            double square = a * a + b * b;
+            real[p] = a / square;
+            imaginary[p] = b / square;
+            if (b < 0) {
+                for (int i = 0; i < n; i++) {
+                    vectors[i][p] = -vectors[i][p];
+                }
+            }
+        }
+        double[] residuals = new double[count];
+        double[] u = new double[n];
+        double[] w = new double[n];
+        for (int p = 0; p < count; p++) {
+            if (imaginary[p] < 0) {
+                residuals[p] = residuals[p - 1];
+                continue;
+            }
+            boolean pair = imaginary[p] > 0;
+            for (int i = 0; i < n; i++) {
+                u[i] = vectors[i][p];
+                w[i] = pair ? vectors[i][p + 1] : 0;
+            }
+            Vector au = Matrices.matrixXVector(matrix, new ArrayVector(u));
+            Vector aw = pair ? Matrices.matrixXVector(matrix, new ArrayVector(w)) : null;
+            double sum = 0;
+            double norm = 0;
+            for (int i = 0; i < n; i++) {
+                double re = au.getUnsafe(i) - real[p] * u[i] + imaginary[p] * w[i];
+                double im = pair ? aw.getUnsafe(i) - real[p] * w[i] - imaginary[p] * u[i] : 0;
+                sum += re * re + im * im;
+                norm += u[i] * u[i] + w[i] * w[i];
+            }
+            residuals[p] = Math.sqrt(sum / norm);
+        }
+        return new EigenResult(real, imaginary, vectors, residuals, inverse.converged(), inverse.iterations(),
+                inverse.operatorApplications());
+    }
+
+    protected abstract void ritz(double[][] h, int m, double[] real, double[] imaginary, double[][] vectors);
+
+    private static Integer[] order(double[] real, double[] imaginary, int m, EigenTarget target) {
+        Integer[] result = new Integer[m];
+        double[] key = new double[m];
+        for (int i = 0; i < m; i++) {
+            result[i] = i;
+            key[i] = switch (target) {
+                case LARGEST_MAGNITUDE -> -Math.hypot(real[i], imaginary[i]);
+                case SMALLEST_MAGNITUDE -> Math.hypot(real[i], imaginary[i]);
+                case LARGEST_REAL -> -real[i];
+                case SMALLEST_REAL -> real[i];
+            };
+        }
+        Arrays.sort(result, (x, y) -> Double.compare(key[x], key[y]));
+        return result;
+    }
+
+    private final class Factorization {
+
+        private final LinearOperator operator;
+        private final int n;
+        private final int m;
+        private final double[][] v;
+        private final double[][] h;
+        private final double[] w;
+        private final double[] coefficients;
+        private final ExecutionPolicy policy;
+        private final Random random = new Random(SEED);
+        private int applications;
+
+        private Factorization(LinearOperator operator, int m) {
+            this.operator = operator;
+            this.n = operator.width();
+            this.m = m;
+            v = new double[m + 1][];
+            h = new double[m + 1][m];
+            w = new double[n];
+            coefficients = new double[m + 1];
+            policy = Matrices.getExecutionPolicy();
+        }
+
+        private EigenResult run(int count, EigenTarget target, Vector initialGuess) {
+            v[0] = new double[n];
+            if (initialGuess != null) {
+                initialGuess.copyTo(v[0]);
+            }
+            if (initialGuess == null || normalize(v[0]) == 0) {
+                randomize(v[0], 0);
+            }
+            double[] real = new double[m];
+            double[] imaginary = new double[m];
+            double[][] y = new double[m][m];
+            double[] residuals = new double[m];
+            int size = 0;
+            int iteration = 0;
+            while (true) {
+                extend(size);
+                ritz(h, m, real, imaginary, y);
+                Integer[] order = order(real, imaginary, m, target);
+                int wanted = count < m && imaginary[order[count - 1]] > 0 ? count + 1 : count;
+                double beta = Math.abs(h[m][m - 1]);
+                double scale = 0;
+                for (int i = 0; i < m; i++) {
+                    scale = Math.max(scale, Math.hypot(real[i], imaginary[i]));
+                }
+                int converged = 0;
+                for (int p = 0; p < m; p++) {
+                    int j = order[p];
+                    int re = imaginary[j] < 0 ? j - 1 : j;
+                    int im = imaginary[j] == 0 ? -1 : re + 1;
+                    double norm = columnNorm(y, re, im);
+                    double last = im < 0 ? Math.abs(y[m - 1][re]) : Math.hypot(y[m - 1][re], y[m - 1][im]);
+                    residuals[p] = beta * last / norm;
+                    if (p < wanted && residuals[p] <= tolerance * Math.max(EPS23 * scale,
+                            Math.hypot(real[j], imaginary[j]))) {
+                        converged++;
+                    }
+                }
+                if (converged == wanted || iteration == maxIterations) {
+                    return result(order, wanted, real, imaginary, y, residuals, converged == wanted, iteration);
+                }
+                iteration++;
+                int keep = Math.min(m - 1, wanted + Math.min(converged, (m - wanted) / 2));
+                if (imaginary[order[keep - 1]] > 0) {
+                    keep += keep + 1 < m ? 1 : -1;
+                }
+                size = restart(order, keep, y);
+            }
+        }
+
+        private void apply(double[] x, double[] result) {
+            operator.apply(new ArrayVector(x)).copyTo(result);
+            applications++;
+        }
+
+        private double normalize(double[] x) {
+            double norm = Kernels.norm(x, 0, n);
+            if (norm > 0) {
+                for (int i = 0; i < n; i++) {
+                    x[i] /= norm;
+                }
+            }
+            return norm;
+        }
+
+        private void randomize(double[] x, int basis) {
+            for (int attempt = 0; attempt < 3; attempt++) {
+                for (int i = 0; i < n; i++) {
+                    x[i] = random.nextDouble() - 0.5;
+                }
+                orthogonalize(x, basis);
+                orthogonalize(x, basis);
+                if (normalize(x) > 0) {
+                    return;
+                }
+            }
+            Arrays.fill(x, 0);
+        }
+
+        private void orthogonalize(double[] x, int basis) {
+            long work = (long) basis * n;
+            policy.forEachRange(basis, work, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    coefficients[i] = Kernels.dot(v[i], 0, x, 0, n);
+                }
+            });
+            policy.forEachRange(n, work, (from, to) -> {
+                for (int i = 0; i < basis; i++) {
+                    Kernels.axpy(-coefficients[i], v[i], from, x, from, to - from);
+                }
+            });
+        }
+
+        private void extend(int size) {
+            for (int j = size; j < m; j++) {
+                apply(v[j], w);
+                double initial = Kernels.norm(w, 0, n);
+                for (int pass = 0; pass < 2; pass++) {
+                    orthogonalize(w, j + 1);
+                    for (int i = 0; i <= j; i++) {
+                        h[i][j] += coefficients[i];
+                    }
+                }
+                if (v[j + 1] == null) {
+                    v[j + 1] = new double[n];
+                }
+                double beta = Kernels.norm(w, 0, n);
+                if (beta > n * EPS * initial) {
+                    h[j + 1][j] = beta;
+                    for (int i = 0; i < n; i++) {
+                        v[j + 1][i] = w[i] / beta;
+                    }
+                } else {
+                    h[j + 1][j] = 0;
+                    if (j + 1 < n) {
+                        randomize(v[j + 1], j + 1);
+                    } else {
+                        Arrays.fill(v[j + 1], 0);
+                    }
+                }
+            }
+        }
+
+        private int restart(Integer[] order, int keep, double[][] y) {
+            double[][] q = new double[keep][m];
+            for (int c = 0; c < keep; c++) {
+                for (int i = 0; i < m; i++) {
+                    q[c][i] = y[i][order[c]];
+                }
+                for (int pass = 0; pass < 2; pass++) {
+                    for (int p = 0; p < c; p++) {
+                        double dot = 0;
+                        for (int i = 0; i < m; i++) {
+                            dot += q[p][i] * q[c][i];
+                        }
+                        for (int i = 0; i < m; i++) {
+                            q[c][i] -= dot * q[p][i];
+                        }
+                    }
+                }
+                double norm = 0;
+                for (int i = 0; i < m; i++) {
+                    norm += q[c][i] * q[c][i];
+                }
+                norm = Math.sqrt(norm);
+                for (int i = 0; i < m; i++) {
+                    q[c][i] /= norm;
+                }
+            }
+            double[][] reduced = new double[keep + 1][keep];
+            double[] column = new double[m];
+            for (int c = 0; c < keep; c++) {
+                for (int i = 0; i < m; i++) {
+                    double sum = 0;
+                    for (int l = 0; l < m; l++) {
+                        sum += h[i][l] * q[c][l];
+                    }
+                    column[i] = sum;
+                }
+                for (int r = 0; r < keep; r++) {
+                    double sum = 0;
+                    for (int i = 0; i < m; i++) {
+                        sum += q[r][i] * column[i];
+                    }
+                    reduced[r][c] = sum;
+                }
+                reduced[keep][c] = h[m][m - 1] * q[c][m - 1];
+            }
+            double[][] basis = combine(q, keep);
+            double[] residual = v[m];
+            for (int c = 0; c < keep; c++) {
+                v[c] = basis[c];
+            }
+            v[keep] = residual;
+            for (int c = keep + 1; c <= m; c++) {
+                v[c] = null;
+            }
+            for (double[] row : h) {
+                Arrays.fill(row, 0);
+            }
+            for (int r = 0; r <= keep; r++) {
+                System.arraycopy(reduced[r], 0, h[r], 0, keep);
+            }
+            return keep;
+        }
+
+        private double[][] combine(double[][] q, int count) {
+            double[][] result = new double[count][n];
+            policy.forEachRange(n, (long) count * m * n, (from, to) -> {
+                for (int c = 0; c < count; c++) {
+                    for (int i = 0; i < m; i++) {
+                        Kernels.axpy(q[c][i], v[i], from, result[c], from, to - from);
+                    }
+                }
+            });
+            return result;
+        }
+
+        private double columnNorm(double[][] y, int re, int im) {
+            double sum = 0;
+            for (int i = 0; i < m; i++) {
+                sum += y[i][re] * y[i][re];
+                if (im >= 0) {
+                    sum += y[i][im] * y[i][im];
+                }
+            }
+            return Math.sqrt(sum);
+        }
+
+        private EigenResult result(Integer[] order, int wanted, double[] real, double[] imaginary,
+                                   double[][] y, double[] residuals, boolean converged, int iteration) {
+            double[][] q = new double[wanted][m];
+            double[] values = new double[wanted];
+            double[] imaginaryValues = new double[wanted];
+            for (int p = 0; p < wanted; p++) {
+                int j = order[p];
+                int re = imaginary[j] < 0 ? j - 1 : j;
+                int im = imaginary[j] == 0 ? -1 : re + 1;
+                double norm = columnNorm(y, re, im);
+                for (int i = 0; i < m; i++) {
+                    q[p][i] = y[i][j] / norm;
+                }
+                values[p] = real[j];
+                imaginaryValues[p] = imaginary[j];
+            }
+            double[][] rows = combine(q, wanted);
+            double[][] vectors = new double[n][wanted];
+            for (int c = 0; c < wanted; c++) {
+                for (int i = 0; i < n; i++) {
+                    vectors[i][c] = rows[c][i];
+                }
+            }
+            return new EigenResult(values, imaginaryValues, vectors, Arrays.copyOf(residuals, wanted),
+                    converged, iteration, applications);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package maths.linear.solvers;
+
+import maths.linear.Asserts;
+import maths.linear.matrices.Matrix;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+import maths.linear.vectors.Vectors;
+
+import java.util.Arrays;
+
+public abstract class AbstractIterativeSolver {
+
+    protected final double tolerance;
+    protected final int maxIterations;
+
+    protected AbstractIterativeSolver(double tolerance, int maxIterations) {
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("tolerance must be positive, but found " + tolerance);
+        } else if (maxIterations <= 0) {
+            throw new IllegalArgumentException("max iterations must be positive, but found " + maxIterations);
+        }
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+    }
+
+    public double tolerance() {
+        return tolerance;
+    }
+
+    public int maxIterations() {
+        return maxIterations;
+    }
+
+    public SolverResult solve(Matrix matrix, Vector b) {
+        return solve(LinearOperator.of(matrix), b, Preconditioner.identity(), null);
+    }
+
+    public SolverResult solve(Matrix matrix, Vector b, Preconditioner preconditioner) {
+        return solve(LinearOperator.of(matrix), b, preconditioner, null);
+    }
+
+    public SolverResult solve(LinearOperator operator, Vector b) {
+        return solve(operator, b, Preconditioner.identity(), null);
+    }
+
+    public SolverResult solve(LinearOperator operator, Vector b, Preconditioner preconditioner, Vector initialGuess) {
+        Asserts.requireNonNull(operator, b, preconditioner);
+        int n = operator.width();
+        if (operator.height() != n) {
+            throw new IllegalArgumentException("can not solve system with non square operator with sizes: " +
+                    "(" + operator.height() + ", " + n + ")");
+        } else if (b.size() != n) {
+            throw new IllegalArgumentException("incongruous operator.height and vector.size: " +
+                    "expected vector.size = " + n + ", but found " + b.size());
+        } else if (initialGuess != null && initialGuess.size() != n) {
+            throw new IllegalArgumentException("incongruous operator.width and initial guess size: " +
+                    "expected size = " + n + ", but found " + initialGuess.size());
+        }
+        Vector x = initialGuess == null ? new ArrayVector(n) : Vectors.copyOf(initialGuess);
+        double bNorm = norm(b);
+        if (bNorm == 0) {
+            return new SolverResult(new ArrayVector(n), true, 0, new double[] {0});
+        }
+        History history = new History(bNorm);
+        boolean converged = iterate(operator, b, preconditioner, x, history);
+        return new SolverResult(x, converged, history.iterations(), history.toArray());
+    }
+
+    protected abstract boolean iterate(LinearOperator operator, Vector b, Preconditioner preconditioner,
+                                       Vector x, History history);
+
+    protected static double norm(Vector vector) {
+        return Vectors.norm(vector);
+    }
+
+    protected static void axpy(double alpha, Vector x, Vector y) {
+        Vectors.axpy(alpha, x, y);
+    }
+
+    protected static Vector residual(LinearOperator operator, Vector b, Vector x) {
+        Vector r = Vectors.copyOf(b);
+        axpy(-1, operator.apply(x), r);
+        return r;
+    }
+
+    protected final class History {
+
+        private final double bNorm;
+        private double[] values;
+        private int size;
+
+        private History(double bNorm) {
+            this.bNorm = bNorm;
+            this.values = new double[16];
+        }
+
+        public boolean record(double residualNorm) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            double relative = residualNorm / bNorm;
+            values[size++] = relative;
+            return relative <= tolerance;
+        }
+
+        public boolean amend(double residualNorm) {
+            double relative = residualNorm / bNorm;
+            values[size - 1] = relative;
+            return relative <= tolerance;
+        }
+
+        public int iterations() {
+            return Math.max(size - 1, 0);
+        }
+
+        private double[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package maths.linear.solvers;
+
+import maths.linear.decompositions.EigenDecomposition;
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.Matrix;
+
+public class ArnoldiEigenSolver extends AbstractEigenSolver {
+
+    public ArnoldiEigenSolver() {
+        this(1e-10, 300);
+    }
+
+    public ArnoldiEigenSolver(double tolerance, int maxIterations) {
+        super(tolerance, maxIterations);
+    }
+
+    @Override
+    protected void ritz(double[][] h, int m, double[] real, double[] imaginary, double[][] vectors) {
+        double[][] square = new double[m][];
+        for (int i = 0; i < m; i++) {
+            square[i] = h[i];
+        }
+        EigenDecomposition decomposition = new EigenDecomposition(new ArrayMatrix(square));
+        decomposition.getRealEigenvalues().copyTo(real);
+        decomposition.getImaginaryEigenvalues().copyTo(imaginary);
+        Matrix v = decomposition.getV();
+        for (int i = 0; i < m; i++) {
+            v.getRow(i, vectors[i]);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package maths.linear.solvers;
+
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+import maths.linear.vectors.Vectors;
+
+public class BiCGStab extends AbstractIterativeSolver {
+
+    public BiCGStab() {
+        this(1e-10, 1000);
+    }
+
+    public BiCGStab(double tolerance, int maxIterations) {
+        super(tolerance, maxIterations);
+    }
+
+    @Override
+    protected boolean iterate(LinearOperator operator, Vector b, Preconditioner preconditioner,
+                              Vector x, History history) {
+        int n = b.size();
+        Vector r = residual(operator, b, x);
+        if (history.record(norm(r))) {
+            return true;
+        }
+        Vector shadow = Vectors.copyOf(r);
+        Vector p = new ArrayVector(n);
+        Vector v = new ArrayVector(n);
+        double rho = 1;
+        double alpha = 1;
+        double omega = 1;
+        for (int k = 0; k < maxIterations; k++) {
+            double rhoNew = Vectors.scalarMultiply(shadow, r);
+            if (rhoNew == 0) {
+                return false;
+            }
+            double beta = (rhoNew / rho) * (alpha / omega);
+            for (int i = 0; i < n; i++) {
+                p.setUnsafe(i, r.getUnsafe(i) + beta * (p.getUnsafe(i) - omega * v.getUnsafe(i)));
+            }
+            Vector y = preconditioner.apply(p);
+            v = operator.apply(y);
+            double shadowV = Vectors.scalarMultiply(shadow, v);
+            if (shadowV == 0) {
+                return false;
+            }
+            alpha = rhoNew / shadowV;
+            Vector s = Vectors.copyOf(r);
+            axpy(-alpha, v, s);
+            double sNorm = norm(s);
+            if (sNorm / norm(b) <= tolerance) {
+                axpy(alpha, y, x);
+                history.record(sNorm);
+                return true;
+            }
+            Vector z = preconditioner.apply(s);
+            Vector t = operator.apply(z);
+            double tt = Vectors.scalarMultiply(t, t);
+            omega = tt == 0 ? 0 : Vectors.scalarMultiply(t, s) / tt;
+            axpy(alpha, y, x);
+            axpy(omega, z, x);
+            r = s;
+            axpy(-omega, t, r);
+            if (history.record(norm(r))) {
+                return true;
+            } else if (omega == 0) {
+                return false;
+            }
+            rho = rhoNew;
+        }
+        return false;
+    }
+}
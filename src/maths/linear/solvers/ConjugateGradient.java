@@ -0,0 +1,48 @@
+package maths.linear.solvers;
+
+import maths.linear.vectors.Vector;
+import maths.linear.vectors.Vectors;
+
+public class ConjugateGradient extends AbstractIterativeSolver {
+
+    public ConjugateGradient() {
+        this(1e-10, 1000);
+    }
+
+    public ConjugateGradient(double tolerance, int maxIterations) {
+        super(tolerance, maxIterations);
+    }
+
+    @Override
+    protected boolean iterate(LinearOperator operator, Vector b, Preconditioner preconditioner,
+                              Vector x, History history) {
+        Vector r = residual(operator, b, x);
+        if (history.record(norm(r))) {
+            return true;
+        }
+        Vector z = preconditioner.apply(r);
+        Vector p = Vectors.copyOf(z);
+        double rz = Vectors.scalarMultiply(r, z);
+        for (int k = 0; k < maxIterations; k++) {
+            Vector q = operator.apply(p);
+            double pq = Vectors.scalarMultiply(p, q);
+            if (!(pq > 0)) {
+                return false;
+            }
+            double alpha = rz / pq;
+            axpy(alpha, p, x);
+            axpy(-alpha, q, r);
+            if (history.record(norm(r))) {
+                return true;
+            }
+            z = preconditioner.apply(r);
+            double rzNew = Vectors.scalarMultiply(r, z);
+            double beta = rzNew / rz;
+            for (int i = 0; i < p.size(); i++) {
+                p.setUnsafe(i, z.getUnsafe(i) + beta * p.getUnsafe(i));
+            }
+            rz = rzNew;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,76 @@
+package maths.linear.solvers;
+
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.Matrix;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+
+import java.util.Arrays;
+
+public class EigenResult {
+
+    private final double[] real;
+    private final double[] imaginary;
+    private final double[][] vectors;
+    private final double[] residuals;
+    private final boolean converged;
+    private final int iterations;
+    private final int operatorApplications;
+
+    EigenResult(double[] real, double[] imaginary, double[][] vectors, double[] residuals,
+                boolean converged, int iterations, int operatorApplications) {
+        this.real = real;
+        this.imaginary = imaginary;
+        this.vectors = vectors;
+        this.residuals = residuals;
+        this.converged = converged;
+        this.iterations = iterations;
+        this.operatorApplications = operatorApplications;
+    }
+
+    public int count() {
+        return real.length;
+    }
+
+    public Vector eigenvalues() {
+        return new ArrayVector(real);
+    }
+
+    public Vector imaginaryEigenvalues() {
+        return new ArrayVector(imaginary);
+    }
+
+    public Matrix eigenvectors() {
+        return new ArrayMatrix(vectors);
+    }
+
+    public Vector eigenvector(int index) {
+        double[] result = new double[vectors.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = vectors[i][index];
+        }
+        return new ArrayVector(result);
+    }
+
+    public double[] residuals() {
+        return Arrays.copyOf(residuals, residuals.length);
+    }
+
+    public boolean converged() {
+        return converged;
+    }
+
+    public int iterations() {
+        return iterations;
+    }
+
+    public int operatorApplications() {
+        return operatorApplications;
+    }
+
+    @Override
+    public String toString() {
+        return "EigenResult[count = " + count() + ", converged = " + converged + ", iterations = " + iterations +
+                ", operator applications = " + operatorApplications + "]";
+    }
+}
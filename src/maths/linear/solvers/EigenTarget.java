@@ -0,0 +1,8 @@
+package maths.linear.solvers;
+
+public enum EigenTarget {
+    LARGEST_MAGNITUDE,
+    SMALLEST_MAGNITUDE,
+    LARGEST_REAL,
+    SMALLEST_REAL
+}
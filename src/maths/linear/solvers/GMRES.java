@@ -0,0 +1,100 @@
+package maths.linear.solvers;
+
+import maths.linear.vectors.Vector;
+import maths.linear.vectors.Vectors;
+
+import java.util.Arrays;
+
+public class GMRES extends AbstractIterativeSolver {
+
+    private final int restart;
+
+    public GMRES() {
+        this(30, 1e-10, 1000);
+    }
+
+    public GMRES(int restart, double tolerance, int maxIterations) {
+        super(tolerance, maxIterations);
+        if (restart <= 0) {
+            throw new IllegalArgumentException("restart must be positive, but found " + restart);
+        }
+        this.restart = restart;
+    }
+
+    public int restart() {
+        return restart;
+    }
+
+    @Override
+    protected boolean iterate(LinearOperator operator, Vector b, Preconditioner preconditioner,
+                              Vector x, History history) {
+        Vector r = residual(operator, b, x);
+        double beta = norm(r);
+        if (history.record(beta)) {
+            return true;
+        }
+        int m = restart;
+        Vector[] basis = new Vector[m + 1];
+        Vector[] preconditioned = new Vector[m];
+        double[][] h = new double[m + 1][m];
+        double[] cs = new double[m];
+        double[] sn = new double[m];
+        double[] g = new double[m + 1];
+        int total = 0;
+        while (total < maxIterations) {
+            basis[0] = Vectors.vectorXScalar(r, 1 / beta);
+            Arrays.fill(g, 0);
+            g[0] = beta;
+            int j = 0;
+            boolean converged = false;
+            while (j < m && total < maxIterations) {
+                preconditioned[j] = preconditioner.apply(basis[j]);
+                Vector w = operator.apply(preconditioned[j]);
+                for (int i = 0; i <= j; i++) {
+                    h[i][j] = Vectors.scalarMultiply(w, basis[i]);
+                    axpy(-h[i][j], basis[i], w);
+                }
+                h[j + 1][j] = norm(w);
+                boolean breakdown = h[j + 1][j] == 0;
+                if (!breakdown) {
+                    basis[j + 1] = Vectors.vectorXScalar(w, 1 / h[j + 1][j]);
+                }
+                for (int i = 0; i < j; i++) {
+                    double temp = cs[i] * h[i][j] + sn[i] * h[i + 1][j];
+                    h[i + 1][j] = -sn[i] * h[i][j] + cs[i] * h[i + 1][j];
+                    h[i][j] = temp;
+                }
+                double denominator = Math.hypot(h[j][j], h[j + 1][j]);
+                cs[j] = h[j][j] / denominator;
+                sn[j] = h[j + 1][j] / denominator;
+                h[j][j] = denominator;
+                h[j + 1][j] = 0;
+                g[j + 1] = -sn[j] * g[j];
+                g[j] = cs[j] * g[j];
+                j++;
+                total++;
+                converged = history.record(Math.abs(g[j]));
+                if (converged || breakdown) {
+                    break;
+                }
+            }
+            double[] y = new double[j];
+            for (int i = j - 1; i >= 0; i--) {
+                double sum = g[i];
+                for (int k = i + 1; k < j; k++) {
+                    sum -= h[i][k] * y[k];
+                }
+                y[i] = sum / h[i][i];
+            }
+            for (int i = 0; i < j; i++) {
+                axpy(y[i], preconditioned[i], x);
+            }
+            r = residual(operator, b, x);
+            beta = norm(r);
+            if (history.amend(beta)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,145 @@
+package maths.linear.solvers;
+
+import maths.linear.matrices.AbstractSparseMatrix;
+import maths.linear.matrices.Matrix;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class ILU0Preconditioner implements Preconditioner {
+
+    private final int n;
+    private final int[] pointers;
+    private final int[] columns;
+    private final double[] values;
+    private final int[] diagonal;
+
+    public ILU0Preconditioner(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        if (matrix.height() != matrix.width()) {
+            throw new IllegalArgumentException("can not build preconditioner for non square matrix with sizes: " +
+                    "(" + matrix.height() + ", " + matrix.width() + ")");
+        }
+        n = matrix.height();
+        pointers = new int[n + 1];
+        if (matrix instanceof AbstractSparseMatrix) {
+            AbstractSparseMatrix sparse = (AbstractSparseMatrix) matrix;
+            sparse.forEachNonZero((i, j, value) -> pointers[i + 1]++);
+            for (int i = 0; i < n; i++) {
+                pointers[i + 1] += pointers[i];
+            }
+            columns = new int[pointers[n]];
+            values = new double[pointers[n]];
+            int[] next = new int[n];
+            System.arraycopy(pointers, 0, next, 0, n);
+            sparse.forEachNonZero((i, j, value) -> {
+                columns[next[i]] = j;
+                values[next[i]++] = value;
+            });
+            for (int i = 0; i < n; i++) {
+                sortRow(pointers[i], pointers[i + 1]);
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                int count = 0;
+                for (int j = 0; j < n; j++) {
+                    if (matrix.getUnsafe(i, j) != 0 || i == j) {
+                        count++;
+                    }
+                }
+                pointers[i + 1] = pointers[i] + count;
+            }
+            columns = new int[pointers[n]];
+            values = new double[pointers[n]];
+            for (int i = 0, p = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    double value = matrix.getUnsafe(i, j);
+                    if (value != 0 || i == j) {
+                        columns[p] = j;
+                        values[p++] = value;
+                    }
+                }
+            }
+        }
+        diagonal = new int[n];
+        factorize();
+    }
+
+    private void sortRow(int from, int to) {
+        for (int p = from + 1; p < to; p++) {
+            int column = columns[p];
+            double value = values[p];
+            int q = p - 1;
+            while (q >= from && columns[q] > column) {
+                columns[q + 1] = columns[q];
+                values[q + 1] = values[q];
+                q--;
+            }
+            columns[q + 1] = column;
+            values[q + 1] = value;
+        }
+    }
+
+    private void factorize() {
+        int[] position = new int[n];
+        Arrays.fill(position, -1);
+        for (int i = 0; i < n; i++) {
+            diagonal[i] = -1;
+            for (int p = pointers[i]; p < pointers[i + 1]; p++) {
+                position[columns[p]] = p;
+                if (columns[p] == i) {
+                    diagonal[i] = p;
+                }
+            }
+            if (diagonal[i] == -1) {
+                throw new IllegalArgumentException("can not build ilu(0) preconditioner: missing diagonal element at i = " + i);
+            }
+            for (int p = pointers[i]; p < pointers[i + 1] && columns[p] < i; p++) {
+                int k = columns[p];
+                double pivot = values[diagonal[k]];
+                if (pivot == 0) {
+                    throw new IllegalArgumentException("can not build ilu(0) preconditioner: zero pivot at i = " + k);
+                }
+                double factor = values[p] / pivot;
+                values[p] = factor;
+                for (int q = diagonal[k] + 1; q < pointers[k + 1]; q++) {
+                    int target = position[columns[q]];
+                    if (target != -1) {
+                        values[target] -= factor * values[q];
+                    }
+                }
+            }
+            if (values[diagonal[i]] == 0) {
+                throw new IllegalArgumentException("can not build ilu(0) preconditioner: zero pivot at i = " + i);
+            }
+            for (int p = pointers[i]; p < pointers[i + 1]; p++) {
+                position[columns[p]] = -1;
+            }
+        }
+    }
+
+    @Override
+    public Vector apply(Vector residual) {
+        if (residual.size() != n) {
+            throw new IllegalArgumentException("incongruous size of argument: expected " + n + ", actual " + residual.size());
+        }
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            double sum = residual.getUnsafe(i);
+            for (int p = pointers[i]; p < diagonal[i]; p++) {
+                sum -= values[p] * x[columns[p]];
+            }
+            x[i] = sum;
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            double sum = x[i];
+            for (int p = diagonal[i] + 1; p < pointers[i + 1]; p++) {
+                sum -= values[p] * x[columns[p]];
+            }
+            x[i] = sum / values[diagonal[i]];
+        }
+        return new ArrayVector(x);
+    }
+}
@@ -0,0 +1,53 @@
+package maths.linear.solvers;
+
+import maths.linear.matrices.AbstractSparseMatrix;
+import maths.linear.matrices.Matrix;
+import maths.linear.vectors.ArrayVector;
+import maths.linear.vectors.Vector;
+
+import java.util.Objects;
+
+public class JacobiPreconditioner implements Preconditioner {
+
+    private final double[] inverseDiagonal;
+
+    public JacobiPreconditioner(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        if (matrix.height() != matrix.width()) {
+            throw new IllegalArgumentException("can not build preconditioner for non square matrix with sizes: " +
+                    "(" + matrix.height() + ", " + matrix.width() + ")");
+        }
+        int n = matrix.height();
+        inverseDiagonal = new double[n];
+        if (matrix instanceof AbstractSparseMatrix) {
+            ((AbstractSparseMatrix) matrix).forEachNonZero((i, j, value) -> {
+                if (i == j) {
+                    inverseDiagonal[i] = value;
+                }
+            });
+        } else {
+            for (int i = 0; i < n; i++) {
+                inverseDiagonal[i] = matrix.getUnsafe(i, i);
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (inverseDiagonal[i] == 0) {
+                throw new IllegalArgumentException("can not build jacobi preconditioner: zero diagonal element at i = " + i);
+            }
+            inverseDiagonal[i] = 1 / inverseDiagonal[i];
+        }
+    }
+
+    @Override
+    public Vector apply(Vector residual) {
+        if (residual.size() != inverseDiagonal.length) {
+            throw new IllegalArgumentException("incongruous size of argument: expected " +
+                    inverseDiagonal.length + ", actual " + residual.size());
+        }
+        Vector result = new ArrayVector(inverseDiagonal.length);
+        for (int i = 0; i < inverseDiagonal.length; i++) {
+            result.setUnsafe(i, residual.getUnsafe(i) * inverseDiagonal[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,34 @@
+package maths.linear.solvers;
+
+import maths.linear.decompositions.SymmetricEigenDecomposition;
+import maths.linear.matrices.ArrayMatrix;
+import maths.linear.matrices.Matrix;
+
+public class LanczosEigenSolver extends AbstractEigenSolver {
+
+    public LanczosEigenSolver() {
+        this(1e-10, 300);
+    }
+
+    public LanczosEigenSolver(double tolerance, int maxIterations) {
+        super(tolerance, maxIterations);
+    }
+
+    @Override
+    protected void ritz(double[][] h, int m, double[] real, double[] imaginary, double[][] vectors) {
+        double[][] symmetric = new double[m][m];
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j <= i; j++) {
+                symmetric[i][j] = (h[i][j] + h[j][i]) / 2;
+                symmetric[j][i] = symmetric[i][j];
+            }
+        }
+        SymmetricEigenDecomposition decomposition = new SymmetricEigenDecomposition(new ArrayMatrix(symmetric));
+        Matrix v = decomposition.getV();
+        for (int i = 0; i < m; i++) {
+            real[i] = decomposition.getEigenvalue(i);
+            imaginary[i] = 0;
+            v.getRow(i, vectors[i]);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package maths.linear.solvers;
+
+import maths.linear.Asserts;
+import maths.linear.ExecutionPolicy;
+import maths.linear.decompositions.LUDecomposition;
+import maths.linear.matrices.Matrices;
+import maths.linear.matrices.Matrix;
+import maths.linear.vectors.Vector;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+public interface LinearOperator {
+
+    int height();
+    int width();
+    Vector apply(Vector vector);
+
+    static LinearOperator of(Matrix matrix) {
+        Objects.requireNonNull(matrix);
+        return of(matrix, vector -> Matrices.matrixXVector(matrix, vector));
+    }
+
+    static LinearOperator of(Matrix matrix, ExecutionPolicy policy) {
+        Asserts.requireNonNull(matrix, policy);
+        return of(matrix, vector -> Matrices.matrixXVector(matrix, vector, policy));
+    }
+
+    static LinearOperator inverseOf(LUDecomposition decomposition) {
+        Objects.requireNonNull(decomposition);
+        if (decomposition.isSingular()) {
+            throw new ArithmeticException("can not invert singular matrix");
+        }
+        return of(decomposition.size(), decomposition.size(), decomposition::solve);
+    }
+
+    private static LinearOperator of(Matrix matrix, UnaryOperator<Vector> product) {
+        return of(matrix.height(), matrix.width(), product);
+    }
+
+    private static LinearOperator of(int height, int width, UnaryOperator<Vector> product) {
+        return new LinearOperator() {
+            @Override
+            public int height() {
+                return height;
+            }
+
+            @Override
+            public int width() {
+                return width;
+            }
+
+            @Override
+            public Vector apply(Vector vector) {
+                return product.apply(vector);
+            }
+        };
+    }
+
+}
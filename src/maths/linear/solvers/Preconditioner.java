@@ -0,0 +1,14 @@
+package maths.linear.solvers;
+
+import maths.linear.vectors.Vector;
+import maths.linear.vectors.Vectors;
+
+public interface Preconditioner {
+
+    Vector apply(Vector residual);
+
+    static Preconditioner identity() {
+        return Vectors::copyOf;
+    }
+
+}
@@ -0,0 +1,46 @@
+package maths.linear.solvers;
+
+import maths.linear.vectors.Vector;
+
+import java.util.Arrays;
+
+public class SolverResult {
+
+    private final Vector solution;
+    private final boolean converged;
+    private final int iterations;
+    private final double[] residualHistory;
+
+    SolverResult(Vector solution, boolean converged, int iterations, double[] residualHistory) {
+        this.solution = solution;
+        this.converged = converged;
+        this.iterations = iterations;
+        this.residualHistory = residualHistory;
+    }
+
+    public Vector solution() {
+        return solution;
+    }
+
+    public boolean converged() {
+        return converged;
+    }
+
+    public int iterations() {
+        return iterations;
+    }
+
+    public double residual() {
+        return residualHistory[residualHistory.length - 1];
+    }
+
+    public double[] residualHistory() {
+        return Arrays.copyOf(residualHistory, residualHistory.length);
+    }
+
+    @Override
+    public String toString() {
+        return "SolverResult[converged = " + converged + ", iterations = " + iterations +
+                ", residual = " + residual() + "]";
+    }
+}
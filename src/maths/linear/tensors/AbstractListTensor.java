@@ -1,6 +1,7 @@
 package maths.linear.tensors;
 
 import maths.exceptions.InitializationException;
+import maths.linear.Asserts;
 
 import java.util.*;
 
@@ -17,6 +18,13 @@ public abstract class AbstractListTensor implements Tensor {
         list = generate(sizes, 0, rank);
     }
 
+    protected AbstractListTensor(int[] sizes, double[] values) {
+        checkSizes(sizes);
+        this.sizes = Arrays.copyOf(sizes, sizes.length);
+        rank = sizes.length;
+        list = generate(this.sizes, 0, rank, values, new int[1]);
+    }
+
     @SuppressWarnings("unchecked")
     protected AbstractListTensor(List<?> srcList, boolean withCopy) {
         List<Integer> tempSizes = new ArrayList<>();
@@ -53,6 +61,14 @@ public abstract class AbstractListTensor implements Tensor {
         return result;
     }
 
+    private static List<?> generate(int[] sizes, int level, int rank, double[] values, int[] position) {
+        List<Object> result = new ArrayList<>(sizes[level]);
+        for (int i = 0; i < sizes[level]; i++) {
+            result.add(level == rank - 1 ? values[position[0]++] : generate(sizes, level + 1, rank, values, position));
+        }
+        return result;
+    }
+
     private static int getRankAndSizes(List<?> list, int level, List<Integer> sizes) {
         if (list.isEmpty()) {
             initError("found empty list at depth = " + (level - 1));
@@ -147,6 +163,38 @@ public abstract class AbstractListTensor implements Tensor {
         return recursiveGet((List<?>) arr.get(indexes[level]), indexes, level + 1);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setUnsafe(double value, int... indexes) {
+        recursiveSet((List<Object>) list, value, indexes, 0);
+    }
+
+    @Override
+    public double getUnsafe(int... indexes) {
+        return recursiveGet(list, indexes, 0);
+    }
+
+    @Override
+    public void copyTo(double[] dest) {
+        int length = 1;
+        for (int size : sizes) {
+            length = Math.multiplyExact(length, size);
+        }
+        Asserts.checkBuffer(dest, length);
+        recursiveCopy(list, dest, 0, 0);
+    }
+
+    private int recursiveCopy(List<?> arr, double[] dest, int position, int level) {
+        for (Object element : arr) {
+            if (level == rank - 1) {
+                dest[position++] = (double) element;
+            } else {
+                position = recursiveCopy((List<?>) element, dest, position, level + 1);
+            }
+        }
+        return position;
+    }
+
     @Override
     public int[] sizes() {
         return Arrays.copyOf(sizes, rank);
@@ -230,7 +278,10 @@ public abstract class AbstractListTensor implements Tensor {
 
         @Override
         public Double next() {
-            double result = get(currentIndexes);
+            if (!hasNext) {
+                throw new NoSuchElementException();
+            }
+            double result = recursiveGet(list, currentIndexes, 0);
             int i = rank - 1;
             while (i >= 0 && currentIndexes[i] == sizes[i] - 1) {
                 i--;
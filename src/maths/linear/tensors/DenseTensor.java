@@ -0,0 +1,373 @@
+package maths.linear.tensors;
+
+import maths.exceptions.InitializationException;
+import maths.linear.Asserts;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class DenseTensor implements Tensor {
+
+    private final double[] data;
+    private final int offset;
+    private final int[] sizes;
+    private final int[] strides;
+    private final int rank;
+    private final int length;
+
+    public DenseTensor(int... sizes) {
+        checkSizes(sizes);
+        this.rank = sizes.length;
+        this.sizes = Arrays.copyOf(sizes, rank);
+        this.strides = contiguousStrides(this.sizes);
+        this.length = lengthOf(this.sizes);
+        this.data = new double[length];
+        this.offset = 0;
+    }
+
+    public DenseTensor(Tensor tensor) {
+        this(tensor.sizes());
+        tensor.copyTo(data);
+    }
+
+    public DenseTensor(List<?> list) {
+        this(new SensitiveListTensor(list));
+    }
+
+    public static DenseTensor wrap(double[] data, int... sizes) {
+        checkSizes(sizes);
+        if (lengthOf(sizes) != data.length) {
+            initError("can not create tensor with sizes " + Arrays.toString(sizes) +
+                    " from array with length = " + data.length);
+        }
+        int[] copySizes = Arrays.copyOf(sizes, sizes.length);
+        return new DenseTensor(data, 0, copySizes, contiguousStrides(copySizes));
+    }
+
+    private DenseTensor(double[] data, int offset, int[] sizes, int[] strides) {
+        this.data = data;
+        this.offset = offset;
+        this.sizes = sizes;
+        this.strides = strides;
+        this.rank = sizes.length;
+        this.length = lengthOf(sizes);
+    }
+
+    private static void checkSizes(int[] sizes) {
+        if (sizes.length == 0) {
+            initError("can not create tensor from empty sizes");
+        }
+        for (int i = 0; i < sizes.length; i++) {
+            if (sizes[i] <= 0) {
+                initError("can not create tensor when size on depth = " + i + " is " + sizes[i]);
+            }
+        }
+        lengthOf(sizes);
+    }
+
+    private static int lengthOf(int[] sizes) {
+        int result = 1;
+        for (int size : sizes) {
+            result = Math.multiplyExact(result, size);
+        }
+        return result;
+    }
+
+    private static int[] contiguousStrides(int[] sizes) {
+        int[] strides = new int[sizes.length];
+        int current = 1;
+        for (int i = sizes.length - 1; i >= 0; i--) {
+            strides[i] = current;
+            current *= sizes[i];
+        }
+        return strides;
+    }
+
+    static void increment(int[] indexes, int[] sizes) {
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            if (++indexes[i] < sizes[i]) {
+                return;
+            }
+            indexes[i] = 0;
+        }
+    }
+
+    private static void initError(String message) {
+        throw new InitializationException(message);
+    }
+
+    private static void illError(String message) {
+        throw new IllegalArgumentException(message);
+    }
+
+    private void check(int[] indexes) {
+        if (indexes.length != rank) {
+            illError("invalid number of indexes: expected " + rank + ", actual " + indexes.length);
+        }
+        for (int i = 0; i < rank; i++) {
+            if (indexes[i] < 0 || indexes[i] >= sizes[i]) {
+                illError("index = " + indexes[i] + " out of bounds for size = " + sizes[i] + " at depth = " + i);
+            }
+        }
+    }
+
+    private void checkAxis(int axis) {
+        if (axis < 0 || axis >= rank) {
+            illError("axis = " + axis + " out of bounds for rank = " + rank);
+        }
+    }
+
+    private int index(int[] indexes) {
+        int result = offset;
+        for (int i = 0; i < rank; i++) {
+            result += indexes[i] * strides[i];
+        }
+        return result;
+    }
+
+    double[] data() {
+        return data;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    int length() {
+        return length;
+    }
+
+    private int lastIndex() {
+        int result = offset;
+        for (int i = 0; i < rank; i++) {
+            result += (sizes[i] - 1) * strides[i];
+        }
+        return result;
+    }
+
+    public boolean sharesStorage(DenseTensor other) {
+        return data == other.data && offset <= other.lastIndex() && other.offset <= lastIndex();
+    }
+
+    public boolean hasSameLayout(DenseTensor other) {
+        return data == other.data && offset == other.offset &&
+                Arrays.equals(sizes, other.sizes) && Arrays.equals(strides, other.strides);
+    }
+
+    boolean isContiguous() {
+        int expected = 1;
+        for (int i = rank - 1; i >= 0; i--) {
+            if (sizes[i] != 1 && strides[i] != expected) {
+                return false;
+            }
+            expected *= sizes[i];
+        }
+        return true;
+    }
+
+    @Override
+    public void copyTo(double[] dest) {
+        Asserts.checkBuffer(dest, length);
+        if (isContiguous()) {
+            System.arraycopy(data, offset, dest, 0, length);
+            return;
+        }
+        int[] indexes = new int[rank];
+        for (int k = 0; k < length; k++) {
+            dest[k] = data[index(indexes)];
+            increment(indexes, sizes);
+        }
+    }
+
+    public DenseTensor reshape(int... newSizes) {
+        checkSizes(newSizes);
+        if (lengthOf(newSizes) != length) {
+            illError("can not reshape tensor with sizes " + Arrays.toString(sizes) + " to " + Arrays.toString(newSizes));
+        }
+        int[] copySizes = Arrays.copyOf(newSizes, newSizes.length);
+        if (isContiguous()) {
+            return new DenseTensor(data, offset, copySizes, contiguousStrides(copySizes));
+        }
+        double[] copy = new double[length];
+        copyTo(copy);
+        return new DenseTensor(copy, 0, copySizes, contiguousStrides(copySizes));
+    }
+
+    public DenseTensor permute(int... axes) {
+        if (axes.length != rank) {
+            illError("invalid number of axes: expected " + rank + ", actual " + axes.length);
+        }
+        boolean[] used = new boolean[rank];
+        int[] newSizes = new int[rank];
+        int[] newStrides = new int[rank];
+        for (int i = 0; i < rank; i++) {
+            checkAxis(axes[i]);
+            if (used[axes[i]]) {
+                illError("axis = " + axes[i] + " is not unique in permutation " + Arrays.toString(axes));
+            }
+            used[axes[i]] = true;
+            newSizes[i] = sizes[axes[i]];
+            newStrides[i] = strides[axes[i]];
+        }
+        return new DenseTensor(data, offset, newSizes, newStrides);
+    }
+
+    public DenseTensor slice(int axis, int from, int to) {
+        checkAxis(axis);
+        if (from < 0 || to > sizes[axis] || from >= to) {
+            illError("incorrect bounds for size = " + sizes[axis] + " at depth = " + axis + ": from = " + from + ", to = " + to);
+        }
+        int[] newSizes = Arrays.copyOf(sizes, rank);
+        newSizes[axis] = to - from;
+        return new DenseTensor(data, offset + from * strides[axis], newSizes, Arrays.copyOf(strides, rank));
+    }
+
+    public DenseTensor select(int axis, int index) {
+        checkAxis(axis);
+        if (rank == 1) {
+            illError("can not select from tensor with rank = 1");
+        } else if (index < 0 || index >= sizes[axis]) {
+            illError("index = " + index + " out of bounds for size = " + sizes[axis] + " at depth = " + axis);
+        }
+        int[] newSizes = new int[rank - 1];
+        int[] newStrides = new int[rank - 1];
+        for (int i = 0, k = 0; i < rank; i++) {
+            if (i != axis) {
+                newSizes[k] = sizes[i];
+                newStrides[k++] = strides[i];
+            }
+        }
+        return new DenseTensor(data, offset + index * strides[axis], newSizes, newStrides);
+    }
+
+    @Override
+    public void set(double value, int... indexes) {
+        check(indexes);
+        data[index(indexes)] = value;
+    }
+
+    @Override
+    public double get(int... indexes) {
+        check(indexes);
+        return data[index(indexes)];
+    }
+
+    @Override
+    public void setUnsafe(double value, int... indexes) {
+        data[index(indexes)] = value;
+    }
+
+    @Override
+    public double getUnsafe(int... indexes) {
+        return data[index(indexes)];
+    }
+
+    @Override
+    public int[] sizes() {
+        return Arrays.copyOf(sizes, rank);
+    }
+
+    @Override
+    public int rank() {
+        return rank;
+    }
+
+    @Override
+    public void clear() {
+        if (isContiguous()) {
+            Arrays.fill(data, offset, offset + length, 0);
+            return;
+        }
+        int[] indexes = new int[rank];
+        for (int k = 0; k < length; k++) {
+            data[index(indexes)] = 0;
+            increment(indexes, sizes);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        int[] indexes = new int[rank];
+        for (int k = 0; k < length; k++) {
+            int opened = rank;
+            while (opened > 0 && indexes[opened - 1] == 0) {
+                opened--;
+            }
+            sb.append("[".repeat(rank - opened));
+            sb.append(data[index(indexes)]);
+            int closed = rank;
+            while (closed > 0 && indexes[closed - 1] == sizes[closed - 1] - 1) {
+                closed--;
+            }
+            sb.append("]".repeat(rank - closed));
+            if (k != length - 1) {
+                sb.append(", ");
+            }
+            increment(indexes, sizes);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (double x : this) {
+            result = 31 * result + Double.hashCode(x);
+        }
+        return 31 * result + Arrays.hashCode(sizes);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null || obj.getClass() != this.getClass()) {
+            return false;
+        }
+        DenseTensor tensor = (DenseTensor) obj;
+        if (!Arrays.equals(sizes, tensor.sizes)) {
+            return false;
+        }
+        int[] indexes = new int[rank];
+        for (int k = 0; k < length; k++) {
+            if (data[index(indexes)] != tensor.data[tensor.index(indexes)]) {
+                return false;
+            }
+            increment(indexes, sizes);
+        }
+        return true;
+    }
+
+    @Override
+    public Iterator<Double> iterator() {
+        return new CustomIterator();
+    }
+
+    private class CustomIterator implements Iterator<Double> {
+
+        private final int[] currentIndexes;
+        private int position;
+
+        private CustomIterator() {
+            currentIndexes = new int[rank];
+            position = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < length;
+        }
+
+        @Override
+        public Double next() {
+            if (position >= length) {
+                throw new NoSuchElementException();
+            }
+            double result = data[index(currentIndexes)];
+            increment(currentIndexes, sizes);
+            position++;
+            return result;
+        }
+    }
+}
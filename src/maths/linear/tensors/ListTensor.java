@@ -11,6 +11,10 @@ public class ListTensor extends AbstractListTensor {
         super(sizes);
     }
 
+    ListTensor(int[] sizes, double[] values) {
+        super(sizes, values);
+    }
+
     public ListTensor(List<?> list) {
         super(list, true);
     }
@@ -1,5 +1,7 @@
 package maths.linear.tensors;
 
+import maths.linear.Asserts;
+
 public interface Tensor extends Iterable<Double> {
 
     void set(double value, int... indexes);
@@ -11,4 +13,24 @@ public interface Tensor extends Iterable<Double> {
     int rank();
 
     void clear();
+
+    default double getUnsafe(int... indexes) {
+        return get(indexes);
+    }
+
+    default void setUnsafe(double value, int... indexes) {
+        set(value, indexes);
+    }
+
+    default void copyTo(double[] dest) {
+        int length = 1;
+        for (int size : sizes()) {
+            length = Math.multiplyExact(length, size);
+        }
+        Asserts.checkBuffer(dest, length);
+        int k = 0;
+        for (double x : this) {
+            dest[k++] = x;
+        }
+    }
 }
@@ -1,115 +1,156 @@
 package maths.linear.tensors;
 
-import maths.linear.tensors.ListTensor;
+import maths.linear.ExecutionPolicy;
 import maths.linear.tensors.Tensor;
 
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Objects;
 import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.UnaryOperator;
 
 public final class Tensors {
 
+    private static volatile ExecutionPolicy executionPolicy = ExecutionPolicy.sequential();
+
     private Tensors() {}
 
-    private static int[] getProducts(int[] sizes) {
-        int[] products = new int[sizes.length];
-        int cur = 1;
-        for (int i = sizes.length - 1; i >= 0; i--) {
-            products[i] = cur;
-            cur *= sizes[i];
-        }
-        return products;
+    public static ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    public static void setExecutionPolicy(ExecutionPolicy policy) {
+        executionPolicy = Objects.requireNonNull(policy);
     }
 
-    private static void setIndexes(int[] products, int[] dest, int from, int to, int value) {
-        for (int i = 0; i < to - from; i++) {
-            dest[i + from] = value / products[i];
-            value %= products[i];
+    private static double[] flatValues(Tensor tensor) {
+        if (tensor instanceof DenseTensor) {
+            DenseTensor dense = (DenseTensor) tensor;
+            if (dense.isContiguous() && dense.offset() == 0 && dense.data().length == dense.length()) {
+                return dense.data();
+            }
+            double[] result = new double[dense.length()];
+            dense.copyTo(result);
+            return result;
+        }
+        int length = 1;
+        for (int size : tensor.sizes()) {
+            length = Math.multiplyExact(length, size);
         }
+        double[] result = new double[length];
+        tensor.copyTo(result);
+        return result;
     }
 
-    private static void setIndexes(int[] products, int[] dest, int value) {
-        setIndexes(products, dest, 0, dest.length, value);
+    private static Tensor sameKind(DenseTensor result, Tensor a, Tensor b) {
+        if (a instanceof DenseTensor || b instanceof DenseTensor) {
+            return result;
+        }
+        return new ListTensor(result.sizes(), result.data());
     }
 
-    public static Tensor applyElementByElement(Tensor a, Tensor b, BinaryOperator<Double> operator) {
+    private static int[] checkSizes(Tensor a, Tensor b) {
         int[] aSizes = a.sizes(), bSizes = b.sizes();
         if (!Arrays.equals(aSizes, bSizes)) {
             throw new IllegalArgumentException("unequal sizes of arguments: " + Arrays.toString(aSizes) + ", " + Arrays.toString(bSizes));
         }
-        int[] products = getProducts(aSizes);
-        int[] indexes = new int[aSizes.length];
-        Tensor result = new ListTensor(aSizes);
-        for (int i = 0; i < products[0] * aSizes[0]; i++) {
-            setIndexes(products, indexes, i);
-            result.set(operator.apply(a.get(indexes), b.get(indexes)), indexes);
-        }
-        return result;
+        return aSizes;
+    }
+
+    public static Tensor applyElementByElement(Tensor a, Tensor b, BinaryOperator<Double> operator) {
+        Objects.requireNonNull(operator);
+        return applyElementByElementAsDouble(a, b, (x, y) -> operator.apply(x, y));
+    }
+
+    public static Tensor applyElementByElementAsDouble(Tensor a, Tensor b, DoubleBinaryOperator operator) {
+        return applyElementByElementAsDouble(a, b, operator, executionPolicy);
+    }
+
+    public static Tensor applyElementByElementAsDouble(Tensor a, Tensor b, DoubleBinaryOperator operator,
+                                                       ExecutionPolicy policy) {
+        Objects.requireNonNull(operator);
+        DenseTensor result = new DenseTensor(checkSizes(a, b));
+        double[] out = result.data();
+        double[] aValues = flatValues(a);
+        double[] bValues = flatValues(b);
+        policy.forEachRange(out.length, out.length, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                out[k] = operator.applyAsDouble(aValues[k], bValues[k]);
+            }
+        });
+        return sameKind(result, a, b);
     }
 
     public static Tensor add(Tensor a, Tensor b) {
-        return applyElementByElement(a, b, Double::sum);
+        return applyElementByElementAsDouble(a, b, Double::sum);
     }
 
     public static Tensor subtract(Tensor a, Tensor b) {
-        return applyElementByElement(a, b, (x, y) -> x - y);
+        return applyElementByElementAsDouble(a, b, (x, y) -> x - y);
     }
 
     public static Tensor multiply(Tensor a, Tensor b) {
-        return applyElementByElement(a, b, (x, y) -> x * y);
+        return applyElementByElementAsDouble(a, b, (x, y) -> x * y);
     }
 
     public static Tensor divide(Tensor a, Tensor b) {
-        return applyElementByElement(a, b, (x, y) -> x / y);
+        return applyElementByElementAsDouble(a, b, (x, y) -> x / y);
     }
 
     public static Tensor applyForEach(Tensor tensor, UnaryOperator<Double> operator) {
-        int[] sizes = tensor.sizes();
-        int[] products = getProducts(sizes);
-        int[] indexes = new int[sizes.length];
-        Tensor result = new ListTensor(sizes);
-        for (int i = 0; i < products[0] * sizes[0]; i++) {
-            setIndexes(products, indexes, i);
-            result.set(operator.apply(tensor.get(indexes)), indexes);
-        }
-        return result;
+        Objects.requireNonNull(operator);
+        return applyForEachAsDouble(tensor, (x) -> operator.apply(x));
+    }
+
+    public static Tensor applyForEachAsDouble(Tensor tensor, DoubleUnaryOperator operator) {
+        return applyForEachAsDouble(tensor, operator, executionPolicy);
+    }
+
+    public static Tensor applyForEachAsDouble(Tensor tensor, DoubleUnaryOperator operator, ExecutionPolicy policy) {
+        Objects.requireNonNull(operator);
+        DenseTensor result = new DenseTensor(tensor.sizes());
+        double[] out = result.data();
+        double[] values = flatValues(tensor);
+        policy.forEachRange(out.length, out.length, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                out[k] = operator.applyAsDouble(values[k]);
+            }
+        });
+        return sameKind(result, tensor, tensor);
     }
 
     public static Tensor tensorXScalar(Tensor tensor, double scalar) {
-        return applyForEach(tensor, (a) -> a * scalar);
+        return applyForEachAsDouble(tensor, (a) -> a * scalar);
     }
 
     public static Tensor copOf(Tensor tensor) {
-        return applyForEach(tensor, (a) -> a);
+        DenseTensor result = new DenseTensor(tensor.sizes());
+        double[] values = flatValues(tensor);
+        System.arraycopy(values, 0, result.data(), 0, values.length);
+        return sameKind(result, tensor, tensor);
     }
 
     public static Tensor tensorMultiply(Tensor a, Tensor b) {
         int aRank = a.rank();
         int bRank = b.rank();
-        int rank = aRank + bRank;
         int[] aSizes = a.sizes();
         int[] bSizes = b.sizes();
-        int[] aProducts = getProducts(aSizes);
-        int[] bProducts = getProducts(bSizes);
-        int[] aIndexes = new int[aSizes.length];
-        int[] bIndexes = new int[bSizes.length];
-        int[] rSizes = new int[rank];
-        int[] rIndexes = new int[rank];
+        int[] rSizes = new int[aRank + bRank];
         System.arraycopy(aSizes, 0, rSizes, 0, aRank);
         System.arraycopy(bSizes, 0, rSizes, aRank, bRank);
-        Tensor result = new ListTensor(rSizes);
-        for (int i = 0; i < aProducts[0] * aSizes[0]; i++) {
-            setIndexes(aProducts, aIndexes, i);
-            System.arraycopy(aIndexes, 0, rIndexes, 0, aRank);
-            double at = a.get(aIndexes);
-            for (int j = 0; j < bProducts[0] * bSizes[0]; j++) {
-                setIndexes(bProducts, bIndexes, j);
-                System.arraycopy(bIndexes, 0, rIndexes, aRank, bRank);
-                result.set(at * b.get(bIndexes), rIndexes);
+        DenseTensor result = new DenseTensor(rSizes);
+        double[] out = result.data();
+        double[] aValues = flatValues(a);
+        double[] bValues = flatValues(b);
+        int bLength = bValues.length;
+        for (int i = 0, k = 0; i < aValues.length; i++) {
+            double at = aValues[i];
+            for (int j = 0; j < bLength; j++, k++) {
+                out[k] = at * bValues[j];
             }
         }
-        return result;
+        return sameKind(result, a, b);
     }
 
 }
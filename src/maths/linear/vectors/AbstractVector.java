@@ -4,13 +4,14 @@ import maths.linear.Asserts;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 public abstract class AbstractVector implements MutableVector {
 
     @Override
     public void clear() {
         for (int i = 0; i < size(); i++) {
-            set(i, 0);
+            setUnsafe(i, 0);
         }
     }
 
@@ -19,7 +20,7 @@ public abstract class AbstractVector implements MutableVector {
         StringBuilder sb = new StringBuilder();
         sb.append("[");
         for (int i = 0; i < size(); i++) {
-            sb.append(get(i)).append(i == size() - 1 ? "]" : ", ");
+            sb.append(getUnsafe(i)).append(i == size() - 1 ? "]" : ", ");
         }
         return sb.toString();
     }
@@ -30,7 +31,7 @@ public abstract class AbstractVector implements MutableVector {
         size() == ((Vector) object).size()) {
             Asserts.checkVectorAccess((Vector) object);
             for (int i = 0; i < size(); i++) {
-                if (get(i) != ((Vector) object).get(i)) {
+                if (getUnsafe(i) != ((Vector) object).getUnsafe(i)) {
                     return false;
                 }
             }
@@ -58,7 +59,10 @@ public abstract class AbstractVector implements MutableVector {
 
         @Override
         public @NotNull Double next() {
-            return get(position++);
+            if (position >= size()) {
+                throw new NoSuchElementException();
+            }
+            return getUnsafe(position++);
         }
     }
 
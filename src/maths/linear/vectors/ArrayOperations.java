@@ -0,0 +1,102 @@
+package maths.linear.vectors;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+final class ArrayOperations {
+
+    private ArrayOperations() {}
+
+    static double[] arrayOf(Vector vector) {
+        if (vector instanceof ArrayVector) {
+            return ((ArrayVector) vector).array();
+        } else if (vector instanceof SensitiveArrayVector) {
+            return ((SensitiveArrayVector) vector).array();
+        }
+        return null;
+    }
+
+    static void applyForEach(double[] dest, int destOffset, int destStride, int size,
+                             double[] src, int srcOffset, int srcStride, DoubleUnaryOperator operator) {
+        for (int i = 0, k = destOffset, l = srcOffset; i < size; i++, k += destStride, l += srcStride) {
+            dest[k] = operator.applyAsDouble(src[l]);
+        }
+    }
+
+    static void applyForEach(double[] dest, Vector src, DoubleUnaryOperator operator, int from, int to) {
+        if (src instanceof ArrayVector) {
+            applyForEach(dest, from, 1, to - from, ((ArrayVector) src).array(), from, 1, operator);
+        } else if (src instanceof SensitiveArrayVector) {
+            applyForEach(dest, from, 1, to - from, ((SensitiveArrayVector) src).array(), from, 1, operator);
+        } else if (src instanceof DenseVector) {
+            DenseVector dense = (DenseVector) src;
+            applyForEach(dest, from, 1, to - from, dense.data(), dense.offset() + from * dense.stride(),
+                    dense.stride(), operator);
+        } else {
+            for (int i = from; i < to; i++) {
+                dest[i] = operator.applyAsDouble(src.getUnsafe(i));
+            }
+        }
+    }
+
+    static void applyElementByElement(double[] dest, int destOffset, int destStride, int size,
+                                      Vector vector, DoubleBinaryOperator operator) {
+        double[] other;
+        int otherOffset = 0;
+        int otherStride = 1;
+        if (vector instanceof ArrayVector) {
+            other = ((ArrayVector) vector).array();
+        } else if (vector instanceof SensitiveArrayVector) {
+            other = ((SensitiveArrayVector) vector).array();
+        } else if (vector instanceof DenseVector) {
+            DenseVector dense = (DenseVector) vector;
+            other = dense.data();
+            otherOffset = dense.offset();
+            otherStride = dense.stride();
+        } else {
+            other = null;
+        }
+        if (other == dest && (otherOffset != destOffset || otherStride != destStride)) {
+            double[] copy = new double[size];
+            vector.copyTo(copy);
+            other = copy;
+            otherOffset = 0;
+            otherStride = 1;
+        } else if (other == null) {
+            for (int i = 0, k = destOffset; i < size; i++, k += destStride) {
+                dest[k] = operator.applyAsDouble(dest[k], vector.getUnsafe(i));
+            }
+            return;
+        }
+        for (int i = 0, k = destOffset, l = otherOffset; i < size; i++, k += destStride, l += otherStride) {
+            dest[k] = operator.applyAsDouble(dest[k], other[l]);
+        }
+    }
+
+    static void applyElementByElement(double[] dest, Vector a, Vector b, DoubleBinaryOperator operator,
+                                      int from, int to) {
+        double[] other = arrayOf(b);
+        if (other == dest) {
+            for (int i = from; i < to; i++) {
+                dest[i] = operator.applyAsDouble(a.getUnsafe(i), other[i]);
+            }
+            return;
+        }
+        applyForEach(dest, a, (x) -> x, from, to);
+        if (other != null) {
+            for (int i = from; i < to; i++) {
+                dest[i] = operator.applyAsDouble(dest[i], other[i]);
+            }
+        } else if (b instanceof DenseVector) {
+            DenseVector dense = (DenseVector) b;
+            double[] data = dense.data();
+            for (int i = from, l = dense.offset() + from * dense.stride(); i < to; i++, l += dense.stride()) {
+                dest[i] = operator.applyAsDouble(dest[i], data[l]);
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                dest[i] = operator.applyAsDouble(dest[i], b.getUnsafe(i));
+            }
+        }
+    }
+}
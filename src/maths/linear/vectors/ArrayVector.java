@@ -1,6 +1,12 @@
 package maths.linear.vectors;
 
+import maths.linear.Asserts;
+import maths.linear.kernels.BinaryKernel;
+import maths.linear.kernels.Kernels;
+
 import java.util.*;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 
 public class ArrayVector extends AbstractVector {
 
@@ -60,6 +66,10 @@ public class ArrayVector extends AbstractVector {
         }
     }
 
+    public double[] array() {
+        return array;
+    }
+
     @Override
     public void set(int index, double value) {
         check(index);
@@ -72,11 +82,82 @@ public class ArrayVector extends AbstractVector {
         return array[index];
     }
 
+    @Override
+    public double getUnsafe(int index) {
+        return array[index];
+    }
+
+    @Override
+    public void setUnsafe(int index, double value) {
+        array[index] = value;
+    }
+
+    @Override
+    public void copyTo(double[] dest) {
+        Asserts.checkBuffer(dest, size);
+        System.arraycopy(array, 0, dest, 0, size);
+    }
+
     @Override
     public int size() {
         return size;
     }
 
+    @Override
+    public void applyElementByElementAsDouble(Vector vector, DoubleBinaryOperator operator) {
+        if (size != vector.size()) {
+            error("incongruous size of argument: expected " + size + ", actual " + vector.size());
+        }
+        ArrayOperations.applyElementByElement(array, 0, 1, size, vector, operator);
+    }
+
+    @Override
+    public void applyForEachAsDouble(DoubleUnaryOperator operator) {
+        ArrayOperations.applyForEach(array, 0, 1, size, array, 0, 1, operator);
+    }
+
+    private boolean applyKernel(Vector vector, BinaryKernel kernel) {
+        double[] other = ArrayOperations.arrayOf(vector);
+        if (other == null || other.length != size) {
+            return false;
+        }
+        kernel.apply(array, 0, other, 0, array, 0, size);
+        return true;
+    }
+
+    @Override
+    public void add(Vector vector) {
+        if (!applyKernel(vector, Kernels::add)) {
+            super.add(vector);
+        }
+    }
+
+    @Override
+    public void subtract(Vector vector) {
+        if (!applyKernel(vector, Kernels::subtract)) {
+            super.subtract(vector);
+        }
+    }
+
+    @Override
+    public void multiply(Vector vector) {
+        if (!applyKernel(vector, Kernels::multiply)) {
+            super.multiply(vector);
+        }
+    }
+
+    @Override
+    public void divide(Vector vector) {
+        if (!applyKernel(vector, Kernels::divide)) {
+            super.divide(vector);
+        }
+    }
+
+    @Override
+    public void vectorXScalar(double scalar) {
+        Kernels.scale(scalar, array, 0, array, 0, size);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(Arrays.hashCode(array), size);
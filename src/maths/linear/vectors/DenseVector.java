@@ -0,0 +1,163 @@
+package maths.linear.vectors;
+
+import maths.linear.Asserts;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+public class DenseVector extends AbstractVector {
+
+    private final double[] data;
+    private final int offset;
+    private final int stride;
+    private final int size;
+
+    public DenseVector(int size) {
+        initError(size <= 0, "with non positive size = " + size);
+        this.data = new double[size];
+        this.offset = 0;
+        this.stride = 1;
+        this.size = size;
+    }
+
+    public DenseVector(double[] data, int offset, int stride, int size) {
+        initError(size <= 0, "with non positive size = " + size);
+        initError(offset < 0 || offset >= data.length, "with offset = " + offset + " for data.length = " + data.length);
+        long last = offset + (long) stride * (size - 1);
+        initError(last < 0 || last >= data.length, "with last index = " + last + " for data.length = " + data.length);
+        this.data = data;
+        this.offset = offset;
+        this.stride = stride;
+        this.size = size;
+    }
+
+    private static void error(String message) {
+        throw new IllegalArgumentException(message);
+    }
+
+    private static void initError(boolean condition, String message) {
+        if (condition) {
+            error("can not create vector " + message);
+        }
+    }
+
+    private void check(int index) {
+        if (index < 0 || index >= size) {
+            error("index = " + index + " out of bounds for size = " + size);
+        }
+    }
+
+    double[] data() {
+        return data;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    int stride() {
+        return stride;
+    }
+
+    public boolean sharesStorage(DenseVector other) {
+        if (data != other.data) {
+            return false;
+        }
+        int last = offset + stride * (size - 1);
+        int otherLast = other.offset + other.stride * (other.size - 1);
+        return Math.min(offset, last) <= Math.max(other.offset, otherLast) &&
+                Math.min(other.offset, otherLast) <= Math.max(offset, last);
+    }
+
+    public boolean hasSameLayout(DenseVector other) {
+        return data == other.data && offset == other.offset && stride == other.stride && size == other.size;
+    }
+
+    public DenseVector subVector(int start, int end) {
+        if (start < 0 || end > size || start >= end) {
+            error("incorrect start and end bounds for vector.size = " + size + ": start = " + start + ", end = " + end);
+        }
+        return new DenseVector(data, offset + start * stride, stride, end - start);
+    }
+
+    @Override
+    public void set(int index, double value) {
+        check(index);
+        data[offset + index * stride] = value;
+    }
+
+    @Override
+    public double get(int index) {
+        check(index);
+        return data[offset + index * stride];
+    }
+
+    @Override
+    public double getUnsafe(int index) {
+        return data[offset + index * stride];
+    }
+
+    @Override
+    public void setUnsafe(int index, double value) {
+        data[offset + index * stride] = value;
+    }
+
+    @Override
+    public void copyTo(double[] dest) {
+        Asserts.checkBuffer(dest, size);
+        if (stride == 1) {
+            System.arraycopy(data, offset, dest, 0, size);
+            return;
+        }
+        for (int i = 0, k = offset; i < size; i++, k += stride) {
+            dest[i] = data[k];
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void applyElementByElement(Vector vector, BinaryOperator<Double> operator) {
+        Objects.requireNonNull(operator);
+        applyElementByElementAsDouble(vector, operator::apply);
+    }
+
+    @Override
+    public void applyElementByElementAsDouble(Vector vector, DoubleBinaryOperator operator) {
+        if (size != vector.size()) {
+            error("incongruous size of argument: expected " + size + ", actual " + vector.size());
+        }
+        ArrayOperations.applyElementByElement(data, offset, stride, size, vector, operator);
+    }
+
+    @Override
+    public void applyForEachAsDouble(DoubleUnaryOperator operator) {
+        ArrayOperations.applyForEach(data, offset, stride, size, data, offset, stride, operator);
+    }
+
+    @Override
+    public void clear() {
+        if (stride == 1) {
+            Arrays.fill(data, offset, offset + size, 0);
+            return;
+        }
+        for (int i = 0, k = offset; i < size; i++, k += stride) {
+            data[k] = 0;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0, k = offset; i < size; i++, k += stride) {
+            result = 31 * result + Double.hashCode(data[k]);
+        }
+        return 31 * result + size;
+    }
+}
@@ -75,6 +75,16 @@ public class ListVector extends AbstractVector {
         return list.get(index);
     }
 
+    @Override
+    public double getUnsafe(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public void setUnsafe(int index, double value) {
+        list.set(index, value);
+    }
+
     @Override
     public int size() {
         return size;
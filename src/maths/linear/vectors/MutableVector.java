@@ -1,6 +1,8 @@
 package maths.linear.vectors;
 
 import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.UnaryOperator;
 
 public interface MutableVector extends Vector {
@@ -10,34 +12,49 @@ public interface MutableVector extends Vector {
             throw new IllegalArgumentException("incongruous size of argument: expected " + size() + ", actual " + vector.size());
         }
         for (int i = 0; i < size(); i++) {
-            set(i, operator.apply(get(i), vector.get(i)));
+            setUnsafe(i, operator.apply(getUnsafe(i), vector.getUnsafe(i)));
+        }
+    }
+
+    default void applyElementByElementAsDouble(Vector vector, DoubleBinaryOperator operator) {
+        if (size() != vector.size()) {
+            throw new IllegalArgumentException("incongruous size of argument: expected " + size() + ", actual " + vector.size());
+        }
+        for (int i = 0; i < size(); i++) {
+            setUnsafe(i, operator.applyAsDouble(getUnsafe(i), vector.getUnsafe(i)));
         }
     }
 
     default void add(Vector vector) {
-        applyElementByElement(vector, Double::sum);
+        applyElementByElementAsDouble(vector, Double::sum);
     }
 
     default void subtract(Vector vector) {
-        applyElementByElement(vector, (x, y) -> x - y);
+        applyElementByElementAsDouble(vector, (x, y) -> x - y);
     }
 
     default void multiply(Vector vector) {
-        applyElementByElement(vector, (x, y) -> x * y);
+        applyElementByElementAsDouble(vector, (x, y) -> x * y);
     }
 
     default void divide(Vector vector) {
-        applyElementByElement(vector, (x, y) -> x / y);
+        applyElementByElementAsDouble(vector, (x, y) -> x / y);
     }
 
     default void applyForEach(UnaryOperator<Double> operator) {
         for (int i = 0; i < size(); i++) {
-            set(i, operator.apply(get(i)));
+            setUnsafe(i, operator.apply(getUnsafe(i)));
+        }
+    }
+
+    default void applyForEachAsDouble(DoubleUnaryOperator operator) {
+        for (int i = 0; i < size(); i++) {
+            setUnsafe(i, operator.applyAsDouble(getUnsafe(i)));
         }
     }
 
     default void vectorXScalar(double scalar) {
-        applyForEach((a) -> a * scalar);
+        applyForEachAsDouble((a) -> a * scalar);
     }
 
 }
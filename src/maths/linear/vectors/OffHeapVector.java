@@ -0,0 +1,163 @@
+package maths.linear.vectors;
+
+import maths.linear.Asserts;
+import maths.linear.OffHeapArena;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+public class OffHeapVector extends AbstractVector {
+
+    private static final DoubleBuffer RELEASED = DoubleBuffer.allocate(0);
+
+    private final OffHeapArena arena;
+    private DoubleBuffer data;
+    private final int size;
+
+    public OffHeapVector(OffHeapArena arena, int size) {
+        Objects.requireNonNull(arena);
+        if (size <= 0) {
+            error("can not create vector with non positive size = " + size);
+        }
+        this.arena = arena;
+        this.data = arena.allocate(size);
+        this.size = size;
+        arena.onClose(() -> data = RELEASED);
+    }
+
+    public OffHeapVector(OffHeapArena arena, Vector vector) {
+        this(arena, vector.size());
+        for (int i = 0; i < size; i++) {
+            data.put(i, vector.getUnsafe(i));
+        }
+    }
+
+    private OffHeapVector(OffHeapArena arena, DoubleBuffer data) {
+        if (data.capacity() == 0) {
+            error("can not create vector from empty buffer");
+        }
+        this.arena = arena;
+        this.data = data;
+        this.size = data.capacity();
+    }
+
+    public static OffHeapVector wrap(ByteBuffer buffer) {
+        return new OffHeapVector(OffHeapArena.global(), OffHeapArena.wrap(buffer));
+    }
+
+    private static void error(String message) {
+        throw new IllegalArgumentException(message);
+    }
+
+    private void check(int index) {
+        arena.checkAccess();
+        if (index < 0 || index >= size) {
+            error("index = " + index + " out of bounds for size = " + size);
+        }
+    }
+
+    public OffHeapArena arena() {
+        return arena;
+    }
+
+    public DoubleBuffer buffer() {
+        arena.checkAccess();
+        return data.duplicate();
+    }
+
+    @Override
+    public void set(int index, double value) {
+        check(index);
+        data.put(index, value);
+    }
+
+    @Override
+    public double get(int index) {
+        check(index);
+        return data.get(index);
+    }
+
+    @Override
+    public double getUnsafe(int index) {
+        try {
+            return data.get(index);
+        } catch (IndexOutOfBoundsException e) {
+            arena.checkAccess();
+            throw e;
+        }
+    }
+
+    @Override
+    public void setUnsafe(int index, double value) {
+        try {
+            data.put(index, value);
+        } catch (IndexOutOfBoundsException e) {
+            arena.checkAccess();
+            throw e;
+        }
+    }
+
+    @Override
+    public void copyTo(double[] dest) {
+        arena.checkAccess();
+        Asserts.checkBuffer(dest, size);
+        data.get(0, dest, 0, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        arena.checkAccess();
+        for (int i = 0; i < size; i++) {
+            data.put(i, 0);
+        }
+    }
+
+    @Override
+    public void applyElementByElementAsDouble(Vector vector, DoubleBinaryOperator operator) {
+        arena.checkAccess();
+        if (size != vector.size()) {
+            error("incongruous size of argument: expected " + size + ", actual " + vector.size());
+        }
+        for (int i = 0; i < size; i++) {
+            data.put(i, operator.applyAsDouble(data.get(i), vector.getUnsafe(i)));
+        }
+    }
+
+    @Override
+    public void applyForEachAsDouble(DoubleUnaryOperator operator) {
+        arena.checkAccess();
+        for (int i = 0; i < size; i++) {
+            data.put(i, operator.applyAsDouble(data.get(i)));
+        }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        arena.checkAccess();
+        return super.equals(object);
+    }
+
+    @Override
+    public String toString() {
+        arena.checkAccess();
+        return super.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        arena.checkAccess();
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Double.hashCode(data.get(i));
+        }
+        return 31 * result + size;
+    }
+}
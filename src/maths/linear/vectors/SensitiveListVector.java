@@ -39,6 +39,16 @@ public class SensitiveListVector extends AbstractVector {
         return list.get(index);
     }
 
+    @Override
+    public double getUnsafe(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public void setUnsafe(int index, double value) {
+        list.set(index, value);
+    }
+
     @Override
     public int size() {
         return size;
@@ -1,5 +1,7 @@
 package maths.linear.vectors;
 
+import maths.linear.Asserts;
+
 public interface Vector extends Iterable<Double> {
 
     void set(int index, double value);
@@ -7,4 +9,19 @@ public interface Vector extends Iterable<Double> {
     int size();
     void clear();
 
+    default double getUnsafe(int index) {
+        return get(index);
+    }
+
+    default void setUnsafe(int index, double value) {
+        set(index, value);
+    }
+
+    default void copyTo(double[] dest) {
+        Asserts.checkBuffer(dest, size());
+        for (int i = 0; i < size(); i++) {
+            dest[i] = get(i);
+        }
+    }
+
 }
@@ -1,17 +1,32 @@
 package maths.linear.vectors;
 
+import maths.linear.ExecutionPolicy;
+import maths.linear.kernels.BinaryKernel;
+import maths.linear.kernels.Kernels;
 import maths.linear.matrices.ArrayMatrix;
 import maths.linear.matrices.Matrices;
 import maths.linear.matrices.Matrix;
 
 import java.util.*;
 import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.UnaryOperator;
 
 public final class Vectors {
 
+    private static volatile ExecutionPolicy executionPolicy = ExecutionPolicy.sequential();
+
     private Vectors() {}
 
+    public static ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    public static void setExecutionPolicy(ExecutionPolicy policy) {
+        executionPolicy = Objects.requireNonNull(policy);
+    }
+
     public static void swap(Vector vector, int i, int j) {
         double temp = vector.get(i);
         vector.set(i, vector.get(j));
@@ -20,9 +35,7 @@ public final class Vectors {
 
     public static double[] asArray(Vector vector) {
         double[] result = new double[vector.size()];
-        for (int i = 0; i < vector.size(); i++) {
-            result[i] = vector.get(i);
-        }
+        vector.copyTo(result);
         return result;
     }
 
@@ -36,7 +49,7 @@ public final class Vectors {
 
     public static void fill(Vector vector, double x) {
         for (int i = 0; i < vector.size(); i++) {
-            vector.set(i, x);
+            vector.setUnsafe(i, x);
         }
     }
 
@@ -44,7 +57,7 @@ public final class Vectors {
         double[] temp = asArray(vector);
         int size = vector.size();
         for (int i = 0; i < size; i++) {
-            vector.set((i + k >= 0 ? (i + k) % size : (size - (i + k) % size) % size), temp[i]);
+            vector.setUnsafe((i + k >= 0 ? (i + k) % size : (size - (i + k) % size) % size), temp[i]);
         }
     }
 
@@ -55,78 +68,282 @@ public final class Vectors {
         }
     }
 
+    private static void checkDestination(Vector dest, int size) {
+        if (dest.size() != size) {
+            throw new IllegalArgumentException("incongruous size of destination: expected " + size +
+                    ", actual " + dest.size());
+        }
+    }
+
     public static Vector concat(Vector a, Vector b) {
-        Vector result = new ArrayVector(a.size() + b.size());
+        ArrayVector result = new ArrayVector(a.size() + b.size());
+        concat(a, b, result);
+        return result;
+    }
+
+    public static void concat(Vector a, Vector b, MutableVector dest) {
+        checkDestination(dest, a.size() + b.size());
         for (int i = 0; i < a.size(); i++) {
-            result.set(i, a.get(i));
+            dest.setUnsafe(i, a.getUnsafe(i));
         }
         for (int i = 0; i < b.size(); i++) {
-            result.set(i + a.size(), b.get(i));
+            dest.setUnsafe(i + a.size(), b.getUnsafe(i));
         }
-        return result;
     }
 
-    public static Vector subVector(Vector vector, int start, int end) {
+    private static void checkBounds(Vector vector, int start, int end) {
         if (start < 0 || start > vector.size() || end < 0 || end > vector.size() || start >= end) {
             throw new IllegalArgumentException("incorrect start and end bounds for vector.size = " + vector.size() + ": start = " + start + ", end = " + end);
         }
-        Vector result = new ArrayVector(end - start);
+    }
+
+    public static Vector subVector(Vector vector, int start, int end) {
+        checkBounds(vector, start, end);
+        ArrayVector result = new ArrayVector(end - start);
+        subVector(vector, start, end, result);
+        return result;
+    }
+
+    public static void subVector(Vector vector, int start, int end, MutableVector dest) {
+        checkBounds(vector, start, end);
+        checkDestination(dest, end - start);
+        double[] x = ArrayOperations.arrayOf(vector);
+        double[] z = ArrayOperations.arrayOf(dest);
+        if (x != null && z != null) {
+            System.arraycopy(x, start, z, 0, end - start);
+            return;
+        }
         for (int i = start; i < end; i++) {
-            result.set(i - start, vector.get(i));
+            dest.setUnsafe(i - start, vector.getUnsafe(i));
         }
-        return result;
     }
 
     public static Vector applyElementByElement(Vector a, Vector b, BinaryOperator<Double> operator) {
+        Objects.requireNonNull(operator);
+        return applyElementByElementAsDouble(a, b, (x, y) -> operator.apply(x, y));
+    }
+
+    public static Vector applyElementByElementAsDouble(Vector a, Vector b, DoubleBinaryOperator operator) {
+        return applyElementByElementAsDouble(a, b, operator, executionPolicy);
+    }
+
+    private static void checkSizes(Vector a, Vector b) {
         if (a.size() != b.size()) {
             throw new IllegalArgumentException("unequal sizes of arguments: " + a.size() + ", " + b.size());
         }
-        Vector result = new ArrayVector(a.size());
+    }
+
+    public static Vector applyElementByElementAsDouble(Vector a, Vector b, DoubleBinaryOperator operator,
+                                                       ExecutionPolicy policy) {
+        checkSizes(a, b);
+        ArrayVector result = new ArrayVector(a.size());
+        applyElementByElementAsDouble(a, b, operator, result, policy);
+        return result;
+    }
+
+    public static void applyElementByElementAsDouble(Vector a, Vector b, DoubleBinaryOperator operator,
+                                                     MutableVector dest) {
+        applyElementByElementAsDouble(a, b, operator, dest, executionPolicy);
+    }
+
+    public static void applyElementByElementAsDouble(Vector a, Vector b, DoubleBinaryOperator operator,
+                                                     MutableVector dest, ExecutionPolicy policy) {
+        checkSizes(a, b);
+        Objects.requireNonNull(operator);
+        checkDestination(dest, a.size());
+        double[] z = ArrayOperations.arrayOf(dest);
+        if (z != null) {
+            policy.forEachRange(a.size(), a.size(),
+                    (from, to) -> ArrayOperations.applyElementByElement(z, a, b, operator, from, to));
+            return;
+        }
         for (int i = 0; i < a.size(); i++) {
-            result.set(i, operator.apply(a.get(i), b.get(i)));
+            dest.setUnsafe(i, operator.applyAsDouble(a.getUnsafe(i), b.getUnsafe(i)));
         }
+    }
+
+    private static Vector applyKernel(Vector a, Vector b, BinaryKernel kernel, DoubleBinaryOperator operator) {
+        checkSizes(a, b);
+        ArrayVector result = new ArrayVector(a.size());
+        applyKernel(a, b, kernel, operator, result);
         return result;
     }
 
+    private static void applyKernel(Vector a, Vector b, BinaryKernel kernel, DoubleBinaryOperator operator,
+                                    MutableVector dest) {
+        double[] x = ArrayOperations.arrayOf(a);
+        double[] y = ArrayOperations.arrayOf(b);
+        double[] z = ArrayOperations.arrayOf(dest);
+        if (x == null || y == null || z == null) {
+            applyElementByElementAsDouble(a, b, operator, dest);
+            return;
+        }
+        checkSizes(a, b);
+        checkDestination(dest, x.length);
+        executionPolicy.forEachRange(x.length, x.length,
+                (from, to) -> kernel.apply(x, from, y, from, z, from, to - from));
+    }
+
     public static Vector add(Vector a, Vector b) {
-        return applyElementByElement(a, b, Double::sum);
+        return applyKernel(a, b, Kernels::add, Double::sum);
     }
 
     public static Vector subtract(Vector a, Vector b) {
-        return applyElementByElement(a, b, (x, y) -> x - y);
+        return applyKernel(a, b, Kernels::subtract, (x, y) -> x - y);
     }
 
     public static Vector multiply(Vector a, Vector b) {
-        return applyElementByElement(a, b, (x, y) -> x * y);
+        return applyKernel(a, b, Kernels::multiply, (x, y) -> x * y);
     }
 
     public static Vector divide(Vector a, Vector b) {
-        return applyElementByElement(a, b, (x, y) -> x / y);
+        return applyKernel(a, b, Kernels::divide, (x, y) -> x / y);
+    }
+
+    public static void add(Vector a, Vector b, MutableVector dest) {
+        applyKernel(a, b, Kernels::add, Double::sum, dest);
+    }
+
+    public static void subtract(Vector a, Vector b, MutableVector dest) {
+        applyKernel(a, b, Kernels::subtract, (x, y) -> x - y, dest);
+    }
+
+    public static void multiply(Vector a, Vector b, MutableVector dest) {
+        applyKernel(a, b, Kernels::multiply, (x, y) -> x * y, dest);
+    }
+
+    public static void divide(Vector a, Vector b, MutableVector dest) {
+        applyKernel(a, b, Kernels::divide, (x, y) -> x / y, dest);
     }
 
     public static Vector applyForEach(Vector vector, UnaryOperator<Double> operator) {
-        Vector result = new ArrayVector(vector.size());
+        Objects.requireNonNull(operator);
+        return applyForEachAsDouble(vector, (x) -> operator.apply(x));
+    }
+
+    public static void applyForEach(Vector vector, UnaryOperator<Double> operator, MutableVector dest) {
+        Objects.requireNonNull(operator);
+        applyForEachAsDouble(vector, (x) -> operator.apply(x), dest);
+    }
+
+    public static Vector applyForEachAsDouble(Vector vector, DoubleUnaryOperator operator) {
+        return applyForEachAsDouble(vector, operator, executionPolicy);
+    }
+
+    public static Vector applyForEachAsDouble(Vector vector, DoubleUnaryOperator operator, ExecutionPolicy policy) {
+        ArrayVector result = new ArrayVector(vector.size());
+        applyForEachAsDouble(vector, operator, result, policy);
+        return result;
+    }
+
+    public static void applyForEachAsDouble(Vector vector, DoubleUnaryOperator operator, MutableVector dest) {
+        applyForEachAsDouble(vector, operator, dest, executionPolicy);
+    }
+
+    public static void applyForEachAsDouble(Vector vector, DoubleUnaryOperator operator, MutableVector dest,
+                                            ExecutionPolicy policy) {
+        Objects.requireNonNull(operator);
+        checkDestination(dest, vector.size());
+        double[] z = ArrayOperations.arrayOf(dest);
+        if (z != null) {
+            policy.forEachRange(vector.size(), vector.size(),
+                    (from, to) -> ArrayOperations.applyForEach(z, vector, operator, from, to));
+            return;
+        }
         for (int i = 0; i < vector.size(); i++) {
-            result.set(i, operator.apply(vector.get(i)));
+            dest.setUnsafe(i, operator.applyAsDouble(vector.getUnsafe(i)));
         }
-        return result;
     }
 
     public static Vector vectorXScalar(Vector vector, double scalar) {
-        return applyForEach(vector, (a) -> a * scalar);
+        ArrayVector result = new ArrayVector(vector.size());
+        vectorXScalar(vector, scalar, result);
+        return result;
+    }
+
+    public static void vectorXScalar(Vector vector, double scalar, MutableVector dest) {
+        double[] x = ArrayOperations.arrayOf(vector);
+        double[] z = ArrayOperations.arrayOf(dest);
+        if (x == null || z == null) {
+            applyForEachAsDouble(vector, (a) -> a * scalar, dest);
+            return;
+        }
+        checkDestination(dest, x.length);
+        executionPolicy.forEachRange(x.length, x.length,
+                (from, to) -> Kernels.scale(scalar, x, from, z, from, to - from));
     }
 
     public static Vector copyOf(Vector vector) {
-        return applyForEach(vector, (a) -> a);
+        return applyForEachAsDouble(vector, (a) -> a);
     }
 
     public static double scalarMultiply(Vector a, Vector b) {
-        if (a.size() != b.size()) {
-            throw new IllegalArgumentException("unequal sizes of arguments: " + a.size() + ", " + b.size());
+        checkSizes(a, b);
+        double[] x = ArrayOperations.arrayOf(a);
+        double[] y = ArrayOperations.arrayOf(b);
+        if (x != null && y != null) {
+            return Kernels.dot(x, 0, y, 0, x.length);
         }
         double result = 0;
         for (int i = 0; i < a.size(); i++) {
-            result += a.get(i) * b.get(i);
+            result += a.getUnsafe(i) * b.getUnsafe(i);
+        }
+        return result;
+    }
+
+    public static void axpy(double alpha, Vector x, Vector y) {
+        checkSizes(x, y);
+        double[] u = ArrayOperations.arrayOf(x);
+        double[] v = ArrayOperations.arrayOf(y);
+        if (u != null && v != null) {
+            Kernels.axpy(alpha, u, 0, v, 0, u.length);
+            return;
+        }
+        for (int i = 0; i < y.size(); i++) {
+            y.setUnsafe(i, y.getUnsafe(i) + alpha * x.getUnsafe(i));
+        }
+    }
+
+    public static double sum(Vector vector) {
+        double[] x = ArrayOperations.arrayOf(vector);
+        if (x != null) {
+            return Kernels.sum(x, 0, x.length);
+        }
+        double result = 0;
+        for (double a : vector) {
+            result += a;
+        }
+        return result;
+    }
+
+    public static double norm(Vector vector) {
+        double[] x = ArrayOperations.arrayOf(vector);
+        if (x != null) {
+            return Kernels.norm(x, 0, x.length);
+        }
+        return Math.sqrt(scalarMultiply(vector, vector));
+    }
+
+    public static double min(Vector vector) {
+        double[] x = ArrayOperations.arrayOf(vector);
+        if (x != null) {
+            return Kernels.min(x, 0, x.length);
+        }
+        double result = Double.POSITIVE_INFINITY;
+        for (double a : vector) {
+            result = Math.min(result, a);
+        }
+        return result;
+    }
+
+    public static double max(Vector vector) {
+        double[] x = ArrayOperations.arrayOf(vector);
+        if (x != null) {
+            return Kernels.max(x, 0, x.length);
+        }
+        double result = Double.NEGATIVE_INFINITY;
+        for (double a : vector) {
+            result = Math.max(result, a);
         }
         return result;
     }
@@ -140,7 +357,7 @@ public final class Vectors {
         double result = 0;
         for (int i = 0; i < a.size(); i++) {
             for (int j = 0; j < b.size(); j++) {
-                result += a.get(i) * b.get(j) * metric.get(i, j);
+                result += a.getUnsafe(i) * b.getUnsafe(j) * metric.getUnsafe(i, j);
             }
         }
         return result;
@@ -157,15 +374,15 @@ public final class Vectors {
         Matrix mat = new ArrayMatrix(size - 1, size - 1);
         for (int i = 0; i < size - 1; i++) {
             for (int j = 1; j < size; j++) {
-                mat.set(i, j - 1, vectors[i].get(j));
+                mat.setUnsafe(i, j - 1, vectors[i].getUnsafe(j));
             }
         }
         Vector result = new ArrayVector(size);
         for (int i = 0; i < size; i++) {
-            result.set(i, Matrices.determinant(mat) * (((i + 1) % 2) * 2 - 1));
+            result.setUnsafe(i, Matrices.determinant(mat) * (((i + 1) % 2) * 2 - 1));
             if (i != size - 1) {
                 for (int j = 0; j < size - 1; j++) {
-                    mat.set(j, i, vectors[j].get(i));
+                    mat.setUnsafe(j, i, vectors[j].getUnsafe(i));
                 }
             }
         }
@@ -173,12 +390,20 @@ public final class Vectors {
     }
 
     public static Matrix vectorXVector(Vector a, Vector b) {
+        return vectorXVector(a, b, executionPolicy);
+    }
+
+    public static Matrix vectorXVector(Vector a, Vector b, ExecutionPolicy policy) {
         Matrix result = new ArrayMatrix(a.size(), b.size());
-        for (int i = 0; i < a.size(); i++) {
-            for (int j = 0; j < b.size(); j++) {
-                result.set(i, j, a.get(i) * b.get(j));
+        double[] x = asArray(a);
+        double[] y = asArray(b);
+        policy.forEachRange(x.length, (long) x.length * y.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                for (int j = 0; j < y.length; j++) {
+                    result.setUnsafe(i, j, x[i] * y[j]);
+                }
             }
-        }
+        });
         return result;
     }
 
@@ -191,18 +416,19 @@ public final class Vectors {
                         " but found size = " + vectors[i].size() + " for vector number " + i);
             }
         }
-        for (int start = 0; start <= size - count; start++) {
-            Matrix mat = new ArrayMatrix(count, count);
-            for (int i = 0; i < count; i++) {
-                for (int j = 0; j < count; j++) {
-                    mat.set(i, j, vectors[j].get(i + start));
-                }
-            }
-            if (Matrices.determinant(mat) != 0) {
-                return true;
+        if (count > size) {
+            return false;
+        }
+        Matrix columns = new ArrayMatrix(size, count);
+        for (int j = 0; j < count; j++) {
+            for (int i = 0; i < size; i++) {
+                columns.setUnsafe(i, j, vectors[j].getUnsafe(i));
             }
         }
-        return false;
+        if (Matrices.isIntegral(columns)) {
+            return Matrices.exactRank(columns) == count;
+        }
+        return Matrices.rank(columns) == count;
     }
 
 }